@@ -22,8 +22,10 @@ public interface Flags {
 	public static final String FLAG_CRITICAL = "critical";
 	public static final String FLAG_INIT = "init";
 	public static final String FLAG_STRUCT = "struct";
+	public static final String FLAG_DIRECT = "direct";
 	public static final String FLAG_UNICODE = "unicode";
 	public static final String FLAG_SENTINEL = "sentinel";
+	public static final String FLAG_VARARGS = "varargs";
 	public static final String FLAG_CPP = "cpp";
 	public static final String FLAG_M = "m";
 	public static final String FLAG_NEW = "new";
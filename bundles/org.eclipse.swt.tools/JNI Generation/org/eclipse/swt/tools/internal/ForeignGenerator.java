@@ -0,0 +1,481 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tools.internal;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Generates the natives as java.lang.foreign downcalls instead of C glue.
+ * <p>
+ * The generated class has a nested class for every class declaring natives,
+ * with a static method of the same signature for every native that can be
+ * called directly. The handle of a function is linked the first time the
+ * function is called, from the libraries loaded by the class loader of the
+ * generated class and from the default libraries.
+ * </p><p>
+ * Natives with a <code>critical</code> array parameter cannot call back into
+ * Java, so they are linked as critical functions which get the Java arrays
+ * without a copy. The arrays of the other natives are copied to and from
+ * native memory, honoring the <code>no_in</code> and <code>no_out</code>
+ * flags. Natives taking structs, objects or strings, and natives that are
+ * not plain C functions (macros, C++ members, callbacks, sentinels, ...)
+ * are skipped and remain available through JNI only.
+ * </p><p>
+ * The layouts of the descriptors come from the C types of the
+ * <code>cast</code> of the parameters, so a Java <code>int</code> passed to
+ * a <code>gdouble</code> is converted the way the C glue converts it. A
+ * <code>boolean</code> is a 1 byte <code>BOOL</code> on cocoa and an int
+ * elsewhere. Natives whose array or pointer parameters do not match their
+ * C type are skipped and listed at the end of the generated class.
+ * </p><p>
+ * The natives declare no C return type, so the layout of a return value
+ * comes from the <code>return_type</code> of the method, which must not be
+ * narrower than the Java type. Without it, the Java type is the layout of
+ * <code>dynamic</code> and <code>cast</code> natives, which the C glue calls
+ * with the Java return type, and of natives returning an <code>int</code>
+ * or a narrower type, which truncate the C value like the C glue. The
+ * other natives, such as a <code>long</code> that could be a C int, are
+ * listed as not matching.
+ * </p><p>
+ * Natives of variadic C functions must have the <code>varargs</code> flag,
+ * and their first variadic parameter too, if any. They are linked with the
+ * index of the first variadic argument, and skipped if a variadic argument
+ * would be subject to the default argument promotions of C.
+ * </p><p>
+ * The generated source needs Java 22 or later.
+ * </p>
+ */
+public class ForeignGenerator extends JNIGenerator {
+	List<String> mismatched = new ArrayList<>();
+
+	/* The layouts of the C scalar types, the other types are assumed to match the Java type */
+	static final Map<String, String> C_LAYOUTS = new HashMap<>();
+	static {
+		for (String type : new String[] {"bool", "_Bool", "Boolean", "char", "signed char", "unsigned char", "gchar", "guchar", "gint8", "guint8", "int8_t", "uint8_t", "SInt8", "UInt8", "BYTE", "jbyte", "jboolean"}) {
+			C_LAYOUTS.put(type, "JAVA_BYTE");
+		}
+		for (String type : new String[] {"short", "unsigned short", "gshort", "gushort", "gint16", "guint16", "int16_t", "uint16_t", "SInt16", "UInt16", "SHORT", "USHORT", "WORD", "jshort", "jchar", "unichar", "gunichar2", "WCHAR"}) {
+			C_LAYOUTS.put(type, "JAVA_SHORT");
+		}
+		for (String type : new String[] {"int", "unsigned int", "unsigned", "gint", "guint", "gint32", "guint32", "gboolean", "gunichar", "int32_t", "uint32_t", "SInt32", "UInt32", "INT", "UINT", "LONG", "ULONG", "DWORD", "jint"}) {
+			C_LAYOUTS.put(type, "JAVA_INT");
+		}
+		for (String type : new String[] {"gint64", "guint64", "gsize", "gssize", "goffset", "gintptr", "guintptr", "GType", "int64_t", "uint64_t", "intptr_t", "uintptr_t", "size_t", "ssize_t", "NSInteger", "NSUInteger", "INT_PTR", "UINT_PTR", "LONG_PTR", "ULONG_PTR", "SIZE_T", "WPARAM", "LPARAM", "LRESULT", "jlong"}) {
+			C_LAYOUTS.put(type, "JAVA_LONG");
+		}
+		for (String type : new String[] {"float", "gfloat", "REAL", "jfloat"}) {
+			C_LAYOUTS.put(type, "JAVA_FLOAT");
+		}
+		for (String type : new String[] {"double", "gdouble", "CGFloat", "jdouble"}) {
+			C_LAYOUTS.put(type, "JAVA_DOUBLE");
+		}
+	}
+
+@Override
+public void generateCopyright() {
+	outputln(fixDelimiter(getMetaData().getCopyright()));
+}
+
+@Override
+public void generateIncludes() {
+	String packageName = getMainClass().getName();
+	packageName = packageName.substring(0, packageName.lastIndexOf('.'));
+	output("package ");
+	output(packageName);
+	outputln(";");
+	outputln();
+	outputln("import static java.lang.foreign.ValueLayout.*;");
+	outputln();
+	outputln("import java.lang.foreign.*;");
+	outputln("import java.lang.invoke.*;");
+	outputln();
+	output("public class ");
+	output(getClassName());
+	outputln(" {");
+	outputln("\tstatic final Linker LINKER = Linker.nativeLinker();");
+	outputln("\tstatic final SymbolLookup LOOKUP = SymbolLookup.loaderLookup().or(LINKER.defaultLookup());");
+	outputln();
+	outputln("static MethodHandle link(String name, FunctionDescriptor descriptor, Linker.Option... options) {");
+	outputln("\tMemorySegment address = LOOKUP.find(name).orElseThrow(() -> new UnsatisfiedLinkError(name));");
+	outputln("\treturn LINKER.downcallHandle(address, descriptor, options);");
+	outputln("}");
+	outputln();
+	outputln("static RuntimeException rethrow(Throwable e) {");
+	outputln("\tif (e instanceof RuntimeException exception) return exception;");
+	outputln("\tif (e instanceof Error error) throw error;");
+	outputln("\treturn new RuntimeException(e);");
+	outputln("}");
+	outputln();
+}
+
+@Override
+public void generate() {
+	if (classes == null) return;
+	mismatched.clear();
+	super.generate();
+	if (!mismatched.isEmpty()) {
+		outputln("/*");
+		outputln(" * Not generated, the Java types do not match the C types:");
+		for (String name : mismatched) {
+			output(" * ");
+			outputln(name);
+		}
+		outputln(" */");
+	}
+	outputln("}");
+	getOutput().flush();
+}
+
+@Override
+public void generate(JNIClass clazz) {
+	JNIMethod[] methods = clazz.getDeclaredMethods();
+	sort(methods);
+	boolean first = true;
+	for (JNIMethod method : methods) {
+		if ((method.getModifiers() & Modifier.NATIVE) == 0) continue;
+		if (!isSupported(method)) continue;
+		if (!isMatching(method)) {
+			mismatched.add(clazz.getSimpleName() + "." + method.getName());
+			continue;
+		}
+		if (first) {
+			output("public static class ");
+			output(clazz.getSimpleName());
+			outputln(" {");
+			first = false;
+		}
+		generate(method);
+		if (progress != null) progress.step();
+	}
+	if (!first) {
+		outputln("}");
+		outputln();
+	}
+}
+
+public void generate(JNIMethod method) {
+	JNIParameter[] params = method.getParameters();
+	JNIType returnType = method.getReturnType();
+	boolean critical = false;
+	boolean copy = false;
+	for (JNIParameter param : params) {
+		if (param.getType().isArray()) {
+			if (param.getFlag(FLAG_CRITICAL)) critical = true;
+			copy = true;
+		}
+	}
+	if (critical) copy = false;
+	output("\tpublic static ");
+	output(returnType.getName());
+	output(" ");
+	output(method.getName());
+	output("(");
+	for (int i = 0; i < params.length; i++) {
+		if (i != 0) output(", ");
+		output(getJavaType(params[i].getType()));
+		output(" arg" + i);
+	}
+	outputln(") {");
+	outputln("\t\tclass Holder {");
+	output("\t\t\tstatic final MethodHandle HANDLE = link(\"");
+	output(getSymbol(method));
+	output("\", ");
+	generateDescriptor(params, returnType, getReturnLayout(method));
+	if (critical) output(", Linker.Option.critical(true)");
+	int variadic = getFirstVariadicArg(method);
+	if (variadic != -1) output(", Linker.Option.firstVariadicArg(" + variadic + ")");
+	outputln(");");
+	outputln("\t\t}");
+	String indent = "\t\t\t";
+	if (copy) {
+		outputln("\t\ttry (Arena arena = Arena.ofConfined()) {");
+		for (int i = 0; i < params.length; i++) {
+			JNIParameter param = params[i];
+			if (!param.getType().isArray()) continue;
+			output(indent);
+			output("MemorySegment lparg" + i + " = arg" + i + " == null ? MemorySegment.NULL : ");
+			if (param.getFlag(FLAG_NO_IN)) {
+				output("arena.allocate(" + getLayout(param.getType().getComponentType()) + ", arg" + i + ".length)");
+			} else {
+				output("arena.allocateFrom(" + getLayout(param.getType().getComponentType()) + ", arg" + i + ")");
+			}
+			outputln(";");
+		}
+	} else {
+		outputln("\t\ttry {");
+	}
+	output(indent);
+	if (!returnType.isType("void")) {
+		output(returnType.getName());
+		output(" rc = ");
+		String carrier = getCarrier(getReturnLayout(method));
+		if (!returnType.isType("boolean") && !carrier.equals(returnType.getName())) output("(" + returnType.getName() + ")");
+		output("(" + carrier + ")");
+	}
+	output("Holder.HANDLE.invokeExact(");
+	for (int i = 0; i < params.length; i++) {
+		if (i != 0) output(", ");
+		JNIType paramType = params[i].getType();
+		if (paramType.isArray()) {
+			output(copy ? "lparg" + i : "arg" + i + " == null ? MemorySegment.NULL : MemorySegment.ofArray(arg" + i + ")");
+		} else {
+			String carrier = getCarrier(getLayout(params[i]));
+			if (paramType.isType("boolean")) {
+				if (!carrier.equals("int")) output("(" + carrier + ")");
+				output("(arg" + i + " ? 1 : 0)");
+			} else {
+				if (!carrier.equals(paramType.getName())) output("(" + carrier + ")");
+				output("arg" + i);
+			}
+		}
+	}
+	output(")");
+	if (returnType.isType("boolean")) output(" != 0");
+	outputln(";");
+	if (copy) {
+		for (int i = 0; i < params.length; i++) {
+			JNIParameter param = params[i];
+			if (!param.getType().isArray() || param.getFlag(FLAG_NO_OUT)) continue;
+			output(indent);
+			output("if (arg" + i + " != null) MemorySegment.copy(lparg" + i + ", ");
+			output(getLayout(param.getType().getComponentType()));
+			outputln(", 0, arg" + i + ", 0, arg" + i + ".length);");
+		}
+	}
+	if (!returnType.isType("void")) {
+		output(indent);
+		outputln("return rc;");
+	}
+	outputln("\t\t} catch (Throwable e) {");
+	outputln("\t\t\tthrow rethrow(e);");
+	outputln("\t\t}");
+	outputln("\t}");
+	outputln();
+}
+
+void generateDescriptor(JNIParameter[] params, JNIType returnType, String returnLayout) {
+	if (returnType.isType("void")) {
+		output("FunctionDescriptor.ofVoid(");
+	} else {
+		output("FunctionDescriptor.of(");
+		output(returnLayout);
+		if (params.length != 0) output(", ");
+	}
+	for (int i = 0; i < params.length; i++) {
+		if (i != 0) output(", ");
+		JNIType paramType = params[i].getType();
+		output(paramType.isArray() ? "ADDRESS" : getLayout(params[i]));
+	}
+	output(")");
+}
+
+String getClassName() {
+	String name = getOutputName();
+	return Character.toUpperCase(name.charAt(0)) + name.substring(1) + "Foreign";
+}
+
+@Override
+public String getExtension() {
+	return ".java";
+}
+
+@Override
+public String getFileName() {
+	return getClassName() + getExtension();
+}
+
+String getCarrier(String layout) {
+	return layout.substring("JAVA_".length()).toLowerCase();
+}
+
+/*
+ * Returns the C type of the cast of the parameter without qualifiers, or
+ * null if the parameter has no cast.
+ */
+String getCType(JNIParameter param) {
+	return getCType(param.getCast());
+}
+
+String getCType(String cast) {
+	if (cast == null) return null;
+	cast = cast.trim();
+	if (cast.startsWith("(")) cast = cast.substring(1);
+	if (cast.endsWith(")")) cast = cast.substring(0, cast.length() - 1);
+	cast = cast.replaceAll("\\bconst\\b", "").replaceAll("\\s+", " ").replaceAll(" \\*", "*").trim();
+	return cast.length() != 0 ? cast : null;
+}
+
+/*
+ * Returns the layout of the C type, or null if it is not known.
+ */
+String getCLayout(String cType) {
+	if (isPointer(cType)) return "JAVA_LONG";
+	if (cType.equals("BOOL")) return isCocoa() ? "JAVA_BYTE" : "JAVA_INT";
+	return C_LAYOUTS.get(cType);
+}
+
+int getSize(String layout) {
+	switch (layout) {
+		case "JAVA_BYTE": return 1;
+		case "JAVA_SHORT": case "JAVA_CHAR": return 2;
+		case "JAVA_INT": case "JAVA_FLOAT": return 4;
+		default: return 8;
+	}
+}
+
+/*
+ * Returns the index of the first variadic parameter, the number of
+ * parameters if the native passes no variadic argument, or -1 if the
+ * function is not variadic.
+ */
+int getFirstVariadicArg(JNIMethod method) {
+	if (!method.getFlag(FLAG_VARARGS)) return -1;
+	JNIParameter[] params = method.getParameters();
+	for (int i = 0; i < params.length; i++) {
+		if (params[i].getFlag(FLAG_VARARGS)) return i;
+	}
+	return params.length;
+}
+
+String getJavaType(JNIType type) {
+	if (type.isArray()) return getJavaType(type.getComponentType()) + "[]";
+	return type.getName();
+}
+
+/*
+ * Returns the layout of a Java type.
+ */
+String getLayout(JNIType type) {
+	/* BOOL is a signed char on cocoa, gboolean and the win32 BOOL are ints */
+	if (type.isType("boolean")) return isCocoa() ? "JAVA_BYTE" : "JAVA_INT";
+	return "JAVA_" + type.getTypeSignature1().toUpperCase();
+}
+
+/*
+ * Returns the C type of the return value without qualifiers, or null if
+ * the method has no <code>return_type</code>.
+ */
+String getReturnCType(JNIMethod method) {
+	return getCType((String)method.getParam("return_type"));
+}
+
+/*
+ * Returns the layout of the return value, or null if it cannot be verified.
+ */
+String getReturnLayout(JNIMethod method) {
+	String cType = getReturnCType(method);
+	if (cType != null) return getCLayout(cType);
+	String layout = getLayout(method.getReturnType());
+	if (method.getFlag(FLAG_DYNAMIC) || method.getFlag(FLAG_CAST)) return layout;
+	return layout.equals("JAVA_LONG") || isFloatingPoint(layout) ? null : layout;
+}
+
+String getLayout(JNIParameter param) {
+	String cType = getCType(param);
+	String layout = cType != null ? getCLayout(cType) : null;
+	return layout != null ? layout : getLayout(param.getType());
+}
+
+String getSymbol(JNIMethod method) {
+	String accessor = method.getAccessor();
+	if (accessor.length() != 0) return accessor;
+	String name = method.getName();
+	if (name.startsWith("_")) name = name.substring(1);
+	return name;
+}
+
+boolean isCocoa() {
+	return getMainClass().getName().startsWith("org.eclipse.swt.internal.cocoa.");
+}
+
+boolean isFloatingPoint(String layout) {
+	return layout.equals("JAVA_FLOAT") || layout.equals("JAVA_DOUBLE");
+}
+
+boolean isPointer(String cType) {
+	return cType.endsWith("*") || cType.indexOf('(') != -1 || cType.endsWith("Ref");
+}
+
+/*
+ * Scalars are converted to the layout of their C type. The elements of an
+ * array cannot be converted, they must have the size of the C type, and a
+ * pointer must be a long. The variadic arguments are promoted to int or
+ * double in C, which the linker does not do. A return value can only be
+ * narrowed, an integer to a Java integer or boolean.
+ */
+boolean isMatching(JNIMethod method) {
+	JNIType returnType = method.getReturnType();
+	if (!returnType.isType("void")) {
+		String layout = getReturnLayout(method);
+		if (layout == null) return false;
+		String javaLayout = getLayout(returnType);
+		if (!layout.equals(javaLayout)) {
+			if (isFloatingPoint(layout) || isFloatingPoint(javaLayout)) return false;
+			if (!returnType.isType("boolean") && getSize(layout) < getSize(javaLayout)) return false;
+		}
+	}
+	JNIParameter[] params = method.getParameters();
+	int variadic = getFirstVariadicArg(method);
+	if (variadic != -1) {
+		for (int i = variadic; i < params.length; i++) {
+			if (params[i].getType().isArray()) continue;
+			String layout = getLayout(params[i]);
+			if (getSize(layout) < 4 || layout.equals("JAVA_FLOAT")) return false;
+		}
+	}
+	for (JNIParameter param : params) {
+		String cType = getCType(param);
+		if (cType == null) continue;
+		JNIType paramType = param.getType();
+		if (paramType.isArray()) {
+			if (!cType.endsWith("*")) continue;
+			String layout = getCLayout(cType.substring(0, cType.length() - 1).trim());
+			if (layout != null && getSize(layout) != getSize(getLayout(paramType.getComponentType()))) return false;
+		} else if (isPointer(cType) && !paramType.isType("long")) {
+			return false;
+		}
+	}
+	return true;
+}
+
+boolean isSupported(JNIMethod method) {
+	if (method.getFlag(FLAG_NO_GEN)) return false;
+	String[] flags = {FLAG_JNI, FLAG_CONST, FLAG_ADDRESS, FLAG_CPP, FLAG_NEW, FLAG_DELETE, FLAG_GCNEW, FLAG_OBJECT, FLAG_SETTER, FLAG_GETTER, FLAG_ADDER};
+	for (String flag : flags) {
+		if (method.getFlag(flag)) return false;
+	}
+	String function = getFunctionName(method);
+	if (function.startsWith("CALLBACK_")) return false;
+	String name = method.getName();
+	if (name.startsWith("_")) name = name.substring(1);
+	if (name.equals("memmove") || name.equals("MoveMemory") || name.equalsIgnoreCase("call") || name.startsWith("callFunc") || name.startsWith("VtblCall")) return false;
+	if (name.startsWith("objc_msgSend")) return false;
+	if (!getSymbol(method).matches("[A-Za-z_][A-Za-z0-9_]*")) return false;
+	JNIType returnType = method.getReturnType();
+	if (!returnType.isType("void") && !returnType.isPrimitive()) return false;
+	for (JNIParameter param : method.getParameters()) {
+		JNIType paramType = param.getType();
+		if (param.getFlag(FLAG_SENTINEL) || param.getFlag(FLAG_STRUCT) || param.getFlag(FLAG_OBJECT)) return false;
+		if (paramType.isArray()) {
+			JNIType componentType = paramType.getComponentType();
+			if (!componentType.isPrimitive() || componentType.isType("boolean")) return false;
+		} else if (!paramType.isPrimitive()) {
+			return false;
+		}
+	}
+	return true;
+}
+
+}
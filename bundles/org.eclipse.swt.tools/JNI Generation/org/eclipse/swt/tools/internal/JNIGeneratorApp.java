@@ -29,6 +29,7 @@ public class JNIGeneratorApp {
 	MetaData metaData;
 	
 	static boolean USE_AST = true;
+	static boolean GENERATE_FOREIGN = Boolean.getBoolean("org.eclipse.swt.tools.foreign");
 
 public JNIGeneratorApp() {
 }
@@ -176,6 +177,25 @@ void generateSWT_C(JNIClass[] classes) {
 	}
 }
 
+void generateFOREIGN(JNIClass[] classes) {
+	try {
+		ForeignGenerator gen = new ForeignGenerator();
+		gen.setMainClass(mainClass);
+		gen.setClasses(classes);
+		gen.setMetaData(metaData);
+		gen.setProgressMonitor(progress);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		gen.setOutput(new PrintStream(out));
+		String root = classesDir != null ? classesDir : new File(outputDir).getParent() + "/";
+		String fileName = root + getPackageName().replace('.', '/') + "/" + gen.getFileName();
+		gen.setDelimiter(JNIGenerator.getDelimiter(fileName));
+		gen.generate();
+		if (out.size() > 0) JNIGenerator.output(out.toByteArray(), fileName);
+	} catch (Exception e) {
+		System.out.println("Problem");
+		e.printStackTrace(System.out);
+	}
+}
 
 void generateMetaData(JNIClass[] classes) {
 	try {
@@ -251,6 +271,10 @@ public void generate(ProgressMonitor progress) {
 	generateSTATS_H(natives);
 	if (progress != null) progress.setMessage("Generating stats.c ...");
 	generateSTATS_C(natives);
+	if (GENERATE_FOREIGN) {
+		if (progress != null) progress.setMessage("Generating foreign downcalls ...");
+		generateFOREIGN(natives);
+	}
 	if (progress != null) progress.setMessage("Generating meta data ...");
 	generateMetaData(classes);
 //	if (progress != null) progress.setMessage("Generating embeded meta data ...");
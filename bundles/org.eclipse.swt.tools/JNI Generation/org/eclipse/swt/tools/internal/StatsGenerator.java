@@ -35,14 +35,26 @@ public void generateIncludes() {
 		output("#include \"");
 		output(getOutputName());
 		outputln("_stats.h\"");
+		outputln("#include <string.h>");
+		outputln();
+		outputln("#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func");
+		outputln();
+		outputln("#ifdef _WIN32");
+		outputln("  /* Many methods don't use their 'env' and 'that' arguments */");
+		outputln("  #pragma warning (disable: 4100)");
+		outputln("#endif");
 		outputln();
 	}
 }
 
 @Override
 public void generate(JNIClass clazz) {
+	JNIMethod[] methods = clazz.getDeclaredMethods();
+	sort(methods);
 	if (header) {
-		generateHeaderFile(clazz);
+		generateHeaderFile(clazz, methods);
+	} else {
+		generateSourceFile(clazz, methods);
 	}
 }
 
@@ -56,37 +68,135 @@ public String getSuffix() {
 	return "_stats";
 }
 
-void generateHeaderFile(JNIClass clazz){
-	generateNATIVEMacros(clazz);
-	JNIMethod[] methods = clazz.getDeclaredMethods();
-	sort(methods);
-	generateFunctionEnum(methods);	
+static int getNativeCount(JNIMethod[] methods) {
+	int count = 0;
+	for (JNIMethod method : methods) {
+		if ((method.getModifiers() & Modifier.NATIVE) != 0) count++;
+	}
+	return count;
 }
 
-void generateNATIVEMacros(JNIClass clazz) {
+void generateHeaderFile(JNIClass clazz, JNIMethod[] methods) {
+	boolean profile = getNativeCount(methods) > 0;
+	generateNATIVEMacros(clazz, profile);
+	generateFunctionEnum(methods);
+	if (profile) generateProfileDeclarations(clazz.getSimpleName());
+}
+
+void generateSourceFile(JNIClass clazz, JNIMethod[] methods) {
+	if (getNativeCount(methods) == 0) return;
+	String className = clazz.getSimpleName();
+	generateProfileTables(className, methods);
+	generateStatsNatives(className);
+}
+
+/*
+ * The macros record the number of calls and the time spent in every native
+ * when profiling is switched on at runtime through NativeProfiler. A library
+ * that defines its own NATIVE_ENTER and NATIVE_EXIT macros, for example to
+ * catch exceptions, calls the PROFILE_ENTER and PROFILE_EXIT macros from them.
+ */
+void generateNATIVEMacros(JNIClass clazz, boolean profile) {
 	String className = clazz.getSimpleName();
+	output("#define ");
+	output(className);
+	output("_PROFILE_ENTER(func) ");
+	if (profile) {
+		output("jlong ");
+		output(className);
+		output("_nativeProfileStart = ");
+		output(className);
+		output("_nativeProfile ? swt_profile_time() : 0;");
+	}
+	outputln();
+	output("#define ");
+	output(className);
+	output("_PROFILE_EXIT(func) ");
+	if (profile) {
+		output("if (");
+		output(className);
+		output("_nativeProfile) { ");
+		output(className);
+		output("_nativeFunctionCallCount[func]++; ");
+		output(className);
+		output("_nativeFunctionTime[func] += swt_profile_time() - ");
+		output(className);
+		output("_nativeProfileStart; }");
+	}
+	outputln();
 	output("#ifndef ");
 	output(className);
 	outputln("_NATIVE_ENTER");
 	output("#define ");
 	output(className);
-	outputln("_NATIVE_ENTER(env, that, func) ");
+	output("_NATIVE_ENTER(env, that, func) ");
+	output(className);
+	outputln("_PROFILE_ENTER(func)");
 	outputln("#endif");
 	output("#ifndef ");
 	output(className);
 	outputln("_NATIVE_EXIT");
 	output("#define ");
 	output(className);
-	outputln("_NATIVE_EXIT(env, that, func) ");
+	output("_NATIVE_EXIT(env, that, func) ");
+	output(className);
+	outputln("_PROFILE_EXIT(func)");
 	outputln("#endif");
-	outputln();	
+	outputln();
 }
 
-void generateStatsNatives(String className) {
-	outputln("#define STATS_NATIVE(func) Java_org_eclipse_swt_tools_internal_NativeStats_##func");
+void generateProfileDeclarations(String className) {
+	outputln();
+	output("extern int ");
+	output(className);
+	outputln("_nativeProfile;");
+	output("extern jlong ");
+	output(className);
+	outputln("_nativeFunctionCallCount[];");
+	output("extern jlong ");
+	output(className);
+	outputln("_nativeFunctionTime[];");
+	outputln();
+}
+
+void generateProfileTables(String className, JNIMethod[] methods) {
+	int count = getNativeCount(methods);
+	output("int ");
+	output(className);
+	outputln("_nativeProfile = 0;");
+	output("int ");
+	output(className);
+	output("_nativeFunctionCount = ");
+	output(String.valueOf(count));
+	outputln(";");
+	output("jlong ");
+	output(className);
+	output("_nativeFunctionCallCount[");
+	output(String.valueOf(count));
+	outputln("];");
+	output("jlong ");
+	output(className);
+	output("_nativeFunctionTime[");
+	output(String.valueOf(count));
+	outputln("];");
+	output("const char* ");
+	output(className);
+	outputln("_nativeFunctionNames[] = {");
+	for (JNIMethod method : methods) {
+		if ((method.getModifiers() & Modifier.NATIVE) == 0) continue;
+		output("\t\"");
+		output(getFunctionName(method));
+		outputln("\",");
+	}
+	outputln("};");
 	outputln();
+}
 
-	output("JNIEXPORT jint JNICALL STATS_NATIVE(");
+void generateStatsNatives(String className) {
+	boolean isCPP = getCPP();
+	String export = isCPP ? "extern \"C\" JNIEXPORT " : "JNIEXPORT ";
+	output(export);
+	output("jint JNICALL STATS_NATIVE(");
 	output(toC(className + "_GetFunctionCount"));
 	outputln(")");
 	outputln("\t(JNIEnv *env, jclass that)");
@@ -97,13 +207,13 @@ void generateStatsNatives(String className) {
 	outputln("}");
 	outputln();
 
-	output("JNIEXPORT jstring JNICALL STATS_NATIVE(");
+	output(export);
+	output("jstring JNICALL STATS_NATIVE(");
 	output(toC(className + "_GetFunctionName"));
 	outputln(")");
 	outputln("\t(JNIEnv *env, jclass that, jint index)");
 	outputln("{");
 	output("\treturn ");
-	boolean isCPP = getCPP();
 	if (isCPP) {
 		output("env->NewStringUTF(");
 	} else {
@@ -114,7 +224,8 @@ void generateStatsNatives(String className) {
 	outputln("}");
 	outputln();
 
-	output("JNIEXPORT jint JNICALL STATS_NATIVE(");
+	output(export);
+	output("jlong JNICALL STATS_NATIVE(");
 	output(toC(className + "_GetFunctionCallCount"));
 	outputln(")");
 	outputln("\t(JNIEnv *env, jclass that, jint index)");
@@ -123,10 +234,54 @@ void generateStatsNatives(String className) {
 	output(className);
 	outputln("_nativeFunctionCallCount[index];");
 	outputln("}");
+	outputln();
+
+	output(export);
+	output("jlong JNICALL STATS_NATIVE(");
+	output(toC(className + "_GetFunctionTime"));
+	outputln(")");
+	outputln("\t(JNIEnv *env, jclass that, jint index)");
+	outputln("{");
+	output("\treturn ");
+	output(className);
+	outputln("_nativeFunctionTime[index];");
+	outputln("}");
+	outputln();
+
+	output(export);
+	output("void JNICALL STATS_NATIVE(");
+	output(toC(className + "_SetProfiling"));
+	outputln(")");
+	outputln("\t(JNIEnv *env, jclass that, jboolean enabled)");
+	outputln("{");
+	output("\t");
+	output(className);
+	outputln("_nativeProfile = enabled;");
+	outputln("}");
+	outputln();
+
+	output(export);
+	output("void JNICALL STATS_NATIVE(");
+	output(toC(className + "_Reset"));
+	outputln(")");
+	outputln("\t(JNIEnv *env, jclass that)");
+	outputln("{");
+	output("\tmemset(");
+	output(className);
+	output("_nativeFunctionCallCount, 0, sizeof(");
+	output(className);
+	outputln("_nativeFunctionCallCount));");
+	output("\tmemset(");
+	output(className);
+	output("_nativeFunctionTime, 0, sizeof(");
+	output(className);
+	outputln("_nativeFunctionTime));");
+	outputln("}");
+	outputln();
 }
 
 void generateFunctionEnum(JNIMethod[] methods) {
-	if (methods.length == 0) return;
+	if (getNativeCount(methods) == 0) return;
 	outputln("typedef enum {");
 	for (JNIMethod method : methods) {
 		if ((method.getModifiers() & Modifier.NATIVE) == 0) continue;
@@ -22,6 +22,9 @@ boolean header;
 
 static final boolean GLOBAL_REF = false;
 
+/* The field holding the memory of a struct with the direct flag */
+static final String DIRECT_BUFFER = "buffer";
+
 public StructsGenerator(boolean header) {
 	this.header = header;
 }
@@ -57,7 +60,7 @@ public void generate(JNIClass clazz) {
 			break;
 		}
 	}
-	if (j == fields.length) return;
+	if (j == fields.length && !clazz.getFlag(Flags.FLAG_DIRECT)) return;
 	if (header) {
 		generateHeaderFile(clazz);
 	} else {
@@ -194,12 +197,16 @@ void generateFIDsStructure(JNIClass clazz) {
 	outputln("\tint cached;");
 	outputln("\tjclass clazz;");
 	output("\tjfieldID ");
-	boolean first = true;
-	for (JNIField field : clazz.getDeclaredFields()) {
-		if (ignoreField(field)) continue;
-		if (!first) output(", ");
-		output(field.getName());
-		first = false;
+	if (clazz.getFlag(Flags.FLAG_DIRECT)) {
+		output(DIRECT_BUFFER);
+	} else {
+		boolean first = true;
+		for (JNIField field : clazz.getDeclaredFields()) {
+			if (ignoreField(field)) continue;
+			if (!first) output(", ");
+			output(field.getName());
+			first = false;
+		}
 	}
 	outputln(";");
 	output("} ");
@@ -240,6 +247,21 @@ void generateCacheFunction(JNIClass clazz) {
 		}
 	}
 	outputln();
+	if (clazz.getFlag(Flags.FLAG_DIRECT)) {
+		output("\t");
+		output(clazzName);
+		output("Fc.");
+		output(DIRECT_BUFFER);
+		if (isCPP) {
+			output(" = env->GetFieldID(");
+		} else {
+			output(" = (*env)->GetFieldID(env, ");
+		}
+		output(clazzName);
+		output("Fc.clazz, \"");
+		output(DIRECT_BUFFER);
+		outputln("\", \"Ljava/nio/ByteBuffer;\");");
+	}
 	for (JNIField field : clazz.getDeclaredFields()) {
 		if (ignoreField(field)) continue;
 		output("\t");
@@ -414,11 +436,55 @@ void generateGetFunction(JNIClass clazz) {
 	output("Fc.cached) cache");
 	output(clazzName);
 	outputln("Fields(env, lpObject);");
-	generateGetFields(clazz);
-	outputln("\treturn lpStruct;");
+	if (clazz.getFlag(Flags.FLAG_DIRECT)) {
+		output("\treturn ");
+		generateDirectAddress(clazz);
+		outputln(";");
+	} else {
+		generateGetFields(clazz);
+		outputln("\treturn lpStruct;");
+	}
 	outputln("}");
 }
 
+/*
+ * The Java class of a direct struct is a view on the memory of its
+ * direct ByteBuffer, the natives use that memory in place. Since the
+ * struct is not copied, a direct struct cannot be a field of another
+ * struct.
+ */
+void generateDirectAddress(JNIClass clazz) {
+	String clazzName = clazz.getSimpleName();
+	output("(");
+	if (clazz.getFlag(Flags.FLAG_STRUCT)) {
+		output("struct ");
+	}
+	output(clazzName);
+	if (getCPP()) {
+		output(" *)env->GetDirectBufferAddress(env->GetObjectField(lpObject, ");
+	} else {
+		output(" *)(*env)->GetDirectBufferAddress(env, (*env)->GetObjectField(env, lpObject, ");
+	}
+	output(clazzName);
+	output("Fc.");
+	output(DIRECT_BUFFER);
+	output("))");
+}
+
+void generateDirectSetFields(JNIClass clazz) {
+	outputln("\t{");
+	output("\t");
+	if (clazz.getFlag(Flags.FLAG_STRUCT)) {
+		output("struct ");
+	}
+	output(clazz.getSimpleName());
+	output(" *lpBuffer = ");
+	generateDirectAddress(clazz);
+	outputln(";");
+	outputln("\tif (lpBuffer != lpStruct) *lpBuffer = *lpStruct;");
+	outputln("\t}");
+}
+
 void generateSetFields(JNIClass clazz) {
 	JNIClass superclazz = clazz.getSuperclass();
 	String clazzName = clazz.getSimpleName();
@@ -558,7 +624,11 @@ void generateSetFunction(JNIClass clazz) {
 	output("Fc.cached) cache");
 	output(clazzName);
 	outputln("Fields(env, lpObject);");
-	generateSetFields(clazz);
+	if (clazz.getFlag(Flags.FLAG_DIRECT)) {
+		generateDirectSetFields(clazz);
+	} else {
+		generateSetFields(clazz);
+	}
 	outputln("}");
 }
 
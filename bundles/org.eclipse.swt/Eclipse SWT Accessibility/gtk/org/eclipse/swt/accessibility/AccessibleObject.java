@@ -31,17 +31,28 @@ class AccessibleObject {
 	AccessibleObject parent;
 	AccessibleObject[] children;
 	/*
+	* When a control has more children than CHILD_POOL_SIZE, only their ids
+	* are kept and objects are created for the children that are requested.
+	* The objects are kept in a pool, least recently used first.
+	*/
+	Object[] childIds;
+	LinkedHashMap<Integer, AccessibleObject> childPool;
+	/*
 	* a lightweight object does not correspond to a concrete gtk widget, but
 	* to a logical child of a widget (eg.- a CTabItem, which is simply drawn)
 	*/
 	boolean isLightweight = false;
+	/* text of the parent as last fetched by getText (), null when it changed since */
+	String parentText;
 
 	static long actionNamePtr = -1;
 	static long descriptionPtr = -1;
 	static long keybindingPtr = -1;
 	static long namePtr = -1;
-	static final Map<LONG, AccessibleObject> AccessibleObjects = new HashMap<> (9);
+	static final AccessibleObjectTable AccessibleObjects = new AccessibleObjectTable ();
 	static final boolean DEBUG = Device.DEBUG;
+	static Callback textChangedCallback;
+	static final int CHILD_POOL_SIZE = 512;
 
 	AccessibleObject (long type, long widget, Accessible accessible, boolean isLightweight) {
 		super ();
@@ -58,6 +69,12 @@ class AccessibleObject {
 					atkHandle = OS.g_object_new (OS.swt_fixed_accessible_get_type(), 0);
 				}
 				OS.swt_fixed_accessible_register_accessible(atkHandle, false, widget);
+				if (getParentTextIface (atkHandle) != null) {
+					if (textChangedCallback == null) {
+						textChangedCallback = new Callback (AccessibleObject.class, "textChangedProc", 4); //$NON-NLS-1$
+					}
+					OS.g_signal_connect (atkHandle, ATK.text_changed, textChangedCallback.getAddress (), 0);
+				}
 			} else {
 				// TODO_a11y: accessibility listeners on the Java side have not yet
 				// been implemented for native GTK widgets on GTK3.
@@ -67,7 +84,7 @@ class AccessibleObject {
 
 		this.accessible = accessible;
 		this.isLightweight = isLightweight;
-		AccessibleObjects.put (new LONG (atkHandle), this);
+		AccessibleObjects.put (atkHandle, this);
 	}
 
 	static void print (String str) {
@@ -1511,7 +1528,7 @@ class AccessibleObject {
 					}
 				}
 			}
-			object.updateChildren ();
+			object.updateChildIds ();
 			AccessibleObject accObject = object.getChildByIndex ((int)index);
 			if (accObject != null) {
 				return OS.g_object_ref (accObject.atkHandle);
@@ -4426,7 +4443,7 @@ class AccessibleObject {
 	 * @return an AccessibleObject associated with the provided AtkObject pointer
 	 */
 	static AccessibleObject getAccessibleObject (long atkObject) {
-		AccessibleObject object = AccessibleObjects.get (new LONG (atkObject));
+		AccessibleObject object = AccessibleObjects.get (atkObject);
 		if (object == null) return null;
 		if (object.accessible == null) return null;
 		Control control = object.accessible.control;
@@ -4437,6 +4454,14 @@ class AccessibleObject {
 	AccessibleObject getChildByID (int childId) {
 		if (childId == ACC.CHILDID_SELF) return this;
 		if (childId == ACC.CHILDID_NONE || childId == ACC.CHILDID_MULTIPLE) return null;
+		if (childIds != null) {
+			AccessibleObject child = childPool.get (childId);
+			if (child != null) return child;
+			for (int i = 0; i < childIds.length; i++) {
+				if (childIds [i] instanceof Integer id && id.intValue () == childId) return getChildByIndex (i);
+			}
+			return null;
+		}
 		if (children != null) {
 			for (int i = 0; i < children.length; i++) {
 				AccessibleObject child = children[i];
@@ -4447,6 +4472,27 @@ class AccessibleObject {
 	}
 
 	AccessibleObject getChildByIndex (int childIndex) {
+		if (childIds != null) {
+			if (childIndex < 0 || childIndex >= childIds.length) return null;
+			Object child = childIds [childIndex];
+			AccessibleObject object = null;
+			if (child instanceof Integer) {
+				int id = ((Integer)child).intValue();
+				object = childPool.get (id);
+				if (object == null) {
+					object = createChild (id);
+					if (object == null) return null;
+					childPool.put (id, object);
+				}
+			} else if (child instanceof Accessible) {
+				object = ((Accessible)child).getAccessibleObject();
+			}
+			if (object != null) {
+				object.index = childIndex;
+				object.parent = this;
+			}
+			return object;
+		}
 		if (children != null && childIndex < children.length) return children [childIndex];
 		return null;
 	}
@@ -4460,11 +4506,9 @@ class AccessibleObject {
 			if (iface != null && iface.get_character_count != 0) {
 				long characterCount = ATK.call (iface.get_character_count, atkHandle);
 				if (characterCount > 0 && iface.get_text != 0) {
-					long parentResult = ATK.call (iface.get_text, atkHandle, 0, characterCount);
-					if (parentResult != 0) {
-						parentText = getString (parentResult);
-						OS.g_free(parentResult);
-					}
+					parentText = getParentText (iface, characterCount);
+				} else {
+					this.parentText = null;
 				}
 			}
 			AccessibleControlEvent event = new AccessibleControlEvent (accessible);
@@ -4479,15 +4523,43 @@ class AccessibleObject {
 		return null;
 	}
 
+	/*
+	 * Returns the text of the parent, fetching it only when it changed since
+	 * the last query. The cache is dropped by the native text-changed signal,
+	 * which also reports edits that SWT does not see, and by textChanged ().
+	 */
+	String getParentText (AtkTextIface iface, long characterCount) {
+		String text = this.parentText;
+		/*
+		* The cached text can only be used when every character of the text is a
+		* single Java char, otherwise the offsets of ATK and Java differ.
+		*/
+		if (text != null && text.length () == characterCount) return text;
+		text = getParentText (iface, 0, characterCount);
+		this.parentText = text;
+		return text != null ? text : "";	//$NON-NLS-1$
+	}
+
+	String getParentText (AtkTextIface iface, long start, long end) {
+		long parentResult = ATK.call (iface.get_text, atkHandle, start, end);
+		if (parentResult == 0) return null;
+		String text = getString (parentResult);
+		OS.g_free(parentResult);
+		return text;
+	}
+
+	static long textChangedProc (long atkObject, long position, long length, long user_data) {
+		AccessibleObject object = AccessibleObjects.get (atkObject);
+		if (object != null) object.parentText = null;
+		return 0;
+	}
+
 	static long gObjectClass_finalize (long atkObject) {
 		/*
 		 * GObject destruction is handled in os_custom.c in GTK3.
 		 * AccessibleObject has to be removed from the map of AccessibleObjects, though.
 		 */
-		AccessibleObject object = AccessibleObjects.get (new LONG (atkObject));
-		if (object != null) {
-			AccessibleObjects.remove (new LONG (atkObject));
-		}
+		AccessibleObjects.remove (atkObject);
 		return 0;
 	}
 
@@ -4629,11 +4701,22 @@ class AccessibleObject {
 			}
 			children = null;
 		}
+		releaseChildPool ();
 		if (isLightweight) {
 			OS.g_object_unref(atkHandle);
 		}
 	}
 
+	void releaseChildPool () {
+		if (childPool != null) {
+			for (AccessibleObject child : childPool.values ()) {
+				OS.g_object_unref(child.atkHandle);
+			}
+			childPool = null;
+		}
+		childIds = null;
+	}
+
 	void removeRelation (int type, Accessible target) {
 		if(GTK.GTK4) return; //TODO investigate proper way for GTK 4.x
 		AccessibleObject targetAccessibleObject = target.getAccessibleObject();
@@ -4656,6 +4739,7 @@ class AccessibleObject {
 	}
 
 	void sendEvent(int event, Object eventData) {
+		if (event == ACC.EVENT_TEXT_CHANGED || event == ACC.EVENT_VALUE_CHANGED) parentText = null;
 		if(GTK.GTK4) return; //TODO reenable for GTK 4.x
 		switch (event) {
 			case ACC.EVENT_SELECTION_CHANGED:
@@ -4880,6 +4964,7 @@ class AccessibleObject {
 	}
 
 	void textChanged(int type, int startIndex, int length) {
+		parentText = null;
 		if(GTK.GTK4) return; //TODO investigate proper way for GTK 4.x
 		if (type == ACC.TEXT_DELETE) {
 			OS.g_signal_emit_by_name (atkHandle, ATK.text_changed_delete, startIndex, length);
@@ -4893,7 +4978,33 @@ class AccessibleObject {
 		OS.g_signal_emit_by_name (atkHandle, ATK.text_selection_changed);
 	}
 
-	void updateChildren () {
+	/*
+	 * Returns a new reference to the object of the child with the given id,
+	 * asking the listeners first.
+	 */
+	AccessibleObject createChild (int id) {
+		List<AccessibleControlListener> listeners = accessible.accessibleControlListeners;
+		int length = size(listeners);
+		AccessibleControlEvent event = new AccessibleControlEvent (accessible);
+		event.childID = id;
+		for (int j = 0; j < length; j++) {
+			AccessibleControlListener listener = listeners.get (j);
+			listener.getChild (event);
+		}
+		AccessibleObject object;
+		if (event.accessible != null) {
+			object = event.accessible.getAccessibleObject();
+			if (object != null)	OS.g_object_ref(object.atkHandle);
+		} else {
+			long type = OS.G_OBJECT_TYPE (accessible.getControlHandle());
+			long widget = accessible.getControlHandle();
+			object = new AccessibleObject(type, widget, accessible, true);
+		}
+		if (object != null) object.id = id;
+		return object;
+	}
+
+	Object[] queryChildren () {
 		List<AccessibleControlListener> listeners = accessible.accessibleControlListeners;
 		int length = size(listeners);
 		AccessibleControlEvent event = new AccessibleControlEvent (accessible);
@@ -4902,9 +5013,20 @@ class AccessibleObject {
 			AccessibleControlListener listener = listeners.get (i);
 			listener.getChildren (event);
 		}
-		Object[] children = event.children;
-		AccessibleObject[] oldChildren = this.children;
+		return event.children;
+	}
+
+	void updateChildren () {
+		updateChildren (queryChildren ());
+	}
+
+	void updateChildren (Object[] children) {
 		int count = children != null ? children.length : 0;
+		if (count > CHILD_POOL_SIZE) {
+			updateChildPool (children);
+			return;
+		}
+		AccessibleObject[] oldChildren = this.children;
 		AccessibleObject[] newChildren = new AccessibleObject[count];
 		for (int i = 0; i < count; i++) {
 			Object child = children [i];
@@ -4914,21 +5036,8 @@ class AccessibleObject {
 				int id = ((Integer)child).intValue();
 				object = oldChildren != null && i < oldChildren.length ? oldChildren [i] : null;
 				if (object == null || object.id != id) {
-					event = new AccessibleControlEvent (accessible);
-					event.childID = id;
-					for (int j = 0; j < length; j++) {
-						AccessibleControlListener listener = listeners.get (j);
-						listener.getChild (event);
-					}
-					if (event.accessible != null) {
-						object = event.accessible.getAccessibleObject();
-						if (object != null)	OS.g_object_ref(object.atkHandle);
-					} else {
-						long type = OS.G_OBJECT_TYPE (accessible.getControlHandle());
-						long widget = accessible.getControlHandle();
-						object = new AccessibleObject(type, widget, accessible, true);
-					}
-					object.id = id;
+					object = childPool != null ? childPool.remove (id) : null;
+					if (object == null) object = createChild (id);
 				} else {
 					OS.g_object_ref(object.atkHandle);
 				}
@@ -4948,7 +5057,66 @@ class AccessibleObject {
 				if (object != null) OS.g_object_unref(object.atkHandle);
 			}
 		}
+		releaseChildPool ();
 		this.children = newChildren;
 	}
 
+	/*
+	 * Keeps the ids of the children without creating their objects. The pooled
+	 * objects of children that are gone are released, the others get their
+	 * new index.
+	 */
+	void updateChildPool (Object[] children) {
+		if (this.children != null) {
+			for (int i = 0; i < this.children.length; i++) {
+				AccessibleObject object = this.children [i];
+				if (object == null) continue;
+				if (object.id != ACC.CHILDID_SELF) {
+					if (childPool == null) childPool = createChildPool ();
+					AccessibleObject old = childPool.put (object.id, object);
+					if (old != null) OS.g_object_unref(old.atkHandle);
+				} else {
+					OS.g_object_unref(object.atkHandle);
+				}
+			}
+			this.children = null;
+		}
+		if (childPool == null) childPool = createChildPool ();
+		childIds = children.clone ();
+		if (childPool.isEmpty ()) return;
+		/* look the children up in a copy, a get () on the pool would reorder it */
+		Map<Integer, AccessibleObject> pooled = new HashMap<> (childPool);
+		for (int i = 0; i < children.length && !pooled.isEmpty (); i++) {
+			if (children [i] instanceof Integer id) {
+				AccessibleObject object = pooled.remove (id);
+				if (object != null) object.index = i;
+			}
+		}
+		for (Integer id : pooled.keySet ()) {
+			OS.g_object_unref(childPool.remove (id).atkHandle);
+		}
+	}
+
+	/*
+	 * Updates the children unless the listeners report the child ids kept by
+	 * updateChildPool (). Comparing the ids does not create the objects of the
+	 * children, so that asking for one child of a control with many children
+	 * only creates that child, also after the children were sorted or replaced.
+	 */
+	void updateChildIds () {
+		Object[] children = queryChildren ();
+		if (childIds == null || !Arrays.equals (children, childIds)) updateChildren (children);
+	}
+
+	static LinkedHashMap<Integer, AccessibleObject> createChildPool () {
+		return new LinkedHashMap<> (16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry (Map.Entry<Integer, AccessibleObject> eldest) {
+				if (size () <= CHILD_POOL_SIZE) return false;
+				OS.g_object_unref(eldest.getValue ().atkHandle);
+				return true;
+			}
+		};
+	}
+
 }
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.accessibility;
+
+/**
+ * Maps AtkObject handles to their AccessibleObject without allocating a
+ * key for every lookup. Open addressing with linear probing, the handle 0
+ * marks an empty slot.
+ */
+class AccessibleObjectTable {
+	long[] keys;
+	AccessibleObject[] values;
+	int size, mask;
+
+	static final int INITIAL_CAPACITY = 16;
+
+AccessibleObjectTable () {
+	keys = new long [INITIAL_CAPACITY];
+	values = new AccessibleObject [INITIAL_CAPACITY];
+	mask = INITIAL_CAPACITY - 1;
+}
+
+int indexOf (long key) {
+	long hash = key * 0x9E3779B97F4A7C15L;
+	return (int)(hash ^ (hash >>> 32)) & mask;
+}
+
+AccessibleObject get (long key) {
+	if (key == 0) return null;
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != 0) {
+		if (current == key) return values [index];
+		index = (index + 1) & mask;
+	}
+	return null;
+}
+
+void put (long key, AccessibleObject value) {
+	if (key == 0) return;
+	if ((size + 1) * 4 > keys.length * 3) resize (keys.length * 2);
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != 0) {
+		if (current == key) {
+			values [index] = value;
+			return;
+		}
+		index = (index + 1) & mask;
+	}
+	keys [index] = key;
+	values [index] = value;
+	size++;
+}
+
+AccessibleObject remove (long key) {
+	if (key == 0) return null;
+	int index = indexOf (key);
+	long current;
+	while ((current = keys [index]) != key) {
+		if (current == 0) return null;
+		index = (index + 1) & mask;
+	}
+	AccessibleObject value = values [index];
+	/* shift the following entries back so no tombstones are needed */
+	int empty = index;
+	index = (index + 1) & mask;
+	while ((current = keys [index]) != 0) {
+		int home = indexOf (current);
+		if (((index - home) & mask) >= ((index - empty) & mask)) {
+			keys [empty] = current;
+			values [empty] = values [index];
+			empty = index;
+		}
+		index = (index + 1) & mask;
+	}
+	keys [empty] = 0;
+	values [empty] = null;
+	size--;
+	return value;
+}
+
+void resize (int capacity) {
+	long[] oldKeys = keys;
+	AccessibleObject[] oldValues = values;
+	keys = new long [capacity];
+	values = new AccessibleObject [capacity];
+	mask = capacity - 1;
+	for (int i = 0; i < oldKeys.length; i++) {
+		long key = oldKeys [i];
+		if (key == 0) continue;
+		int index = indexOf (key);
+		while (keys [index] != 0) index = (index + 1) & mask;
+		keys [index] = key;
+		values [index] = oldValues [i];
+	}
+}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.swt.browser;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.events.*;
@@ -735,6 +736,50 @@ public Object evaluate (String script, boolean trusted) throws SWTException {
 	return webBrowser.evaluate (script, trusted);
 }
 
+/**
+ * Evaluates the specified script without waiting for its result.
+ * <p>
+ * The script is started in the context of the current document the same
+ * way as by <code>evaluate(String)</code>, and the returned future is
+ * completed with the java representation of the script's return value
+ * once the browser delivers it. Unlike <code>evaluate(String)</code>, this
+ * method does not run a nested event loop, so it can be called from
+ * browser callbacks without risking a deadlock, and any number of
+ * evaluations can be in flight at the same time.
+ * </p><p>
+ * The future is always completed on the user-interface thread, so
+ * dependent actions may access the widgets directly. It is completed
+ * exceptionally with an <code>SWTException</code> in the cases where
+ * <code>evaluate(String)</code> throws one, and with an
+ * <code>SWTException</code> of type <code>ERROR_WIDGET_DISPOSED</code>
+ * if the receiver is disposed before the result arrives. On platforms
+ * without an asynchronous script API the script is evaluated before this
+ * method returns and the future is already completed.
+ * </p>
+ *
+ * @param script the script with javascript commands
+ *
+ * @return a future holding the return value, if any, of executing the script
+ *
+ * @exception IllegalArgumentException <ul>
+ *    <li>ERROR_NULL_ARGUMENT - if the script is null</li>
+ * </ul>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS when called from the wrong thread</li>
+ *    <li>ERROR_WIDGET_DISPOSED when the widget has been disposed</li>
+ * </ul>
+ *
+ * @see Browser#evaluate(String)
+ *
+ * @since 3.134
+ */
+public CompletableFuture<Object> evaluateAsync (String script) {
+	checkWidget();
+	if (script == null) SWT.error (SWT.ERROR_NULL_ARGUMENT);
+	return webBrowser.evaluateAsync (script);
+}
+
 /**
  * Navigate to the next session history item.
  *
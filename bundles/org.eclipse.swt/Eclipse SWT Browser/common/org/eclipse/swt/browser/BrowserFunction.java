@@ -37,6 +37,14 @@ import org.eclipse.swt.*;
  * </p><p>
  * Note that disposing a Browser automatically disposes all
  * BrowserFunctions associated with it.
+ * </p><p>
+ * Every function also has an <code>async</code> variant, which returns
+ * a javascript promise of the result instead of blocking the caller,
+ * for example <code>name.async(data).then(...)</code>.  Where the
+ * platform supports it (WebKitGTK 2.40 and newer), the asynchronous
+ * calls made before the next microtask are sent to java in a single
+ * message, and typed arrays and <code>ArrayBuffer</code>s are passed as
+ * raw bytes.
  * </p>
  *
  * @see #dispose()
@@ -183,6 +191,17 @@ void dispose (boolean remove) {
  * javascript boolean -&gt; <code>java.lang.Boolean</code>
  * javascript array whose elements are all of supported types -&gt; <code>java.lang.Object[]</code>
  *
+ * When called through the <code>async</code> variant of the function on a
+ * platform that passes typed arrays as raw bytes, typed arrays are converted
+ * as follows (elsewhere they are converted like javascript arrays of numbers):
+ *
+ * javascript Float64Array -&gt; <code>double[]</code>
+ * javascript Float32Array -&gt; <code>float[]</code>
+ * javascript BigInt64Array, BigUint64Array -&gt; <code>long[]</code>
+ * javascript Int32Array, Uint32Array -&gt; <code>int[]</code>
+ * javascript Int16Array, Uint16Array -&gt; <code>short[]</code>
+ * javascript ArrayBuffer and other typed arrays -&gt; <code>byte[]</code>
+ *
  * If any of the javascript arguments are of unsupported types then the
  * function invocation will fail and this method will not be called.
  *
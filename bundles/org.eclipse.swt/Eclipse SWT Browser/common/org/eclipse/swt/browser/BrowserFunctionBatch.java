@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.browser;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * Dispatches a batch of <code>BrowserFunction</code> calls that
+ * <code>callJavaAsync</code> collected in javascript and sent in one
+ * message.
+ * <p>
+ * The message is binary so that typed arrays can be passed without
+ * converting them to text:
+ * <pre>
+ * uint32 (little endian)  length of the header
+ * header                  UTF-8 JSON [[[index, token, args], ...], [[type, byteLength, call, index, ...], ...]]
+ * data                    the bytes of every typed array, each aligned to 8 bytes
+ * </pre>
+ * The second list of the header describes the typed arrays in the order
+ * of their data. A typed array is replaced in the arguments by null, and
+ * its description ends with the position of the call and the indices of
+ * the path to it in the arguments of that call. It is passed to the
+ * function as a primitive array of the matching type. The arguments
+ * themselves cannot refer to a typed array, so no value of the page is
+ * mistaken for one.
+ * </p><p>
+ * The response is the UTF-8 JSON array of the results of the calls, in
+ * the order of the calls.
+ * </p>
+ */
+class BrowserFunctionBatch {
+
+/**
+ * Calls the functions of the batch in the message.
+ *
+ * @exception IllegalArgumentException if the message is malformed
+ * @exception IndexOutOfBoundsException if the message is shorter than its header says
+ */
+static ByteBuffer call (Map<Integer, BrowserFunction> functions, byte[] message, int length) {
+	ByteBuffer buffer = ByteBuffer.wrap (message, 0, length).order (ByteOrder.LITTLE_ENDIAN);
+	int headerLength = buffer.getInt (0);
+	if (headerLength < 0 || headerLength > length - 4) throw new IllegalArgumentException ();
+	int offset = 4 + headerLength;
+	Object[] header = toArray (JSON.parse (message, 4, offset));
+	if (header.length != 2) throw new IllegalArgumentException ();
+	Object[] calls = toArray (header[0]);
+	Object[] types = toArray (header[1]);
+
+	buffer.order (ByteOrder.nativeOrder ());
+	for (Object value : types) {
+		Object[] type = toArray (value);
+		if (type.length < 4 || !(type[0] instanceof String name)) throw new IllegalArgumentException ();
+		int byteLength = toIndex (type[1]);
+		offset = (offset + 7) & ~7;
+		Object binary = readBinary (buffer.slice (offset, byteLength).order (ByteOrder.nativeOrder ()), name);
+		offset += byteLength;
+		Object[] target = toArray (toArray (calls[toIndex (type[2])])[2]);
+		for (int i = 3; i < type.length - 1; i++) {
+			target = toArray (target[toIndex (type[i])]);
+		}
+		target[toIndex (type[type.length - 1])] = binary;
+	}
+
+	StringBuilder sb = new StringBuilder ();
+	JSON.Writer writer = new JSON.Writer (sb);
+	sb.append ('[');
+	for (int i = 0; i < calls.length; i++) {
+		if (i != 0) sb.append (',');
+		Object result = null;
+		if (calls[i] instanceof Object[] call && call.length == 3 && call[0] instanceof Double index) {
+			BrowserFunction function = functions.get (index.intValue ());
+			if (function != null && function.token.equals (call[1])) {
+				try {
+					result = function.function ((Object[]) call[2]);
+				} catch (Exception e) {
+					result = WebBrowser.CreateErrorString (e.getLocalizedMessage ());
+				}
+			}
+		}
+		int mark = sb.length ();
+		try {
+			writer.writeAny (result);
+		} catch (IllegalArgumentException e) {
+			sb.setLength (mark);
+			writer.writeAny (WebBrowser.CreateErrorString (e.getLocalizedMessage ()));
+		}
+	}
+	sb.append (']');
+	return StandardCharsets.UTF_8.encode (CharBuffer.wrap (sb));
+}
+
+static Object readBinary (ByteBuffer buffer, String type) {
+	int length = buffer.remaining ();
+	switch (type) {
+		case "Float64Array": {
+			double[] array = new double[length / Double.BYTES];
+			buffer.asDoubleBuffer ().get (array);
+			return array;
+		}
+		case "Float32Array": {
+			float[] array = new float[length / Float.BYTES];
+			buffer.asFloatBuffer ().get (array);
+			return array;
+		}
+		case "BigInt64Array":
+		case "BigUint64Array": {
+			long[] array = new long[length / Long.BYTES];
+			buffer.asLongBuffer ().get (array);
+			return array;
+		}
+		case "Int32Array":
+		case "Uint32Array": {
+			int[] array = new int[length / Integer.BYTES];
+			buffer.asIntBuffer ().get (array);
+			return array;
+		}
+		case "Int16Array":
+		case "Uint16Array": {
+			short[] array = new short[length / Short.BYTES];
+			buffer.asShortBuffer ().get (array);
+			return array;
+		}
+		default: {
+			byte[] array = new byte[length];
+			buffer.get (array);
+			return array;
+		}
+	}
+}
+
+static Object[] toArray (Object value) {
+	if (value instanceof Object[] array) return array;
+	throw new IllegalArgumentException ();
+}
+
+static int toIndex (Object value) {
+	if (value instanceof Double number && number >= 0 && number <= Integer.MAX_VALUE && number == Math.floor (number)) {
+		return number.intValue ();
+	}
+	throw new IllegalArgumentException ();
+}
+
+}
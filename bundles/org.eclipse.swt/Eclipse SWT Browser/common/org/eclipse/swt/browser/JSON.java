@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.swt.browser;
 
+import java.nio.charset.*;
 import java.util.*;
 
 import org.eclipse.swt.*;
@@ -24,10 +25,16 @@ class JSON {
 static class Reader {
 	char[] input;
 	int pos, end;
+	/** Set once the input is exhausted, a '\0' read before that is a character of the input */
+	boolean eof;
 	StringBuilder sb;
 
 	public Reader(char[] input, int start, int end) {
+		this(start, end);
 		this.input = input;
+	}
+
+	Reader(int start, int end) {
 		this.pos = start;
 		this.end = end;
 	}
@@ -37,7 +44,17 @@ static class Reader {
 	}
 
 	char nextChar() {
-		return (pos < end) ? input[pos++] : '\0';
+		if (pos < end) return input[pos++];
+		eof = true;
+		return '\0';
+	}
+
+	String substring(int start, int end) {
+		return String.valueOf(input, start, end - start);
+	}
+
+	void append(StringBuilder sb, int start, int end) {
+		sb.append(input, start, end - start);
 	}
 
 	void error() {
@@ -89,19 +106,19 @@ static class Reader {
 			if (c < 0x20) error();
 			if (c == '\\') {
 				if (sb == null) sb = new StringBuilder();
-				sb.append(input, start, pos - start - 1);
+				append(sb, start, pos - 1);
 				sb.append(readEscape());
 				start = pos;
 			}
 		} while (c != '"');
 
 		if (sb != null) {
-			sb.append(input, start, pos - 1 - start);
+			append(sb, start, pos - 1);
 			String result = sb.toString();
 			sb.setLength(0);
 			return result;
 		}
-		return String.valueOf(input, start, pos - start - 1);
+		return substring(start, pos - 1);
 	}
 
 	double readNumber() {
@@ -125,10 +142,9 @@ static class Reader {
 			case '+':
 			case '-': continue;
 			default:
-				pos--;
-			case '\0':
+				if (!eof) pos--;
 				try {
-					return Double.parseDouble(String.valueOf(input, start, pos - start));
+					return Double.parseDouble(substring(start, pos));
 				} catch (NumberFormatException e) {
 					error();
 				}
@@ -144,7 +160,9 @@ static class Reader {
 			case '\t':
 			case '\r':
 			case '\n': continue;
-			case '\0': return Control.END;
+			case '\0':
+				if (!eof) error();
+				return Control.END;
 			case '[': return readArray();
 			case ']': return Control.ARRAY_END;
 			case ',': return Control.COMMA;
@@ -193,6 +211,397 @@ static class Reader {
 	}
 }
 
+/**
+ * Reads UTF-8 encoded input in place, without decoding it to chars first.
+ * Multi-byte sequences can only occur inside strings, where they are
+ * copied through unchanged.
+ */
+static class Utf8Reader extends Reader {
+	byte[] bytes;
+
+	public Utf8Reader(byte[] input, int start, int end) {
+		super(start, end);
+		this.bytes = input;
+	}
+
+	@Override
+	char nextChar() {
+		if (pos < end) return (char)(bytes[pos++] & 0xFF);
+		eof = true;
+		return '\0';
+	}
+
+	@Override
+	String substring(int start, int end) {
+		return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	void append(StringBuilder sb, int start, int end) {
+		sb.append(substring(start, end));
+	}
+}
+
+/**
+ * Pull parser over a <code>CharSequence</code> or a <code>java.io.Reader</code>.
+ * <p>
+ * Each call to <code>next()</code> reads one token, the values of strings and
+ * numbers are then available from <code>getString()</code> and
+ * <code>getNumber()</code>. Characters are read in place from a
+ * <code>CharSequence</code> and through a small reusable buffer from a
+ * <code>java.io.Reader</code>, no copy of the whole input is made. Numbers
+ * of up to 15 significant digits are converted without allocating, and
+ * <code>readDoubleArray()</code> reads an array of numbers without boxing
+ * its elements.
+ * </p>
+ */
+static class Parser {
+	static enum Event {
+		START_ARRAY, END_ARRAY, STRING, NUMBER, TRUE, FALSE, NULL, END
+	}
+
+	static final double[] POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+		1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	static final int BUFFER_SIZE = 4096;
+
+	CharSequence text;
+	java.io.Reader reader;
+	char[] buffer;
+	int pos, end, offset;
+	/** Set once the input is exhausted, a '\0' read before that is a character of the input */
+	boolean eof;
+	StringBuilder sb = new StringBuilder();
+
+	int depth;
+	boolean hasValue;
+	Event event;
+	double number;
+
+	public Parser(CharSequence input) {
+		this.text = input;
+		this.end = input.length();
+	}
+
+	public Parser(java.io.Reader input) {
+		this.reader = input;
+		this.buffer = new char[BUFFER_SIZE];
+	}
+
+	boolean fill() {
+		if (reader == null) return false;
+		try {
+			offset += end;
+			pos = end = 0;
+			int count = reader.read(buffer, 0, buffer.length);
+			if (count <= 0) return false;
+			end = count;
+			return true;
+		} catch (java.io.IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+			return false;
+		}
+	}
+
+	char charAt(int index) {
+		return text != null ? text.charAt(index) : buffer[index];
+	}
+
+	char nextChar() {
+		if (pos == end && !fill()) {
+			eof = true;
+			return '\0';
+		}
+		return charAt(pos++);
+	}
+
+	void error() {
+		SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, " [decoding error at " + (offset + pos - 1) +"]");
+	}
+
+	void readLiteral(String literal) {
+		for (int i = 0, len = literal.length(); i < len; i++) {
+			if (nextChar() != literal.charAt(i)) {
+				error();
+			}
+		}
+	}
+
+	int nextHexDigit() {
+		char c = nextChar();
+		if ('0' <= c && c <= '9') return c - '0';
+		if ('a' <= c && c <= 'f') return c - 'a' + 10;
+		if ('A' <= c && c <= 'F') return c - 'A' + 10;
+		error();
+		return 0;
+	}
+
+	char readEscape() {
+		char c = nextChar();
+		switch (c) {
+		case '"':
+		case '\\':
+		case '/': break;
+		case 'b': c = '\b'; break;
+		case 'f': c = '\f'; break;
+		case 'n': c = '\n'; break;
+		case 'r': c = '\r'; break;
+		case 't': c = '\t'; break;
+		case 'u':
+			c = (char)((nextHexDigit() << 12) | (nextHexDigit() << 8)
+					| (nextHexDigit() << 4) | nextHexDigit());
+			break;
+		default: error();
+		}
+		return c;
+	}
+
+	void appendRun(int start, int stop) {
+		if (start == stop) return;
+		if (text != null) {
+			sb.append(text, start, stop);
+		} else {
+			sb.append(buffer, start, stop - start);
+		}
+	}
+
+	void readString() {
+		sb.setLength(0);
+		while (true) {
+			int start = pos;
+			while (pos < end) {
+				char c = charAt(pos);
+				if (c == '"' || c == '\\' || c < 0x20) break;
+				pos++;
+			}
+			appendRun(start, pos);
+			if (pos == end) {
+				if (!fill()) {
+					pos++;
+					error();
+				}
+				continue;
+			}
+			char c = charAt(pos++);
+			if (c == '"') return;
+			if (c != '\\') error();
+			sb.append(readEscape());
+		}
+	}
+
+	void readNumber(char first) {
+		sb.setLength(0);
+		sb.append(first);
+		while (true) {
+			if (pos == end && !fill()) break;
+			char c = charAt(pos);
+			if (('0' <= c && c <= '9') || c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-') {
+				sb.append(c);
+				pos++;
+			} else {
+				break;
+			}
+		}
+		number = parseNumber(sb);
+	}
+
+	/*
+	 * The mantissa of a number with at most 15 significant digits is exact
+	 * as a double, and so are the powers of ten up to 1e22, so one multiply
+	 * or divide gives the correctly rounded result. Other numbers are left
+	 * to Double.parseDouble().
+	 */
+	double parseNumber(CharSequence s) {
+		int length = s.length(), i = 0;
+		boolean negative = s.charAt(0) == '-';
+		if (negative) i++;
+		long mantissa = 0;
+		int digits = 0, scale = 0, integerStart = i;
+		char c = 0;
+		for (; i < length && '0' <= (c = s.charAt(i)) && c <= '9'; i++) {
+			if (mantissa != 0 || c != '0') digits++;
+			mantissa = mantissa * 10 + (c - '0');
+		}
+		boolean valid = i > integerStart;
+		if (i < length && c == '.') {
+			int fractionStart = ++i;
+			for (; i < length && '0' <= (c = s.charAt(i)) && c <= '9'; i++) {
+				if (mantissa != 0 || c != '0') digits++;
+				mantissa = mantissa * 10 + (c - '0');
+			}
+			scale = i - fractionStart;
+			valid &= scale > 0;
+		}
+		int exponent = 0;
+		if (valid && i < length && (c == 'e' || c == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < length && ((c = s.charAt(i)) == '+' || c == '-')) {
+				negativeExponent = c == '-';
+				i++;
+			}
+			int exponentStart = i;
+			for (; i < length && '0' <= (c = s.charAt(i)) && c <= '9' && i - exponentStart < 9; i++) {
+				exponent = exponent * 10 + (c - '0');
+			}
+			valid &= i > exponentStart;
+			if (negativeExponent) exponent = -exponent;
+		}
+		exponent -= scale;
+		if (valid && i == length && digits <= 15 && -22 <= exponent && exponent <= 22) {
+			double value = mantissa;
+			value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+			return negative ? -value : value;
+		}
+		try {
+			return Double.parseDouble(s.toString());
+		} catch (NumberFormatException e) {
+			error();
+			return 0;
+		}
+	}
+
+	char skipWhitespace() {
+		while (true) {
+			char c = nextChar();
+			switch (c) {
+			case ' ':
+			case '\t':
+			case '\r':
+			case '\n': continue;
+			default: return c;
+			}
+		}
+	}
+
+	/**
+	 * Reads the next token.
+	 *
+	 * @return the kind of the token, <code>END</code> once the top level value has been read
+	 */
+	public Event next() {
+		char c = skipWhitespace();
+		if (hasValue) {
+			if (depth == 0) {
+				if (c != '\0' || !eof) error();
+				return event = Event.END;
+			}
+			if (c == ']') {
+				depth--;
+				return event = Event.END_ARRAY;
+			}
+			if (c != ',') error();
+			c = skipWhitespace();
+		} else if (c == ']' && depth > 0 && event == Event.START_ARRAY) {
+			depth--;
+			hasValue = true;
+			return event = Event.END_ARRAY;
+		}
+		hasValue = true;
+		switch (c) {
+		case '[':
+			depth++;
+			hasValue = false;
+			return event = Event.START_ARRAY;
+		case '"':
+			readString();
+			return event = Event.STRING;
+		case '0':
+		case '1':
+		case '2':
+		case '3':
+		case '4':
+		case '5':
+		case '6':
+		case '7':
+		case '8':
+		case '9':
+		case '-':
+			readNumber(c);
+			return event = Event.NUMBER;
+		case 'n': readLiteral("ull"); return event = Event.NULL;
+		case 't': readLiteral("rue"); return event = Event.TRUE;
+		case 'f': readLiteral("alse"); return event = Event.FALSE;
+		default:
+			error();
+			return null;
+		}
+	}
+
+	/**
+	 * @return the value of the current <code>STRING</code> token
+	 */
+	public String getString() {
+		if (event != Event.STRING) error();
+		return sb.toString();
+	}
+
+	/**
+	 * @return the value of the current <code>NUMBER</code> token
+	 */
+	public double getNumber() {
+		if (event != Event.NUMBER) error();
+		return number;
+	}
+
+	/**
+	 * Reads the value that starts with the current token, arrays are
+	 * read as a whole and returned as <code>Object[]</code>.
+	 */
+	public Object getValue() {
+		switch (event) {
+		case START_ARRAY: return readArray();
+		case STRING: return sb.toString();
+		case NUMBER: return number;
+		case TRUE: return true;
+		case FALSE: return false;
+		case NULL: return null;
+		default:
+			error();
+			return null;
+		}
+	}
+
+	Object[] readArray() {
+		Object[] items = new Object[8];
+		int count = 0;
+		while (next() != Event.END_ARRAY) {
+			if (count == items.length) items = Arrays.copyOf(items, count * 2);
+			items[count++] = getValue();
+		}
+		return Arrays.copyOf(items, count);
+	}
+
+	/**
+	 * Reads an array of numbers, the current token must be the
+	 * <code>START_ARRAY</code> of the array or the token before it.
+	 * The elements are parsed straight into the result, none of them
+	 * is boxed.
+	 */
+	public double[] readDoubleArray() {
+		if (event != Event.START_ARRAY && next() != Event.START_ARRAY) error();
+		double[] values = new double[16];
+		int count = 0;
+		while (next() != Event.END_ARRAY) {
+			if (event != Event.NUMBER) error();
+			if (count == values.length) values = Arrays.copyOf(values, count * 2);
+			values[count++] = number;
+		}
+		return Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * Reads the whole input as one value.
+	 */
+	public Object readTop() {
+		if (next() == Event.END) error();
+		Object value = getValue();
+		if (next() != Event.END) error();
+		return value;
+	}
+}
+
 static class Writer {
 	static final String[] ESCAPED = new String[96];
 	static {
@@ -208,67 +617,130 @@ static class Writer {
 		ESCAPED['\\'] = "\\\\";		
 	}
 
-	StringBuilder sb = new StringBuilder();
+	Appendable out;
+	/** Formats numbers when the output is not a StringBuilder itself */
+	StringBuilder numberBuffer;
+
+	Writer() {
+		this(new StringBuilder());
+	}
+
+	/** Streams the text to the given output as it is written. */
+	Writer(Appendable out) {
+		this.out = out;
+	}
 
 	public Writer(Object object) {
+		this();
 		writeAny(object);
 	}
 
+	void append(char c) {
+		try {
+			out.append(c);
+		} catch (java.io.IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+		}
+	}
+
+	void append(CharSequence s) {
+		try {
+			out.append(s);
+		} catch (java.io.IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+		}
+	}
+
+	void append(CharSequence s, int start, int end) {
+		try {
+			out.append(s, start, end);
+		} catch (java.io.IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+		}
+	}
+
 	void writeAny(Object object) {
 		if (object == null) {
-			sb.append("null");
+			append("null");
 		} else if (object instanceof Boolean) {
-			sb.append(object.toString());
-		} else if (object instanceof Long) {
-			sb.append((long)object);
-		} else if (object instanceof Integer) {
-			sb.append((int)object);
-		} else if (object instanceof Short) {
-			sb.append((short)object);
-		} else if (object instanceof Byte) {
-			sb.append((byte)object);
-		} else if (object instanceof Double) {
-			sb.append((double)object);
-		} else if (object instanceof Float) {
-			sb.append((float)object);
+			append(object.toString());
+		} else if (object instanceof Long || object instanceof Integer || object instanceof Short || object instanceof Byte
+				|| object instanceof Double || object instanceof Float) {
+			writeNumber((Number)object);
 		} else if (object instanceof String) {
 			writeString(object.toString());
 		} else if (object instanceof Object[]) {
 			writeArray((Object[])object);
+		} else if (object instanceof double[]) {
+			writeArray((double[])object);
 		} else {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT, null, " [object not encodable: " + object.getClass() + "]");
 		}
 	}
 
+	StringBuilder numberBuilder() {
+		if (out instanceof StringBuilder sb) return sb;
+		if (numberBuffer == null) numberBuffer = new StringBuilder();
+		numberBuffer.setLength(0);
+		return numberBuffer;
+	}
+
+	void writeNumber(Number number) {
+		StringBuilder sb = numberBuilder();
+		if (number instanceof Double) {
+			sb.append(number.doubleValue());
+		} else if (number instanceof Float) {
+			sb.append(number.floatValue());
+		} else {
+			sb.append(number.longValue());
+		}
+		if (sb != out) append(sb);
+	}
+
+	void writeNumber(double number) {
+		StringBuilder sb = numberBuilder();
+		sb.append(number);
+		if (sb != out) append(sb);
+	}
+
 	void writeString(String s) {
-		sb.append('"');
+		append('"');
 		int start = 0;
 		for (int i = 0, len = s.length(); i < len; i++) {
 			char c = s.charAt(i);
 			if (c < ESCAPED.length && ESCAPED[c] != null) {
-				sb.append(s, start, i);
-				sb.append(ESCAPED[c]);
+				append(s, start, i);
+				append(ESCAPED[c]);
 				start = i + 1;
 			}
 		}
-		sb.append(s, start, s.length());
-		sb.append('"');
+		append(s, start, s.length());
+		append('"');
 	}
 
 	void writeArray(Object[] array) {
-		sb.append('[');
+		append('[');
 		boolean first = true;
 		for (Object item : array) {
-			if (!first) sb.append(',');
+			if (!first) append(',');
 			writeAny(item);
 			first = false;
 		}
-		sb.append(']');
+		append(']');
+	}
+
+	void writeArray(double[] array) {
+		append('[');
+		for (int i = 0; i < array.length; i++) {
+			if (i != 0) append(',');
+			writeNumber(array[i]);
+		}
+		append(']');
 	}
 
 	@Override
 	public String toString() {
-		return sb.toString();
+		return out.toString();
 	}
 }
 
@@ -276,12 +748,24 @@ public static Object parse(char[] input) {
 	return new Reader(input, 0, input.length).readTop();
 }
 
-public static Object parse(String input) {
-	return parse(input.toCharArray());
+public static Object parse(CharSequence input) {
+	return new Parser(input).readTop();
+}
+
+public static Object parse(java.io.Reader input) {
+	return new Parser(input).readTop();
+}
+
+public static Object parse(byte[] utf8, int start, int end) {
+	return new Utf8Reader(utf8, start, end).readTop();
 }
 
 public static String stringify(Object object) {
 	return new Writer(object).toString();
 }
 
+public static void stringify(Object object, Appendable out) {
+	new Writer(out).writeAny(object);
+}
+
 }
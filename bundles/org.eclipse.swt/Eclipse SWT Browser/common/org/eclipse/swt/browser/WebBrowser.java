@@ -15,6 +15,7 @@ package org.eclipse.swt.browser;
 
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.widgets.*;
@@ -336,12 +337,26 @@ public void createFunction (BrowserFunction function) {
 	functionBuffer.append (ERROR_ID.length ());
 	functionBuffer.append (")); throw error;} return result;};"); //$NON-NLS-1$
 
+	/* name.async(...) returns a promise of the result, calls can be batched */
+	StringBuilder asyncBuffer = new StringBuilder (function.name);
+	asyncBuffer.append (".async = function () {return callJavaAsync("); //$NON-NLS-1$
+	asyncBuffer.append (function.index);
+	asyncBuffer.append (",'"); //$NON-NLS-1$
+	asyncBuffer.append (function.token);
+	asyncBuffer.append ("',Array.prototype.slice.call(arguments)).then(function (result) {if (typeof result == 'string' && result.indexOf('"); //$NON-NLS-1$
+	asyncBuffer.append (ERROR_ID);
+	asyncBuffer.append ("') == 0) {throw new Error(result.substring("); //$NON-NLS-1$
+	asyncBuffer.append (ERROR_ID.length ());
+	asyncBuffer.append ("));} return result;});};"); //$NON-NLS-1$
+
 	String javaCallDeclaration = getJavaCallDeclaration();
 
 	StringBuilder buffer = new StringBuilder ();
 	buffer.append (javaCallDeclaration);
+	buffer.append (getJavaCallAsyncDeclaration ());
 	if (function.top) {
 		buffer.append (functionBuffer.toString ());
+		buffer.append (asyncBuffer.toString ());
 	}
 
 	buffer.append ("var frameIds = null;"); //$NON-NLS-1$
@@ -361,6 +376,8 @@ public void createFunction (BrowserFunction function) {
 	buffer.append ("for (var i = 0; i < frames.length; i++) {try {if (!frameIds || (frames[i].name && frameIds[frames[i].name])) {"); //$NON-NLS-1$
 	buffer.append ("if (!frames[i].callJava) {frames[i].callJava = window.callJava;} frames[i]."); //$NON-NLS-1$
 	buffer.append (functionBuffer.toString ());
+	buffer.append ("if (!frames[i].callJavaAsync) {frames[i].callJavaAsync = window.callJavaAsync;} frames[i]."); //$NON-NLS-1$
+	buffer.append (asyncBuffer.toString ());
 	buffer.append ("}} catch(e) {}};"); //$NON-NLS-1$
 
 	function.functionString = buffer.toString ();
@@ -379,6 +396,21 @@ String getJavaCallDeclaration() {
 			+ "};\n";
 }
 
+/**
+ * Designed to be overridden.
+ * @return javaScript code that defines the 'callJavaAsync' syntax for javascript,
+ * which returns a promise of the result. The default makes a 'callJava' call,
+ * implementations that can batch calls into one message override it.
+ */
+String getJavaCallAsyncDeclaration() {
+	return    "if (!window.callJavaAsync) {\n"
+			+ "		window.callJavaAsync = function callJavaAsync(index, token, args) {\n"
+			+ "			args = args.map(function(arg) {return ArrayBuffer.isView(arg) ? Array.prototype.slice.call(arg) : arg;});\n"
+			+ "			return new Promise(function(resolve) {resolve(callJava(index, token, args));});\n"
+			+ "		}\n"
+			+ "};\n";
+}
+
 void deregisterFunction (BrowserFunction function) {
 	functions.remove (function.index);
 }
@@ -456,6 +488,18 @@ public Object evaluate (String script) throws SWTException {
 	return result;
 }
 
+// Designed to be overridden by platform implementations with an asynchronous script API.
+// The default evaluates synchronously and hands back an already completed future.
+public CompletableFuture<Object> evaluateAsync (String script) {
+	CompletableFuture<Object> future = new CompletableFuture<> ();
+	try {
+		future.complete (evaluate (script));
+	} catch (SWTException e) {
+		future.completeExceptionally (e);
+	}
+	return future;
+}
+
 public abstract boolean forward ();
 
 public abstract String getBrowserType ();
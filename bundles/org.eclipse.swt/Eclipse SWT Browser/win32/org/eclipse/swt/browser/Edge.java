@@ -84,6 +84,8 @@ class Edge extends WebBrowser {
 	static int inCallback;
 	boolean inNewWindow;
 	private boolean inEvaluate;
+	/** Futures of evaluateAsync() calls whose result has not arrived yet. */
+	private final Set<CompletableFuture<Object>> pendingEvaluations = new HashSet<>();
 	HashMap<Long, LocationEvent> navigations = new HashMap<>();
 	/** Maps BrowserFunction index to the script ID from AddScriptToExecuteOnDocumentCreated. */
 	private final Map<Integer, String> functionScriptIds = new HashMap<>();
@@ -863,6 +865,10 @@ void setupBrowser(int hr, long pv) {
 
 void browserDispose(Event event) {
 	containingEnvironment.instances.remove(this);
+	for (CompletableFuture<Object> future : new ArrayList<>(pendingEvaluations)) {
+		future.completeExceptionally(new SWTException(SWT.ERROR_WIDGET_DISPOSED));
+	}
+	pendingEvaluations.clear();
 	webViewProvider.scheduleWebViewTask(() -> {
 		webViewProvider.releaseWebView();
 		if (environment2 != null) environment2.Release();
@@ -997,7 +1003,11 @@ private Object evaluateInternal(String script) throws SWTException {
 		inEvaluate = false;
 	}
 
-	Object data = JSON.parse(pJson[0]);
+	return parseEvaluateResult(pJson[0]);
+}
+
+private static Object parseEvaluateResult(String json) throws SWTException {
+	Object data = JSON.parse(json);
 	if (data instanceof String && ((String) data).startsWith(ERROR_ID)) {
 		String errorMessage = ((String) data).substring(ERROR_ID.length());
 		throw new SWTException (SWT.ERROR_FAILED_EVALUATE, errorMessage);
@@ -1005,6 +1015,40 @@ private Object evaluateInternal(String script) throws SWTException {
 	return data;
 }
 
+@Override
+public CompletableFuture<Object> evaluateAsync(String script) {
+	// Feature in WebView2. ExecuteScript works regardless of IsScriptEnabled setting.
+	// Disallow programmatic execution manually.
+	if (!jsEnabled) return CompletableFuture.completedFuture(null);
+	String script2 = "(function() {try { " + script + " } catch (e) { return '" + ERROR_ID + "' + e.message; } })();\0";
+	CompletableFuture<Object> future = new CompletableFuture<>();
+	pendingEvaluations.add(future);
+	// Unlike evaluate(), neither wait for the WebView nor for the result.
+	// The completion handler is invoked on the UI thread.
+	webViewProvider.scheduleWebViewTask(() -> {
+		if (future.isDone()) return;
+		IUnknown completion = newCallback((long result, long pszJson) -> {
+			if (!pendingEvaluations.remove(future)) return COM.S_OK;
+			if ((int)result != COM.S_OK) {
+				future.completeExceptionally(new SWTException(SWT.ERROR_FAILED_EVALUATE, String.format("Failed to evaluate javascript expression [0x%08x]", (int)result)));
+				return COM.S_OK;
+			}
+			try {
+				future.complete(parseEvaluateResult(wstrToString(pszJson, false)));
+			} catch (SWTException e) {
+				future.completeExceptionally(e);
+			}
+			return COM.S_OK;
+		});
+		int hr = webViewProvider.getWebView(false).ExecuteScript(script2.toCharArray(), completion);
+		completion.Release();
+		if (hr != COM.S_OK && pendingEvaluations.remove(future)) {
+			future.completeExceptionally(new SWTException(SWT.ERROR_FAILED_EVALUATE, String.format("Failed to evaluate javascript expression [0x%08x]", hr)));
+		}
+	});
+	return future;
+}
+
 @Override
 public boolean execute(String script) {
 	// Feature in WebView2. ExecuteScript works regardless of IsScriptEnabled setting.
@@ -1104,7 +1148,7 @@ static class HandleCoreWebView2SwtHost implements ICoreWebView2SwtHost {
 			inCallback++;
 			try {
 				String argsJson = bstrToString(bstrArgsJson);
-				Object args = JSON.parse(argsJson.toCharArray());
+				Object args = JSON.parse(argsJson);
 				result = function.function((Object[]) args);
 			} catch (Throwable e) {
 				result = WebBrowser.CreateErrorString(e.getLocalizedMessage());
@@ -31,10 +31,36 @@ class HTMLWriter extends StyledTextWriterBase {
 	private String tag;
 	private boolean multiline;
 
-	public HTMLWriter(StyledText styledText, int start, int length, StyledTextContent content) {
+	public HTMLWriter(StyledText styledText, int start, int length) {
 		super(styledText, start, length);
-		String text = content.getTextRange(start, length);
-		multiline = text.contains("\n");
+		init();
+	}
+
+	/**
+	 * Creates a writer that writes the HTML to {@code out}.
+	 *
+	 * @param styledText the widget to produce the HTML from
+	 * @param start start offset of content to write, 0 based from beginning of document
+	 * @param length length of content to write
+	 * @param out the destination of the HTML
+	 */
+	HTMLWriter(StyledText styledText, int start, int length, Appendable out) {
+		super(styledText, start, length, out);
+		init();
+	}
+
+	/**
+	 * Creates a writer that writes the HTML of a snapshot.
+	 *
+	 * @param snapshot the snapshot to produce the HTML from
+	 */
+	HTMLWriter(Snapshot snapshot) {
+		super(snapshot);
+		init();
+	}
+
+	private void init() {
+		multiline = snapshot.multiline;
 		tag = multiline ? "div" : "span";
 		writeHeader();
 	}
@@ -53,24 +79,24 @@ class HTMLWriter extends StyledTextWriterBase {
 		StringBuilder outerDivStyle = new StringBuilder();
 		StringBuilder innerDivStyle = new StringBuilder();
 
-		appendStyle(outerDivStyle, "background-color:", styledText.getMarginColor(), ";");
-		appendStyle(innerDivStyle, "color:", styledText.getForeground(), ";");
-		appendStyle(innerDivStyle, "background-color:", styledText.getBackground(), ";");
+		appendStyle(outerDivStyle, "background-color:", snapshot.marginColor, ";");
+		appendStyle(innerDivStyle, "color:", snapshot.foreground, ";");
+		appendStyle(innerDivStyle, "background-color:", snapshot.background, ";");
 
 		appendStyle(outerDivStyle, "padding:"
-						+ styledText.getTopMargin() + "px "
-						+ styledText.getRightMargin() + "px "
-						+ styledText.getBottomMargin() + "px "
-						+ styledText.getLeftMargin() + "px;");
+						+ snapshot.topMargin + "px "
+						+ snapshot.rightMargin + "px "
+						+ snapshot.bottomMargin + "px "
+						+ snapshot.leftMargin + "px;");
 
-		String language = appendFont(innerDivStyle, styledText.getFont(), 0);
+		String language = appendFont(innerDivStyle, snapshot.font, 0);
 
-		int indent = styledText.getIndent();
+		int indent = snapshot.indent;
 		if (indent != 0) {
 			appendStyle(innerDivStyle, "text-indent:", indent, "px;");
 		}
 
-		if (styledText.getWordWrap()) {
+		if (snapshot.wordWrap) {
 			// Sequences of white space are preserved.
 			// Lines are broken at newline characters, at <br>, and as necessary to fill line boxes.
 			appendStyle(innerDivStyle, "white-space:pre-wrap;");
@@ -80,9 +106,9 @@ class HTMLWriter extends StyledTextWriterBase {
 			appendStyle(innerDivStyle, "white-space:pre;");
 		}
 
-		appendAlignAndJustify(innerDivStyle, styledText.getAlignment(), styledText.getJustify());
+		appendAlignAndJustify(innerDivStyle, snapshot.alignment, snapshot.justify);
 
-		if (styledText.getOrientation() == SWT.RIGHT_TO_LEFT || styledText.getTextDirection() == SWT.RIGHT_TO_LEFT) {
+		if (snapshot.rightToLeft) {
 			appendStyle(innerDivStyle, "direction:rtl;");
 		}
 
@@ -233,28 +259,31 @@ class HTMLWriter extends StyledTextWriterBase {
 	// ==== Helper methods ====
 
 	@Override
-	String escapeText(String string) {
-		// The resulting string is at least as long as the original.
-		StringBuilder result = new StringBuilder(string.length());
-		string.chars().forEach(ch -> {
-			switch (ch) {
+	void writeEscaped(String string, int start, int end) {
+		int runStart = start;
+		for (int i = start; i < end; i++) {
+			String entity;
+			switch (string.charAt(i)) {
 				case '&':
-					result.append("&amp;");
+					entity = "&amp;";
 					break;
 				case '"':
-					result.append("&quot;");
+					entity = "&quot;";
 					break;
 				case '<':
-					result.append("&lt;");
+					entity = "&lt;";
 					break;
 				case '>':
-					result.append("&gt;");
+					entity = "&gt;";
 					break;
 				default:
-					result.append((char) ch);
+					continue;
 			}
-		});
-		return result.toString();
+			write(string, runStart, i);
+			write(entity);
+			runStart = i + 1;
+		}
+		write(string, runStart, end);
 	}
 
 	// TODO: do we also want support for alpha?
@@ -36,21 +36,66 @@ class RTFWriter extends StyledTextWriterBase {
 	static final int DEFAULT_BACKGROUND = 1;
 	List<Color> colorTable;
 	List<Font> fontTable;
+	boolean headerWritten;
 
 	public RTFWriter(StyledText styledText, int start, int length) {
 		super(styledText, start, length);
+		createTables();
+	}
+
+	/**
+	 * Creates a writer that writes the RTF to {@code out}.
+	 * <p>
+	 * The font and color tables are part of the header, so they have to be
+	 * known before the content is written. They are taken from {@code tables},
+	 * a writer that already wrote the same content. If {@code tables} is null
+	 * the tables are collected while writing and the header is written last,
+	 * which is only useful for such a first pass.</p>
+	 *
+	 * @param styledText the widget to produce the RTF from
+	 * @param start start offset of content to write, 0 based from beginning of document
+	 * @param length length of content to write
+	 * @param out the destination of the RTF
+	 * @param tables writer that collected the font and color tables, or null
+	 */
+	RTFWriter(StyledText styledText, int start, int length, Appendable out, RTFWriter tables) {
+		super(styledText, start, length, out);
+		if (tables == null) {
+			createTables();
+		} else {
+			colorTable = tables.colorTable;
+			fontTable = tables.fontTable;
+			write(getHeader());
+			headerWritten = true;
+		}
+	}
+
+	/**
+	 * Creates a writer that writes the RTF of a snapshot.
+	 *
+	 * @param snapshot the snapshot to produce the RTF from
+	 */
+	RTFWriter(Snapshot snapshot) {
+		super(snapshot);
+		createTables();
+	}
+
+	private void createTables() {
 		colorTable = new ArrayList<>();
 		fontTable = new ArrayList<>();
-		colorTable.add(this.styledText.getForeground());
-		colorTable.add(this.styledText.getBackground());
-		fontTable.add(this.styledText.getFont());
+		colorTable.add(snapshot.foreground);
+		colorTable.add(snapshot.background);
+		fontTable.add(snapshot.font);
 	}
 
 	@Override
 	public void close() {
 		if (!isClosed()) {
-			writeHeader();
-			write("\n}}\0");
+			if (!headerWritten) {
+				writeHeader();
+			}
+			// the null character terminates the clipboard string, a stream ends with the group
+			write(isStreamed() ? "\n}}" : "\n}}\0");
 			super.close();
 		}
 	}
@@ -60,8 +105,12 @@ class RTFWriter extends StyledTextWriterBase {
 	 */
 	@Override
 	void writeHeader() {
+		write(getHeader(), 0);
+	}
+
+	private String getHeader() {
 		StringBuilder header = new StringBuilder();
-		FontData fontData = styledText.getFont().getFontData()[0];
+		FontData fontData = snapshot.font.getFontData()[0];
 		header.append("{\\rtf1\\ansi");
 		// specify code page, necessary for copy to work in bidi
 		// systems that don't support Unicode RTF.
@@ -98,7 +147,7 @@ class RTFWriter extends StyledTextWriterBase {
 		// font size is specified in half points
 		header.append(fontData.getHeight() * 2);
 		header.append(" ");
-		write(header.toString(), 0);
+		return header.toString();
 	}
 
 	@Override
@@ -195,23 +244,25 @@ class RTFWriter extends StyledTextWriterBase {
 	// ==== Helper methods ====
 
 	@Override
-	String escapeText(String string) {
-		// The resulting string is at least as long as the original.
-		StringBuilder result = new StringBuilder(string.length());
-		string.chars().forEach(ch -> {
-			if (ch > 0x7F) {
-				result.append("\\u");
-				result.append(Integer.toString((short) ch));
-				result.append('?'); // ANSI representation (1 byte long, \\uc1)
-			} else if (ch == '}' || ch == '{' || ch == '\\') {
-				result.append('\\');
-				result.append((char) ch);
-			} else {
-				// Fixes bug 21698.
-				result.append((char) ch);
+	void writeEscaped(String string, int start, int end) {
+		// Characters that need no escaping are copied unchanged, in runs. Fixes bug 21698.
+		int runStart = start;
+		for (int i = start; i < end; i++) {
+			char ch = string.charAt(i);
+			if (ch > 0x7F || ch == '}' || ch == '{' || ch == '\\') {
+				write(string, runStart, i);
+				if (ch > 0x7F) {
+					write("\\u");
+					write((short) ch);
+					write('?'); // ANSI representation (1 byte long, \\uc1)
+				} else {
+					write('\\');
+					write(ch);
+				}
+				runStart = i + 1;
 			}
-		});
-		return result.toString();
+		}
+		write(string, runStart, end);
 	}
 
 	/**
@@ -18,7 +18,9 @@
 package org.eclipse.swt.custom;
 
 
+import java.io.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.eclipse.swt.*;
@@ -161,6 +163,15 @@ public class StyledText extends Canvas {
 	int lastTextChangeReplaceCharCount;
 	int lastCharCount = 0;
 	int lastLineBottom;					// the bottom pixel of the last line been replaced
+	int compoundChangeDepth;			// nesting of beginCompoundChange
+	int compoundChangeStart = -1;		// union of the text changes made since beginCompoundChange,
+	int compoundChangeEnd;				// in current offsets, and the number of characters
+	int compoundChangeReplaceCharCount;	// it covered before the first change
+	boolean compoundChangeLineCountChanged;
+	boolean compoundChangeModified;
+	boolean compoundChangeScrolled;		// the text was scrolled to keep it in place
+	Point[] compoundChangeSelection;	// selection and carets before the first change
+	int[] compoundChangeCaretOffsets;
 	boolean bidiColoring = false;		// apply the BIDI algorithm on text segments of the same color
 	Image leftCaretBitmap = null;
 	Image rightCaretBitmap = null;
@@ -199,6 +210,46 @@ public class StyledText extends Canvas {
 		IS_GTK = "gtk".equals(platform);
 	}
 
+	/**
+	 * The rich text (RTF or HTML) of a copied range. The text is generated
+	 * when another application asks the clipboard for it, from the snapshot
+	 * of the lines and their styles that was taken when the range was copied.
+	 */
+	static class DeferredClipboardText implements Supplier<String> {
+		StyledTextWriterBase.Snapshot snapshot;		// null once the text was generated
+		final boolean html;
+		String text;
+		OutOfMemoryError error;							// set if the text could not be generated
+
+	DeferredClipboardText(StyledTextWriterBase.Snapshot snapshot, boolean html) {
+		this.snapshot = snapshot;
+		this.html = html;
+	}
+
+	@Override
+	public String get() {
+		if (snapshot != null) {
+			StyledTextWriterBase.Snapshot snapshot = this.snapshot;
+			this.snapshot = null;
+			try {
+				StyledTextWriterBase writer = html ? new HTMLWriter(snapshot) : new RTFWriter(snapshot);
+				writer.writeSnapshot();
+				text = writer.toString();
+				if (html) text = "" + text; //cause extra memory pressure to fail fast instead of failing in HTMLTransfer.javaToNative()
+			} catch (OutOfMemoryError oome) {
+				// Adding RTF and HTML text may increase size by factor > 15
+				// fall back: only the plain text is available
+				text = null;
+				error = oome;
+			} catch (SWTException e) {
+				// a font or a color of the copied styles was disposed since
+				text = null;
+			}
+		}
+		return text;
+	}
+	}
+
 	/**
 	 * The Printing class implements printing of a range of text.
 	 * An instance of <code>Printing</code> is returned in the
@@ -746,7 +797,7 @@ public StyledText(Composite parent, int style) {
 			int direction = BidiUtil.getKeyboardLanguage() == BidiUtil.KEYBOARD_BIDI ? SWT.RIGHT : SWT.LEFT;
 			if (direction == caretDirection) return;
 			if (getCaret() != defaultCaret) return;
-			setCaretLocations(Arrays.stream(caretOffsets).mapToObj(this::getPointAtOffset).toArray(Point[]::new), direction);
+			setCaretLocations(getPointsAtOffsets(caretOffsets), direction);
 		};
 		BidiUtil.addLanguageListener(this, runnable);
 	}
@@ -1038,6 +1089,36 @@ public void append(String string) {
 	int lastChar = Math.max(getCharCount(), 0);
 	replaceTextRange(lastChar, 0, string);
 }
+/**
+ * Starts a compound change. Until the matching call to
+ * <code>endCompoundChange()</code> the text changes made with
+ * <code>replaceTextRange(int, int, String)</code>, <code>insert(String)</code>,
+ * <code>append(String)</code> or directly on the content are applied
+ * immediately, so offsets passed to the following changes refer to the
+ * changed text, but the widget only keeps the styles, line attributes and
+ * selection in sync. Redrawing, scrolling, updating the scroll bars and the
+ * caret location and notifying accessibility clients is done once for all
+ * changes when the compound change ends.
+ * <p>
+ * <code>ExtendedModifyListener</code>s are notified for every change so they
+ * can record undo information, <code>ModifyListener</code>s are notified once
+ * when the compound change ends. Compound changes can be nested, the work is
+ * done when the outermost compound change ends.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #endCompoundChange()
+ *
+ * @since 3.134
+ */
+public void beginCompoundChange() {
+	checkWidget();
+	compoundChangeDepth++;
+}
 /**
  * Calculates the scroll bars
  */
@@ -1278,6 +1359,7 @@ public Point computeSize (int wHint, int hHint, boolean changed) {
  * Copies the selected text to the <code>DND.CLIPBOARD</code> clipboard.
  * <p>
  * The text will be put on the clipboard in plain text, HTML, and RTF formats.
+ * The HTML and RTF formats are created when they are requested from the clipboard.
  * The <code>DND.CLIPBOARD</code> clipboard is used for data that is
  * transferred by keyboard accelerator (such as Ctrl+C/Ctrl+V) or
  * by menu action.
@@ -2200,16 +2282,20 @@ void doLineDown(boolean select) {
 	int[] newCaretOffsets = new int[caretOffsets.length];
 	int lineCount = content.getLineCount();
 	int[] alignment = new int[1];
+	Point[] caretPoints = caretOffsets.length == 1 ? null : getPointsAtOffsets(caretOffsets);
+	TextLayout layout = null;
+	int layoutLine = -1;
 	for (int i = 0; i < caretOffsets.length; i++) {
 		int caretOffset = caretOffsets[i];
 		int caretLine = content.getLineAtOffset(caretOffset);
-		int x = caretOffsets.length == 1 ? columnX : getPointAtOffset(caretOffset).x;
+		int x = caretPoints == null ? columnX : caretPoints[i].x;
 		int y = 0;
 		boolean lastLine = false;
 		if (isWordWrap()) {
 			int lineOffset = content.getOffsetAtLine(caretLine);
 			int offsetInLine = caretOffset - lineOffset;
-			TextLayout layout = renderer.getTextLayout(caretLine);
+			layout = getTextLayout(layout, layoutLine, caretLine);
+			layoutLine = caretLine;
 			int lineIndex = getVisualLineIndex(layout, offsetInLine);
 			int layoutLineCount = layout.getLineCount();
 			if (lineIndex == layoutLineCount - 1) {
@@ -2219,7 +2305,6 @@ void doLineDown(boolean select) {
 				y = layout.getLineBounds(lineIndex + 1).y;
 				y++; // bug 485722: workaround for fractional line heights
 			}
-			renderer.disposeTextLayout(layout);
 		} else {
 			lastLine = caretLine == lineCount - 1;
 			caretLine++;
@@ -2227,9 +2312,12 @@ void doLineDown(boolean select) {
 		if (lastLine) {
 			newCaretOffsets[i] = content.getCharCount();
 		} else {
-			newCaretOffsets[i] = getOffsetAtPoint(x, y, caretLine, alignment);
+			layout = getTextLayout(layout, layoutLine, caretLine);
+			layoutLine = caretLine;
+			newCaretOffsets[i] = getOffsetAtPoint(layout, x, y, caretLine, alignment);
 		}
 	}
+	if (layout != null) renderer.disposeTextLayout(layout);
 	boolean hitLastLine = content.getLineAtOffset(newCaretOffsets[newCaretOffsets.length - 1]) == lineCount - 1;
 	setCaretOffsets(newCaretOffsets, hitLastLine ? SWT.DEFAULT : alignment[0]);
 	int oldColumnX = columnX;
@@ -2301,16 +2389,20 @@ void doLineStart() {
 void doLineUp(boolean select) {
 	int[] newCaretOffsets = new int[caretOffsets.length];
 	int[] alignment = new int[1];
+	Point[] caretPoints = caretOffsets.length == 1 ? null : getPointsAtOffsets(caretOffsets);
+	TextLayout layout = null;
+	int layoutLine = -1;
 	for (int i = 0; i < caretOffsets.length; i++) {
 		int caretOffset = caretOffsets[i];
 		int caretLine = content.getLineAtOffset(caretOffset);
-		int x = caretOffsets.length == 1 ? columnX : getPointAtOffset(caretOffset).x;
+		int x = caretPoints == null ? columnX : caretPoints[i].x;
 		int y = 0;
 		boolean firstLine = false;
 		if (isWordWrap()) {
 			int lineOffset = content.getOffsetAtLine(caretLine);
 			int offsetInLine = caretOffset - lineOffset;
-			TextLayout layout = renderer.getTextLayout(caretLine);
+			layout = getTextLayout(layout, layoutLine, caretLine);
+			layoutLine = caretLine;
 			int lineIndex = getVisualLineIndex(layout, offsetInLine);
 			if (lineIndex == 0) {
 				firstLine = caretLine == 0;
@@ -2323,7 +2415,6 @@ void doLineUp(boolean select) {
 				y = layout.getLineBounds(lineIndex - 1).y;
 				y++; // bug 485722: workaround for fractional line heights
 			}
-			renderer.disposeTextLayout(layout);
 		} else {
 			firstLine = caretLine == 0;
 			caretLine--;
@@ -2331,9 +2422,12 @@ void doLineUp(boolean select) {
 		if (firstLine) {
 			newCaretOffsets[i] = 0;
 		} else {
-			newCaretOffsets[i] = getOffsetAtPoint(x, y, caretLine, alignment);
+			layout = getTextLayout(layout, layoutLine, caretLine);
+			layoutLine = caretLine;
+			newCaretOffsets[i] = getOffsetAtPoint(layout, x, y, caretLine, alignment);
 		}
 	}
+	if (layout != null) renderer.disposeTextLayout(layout);
 	setCaretOffsets(newCaretOffsets, newCaretOffsets[0] == 0 ? SWT.DEFAULT : alignment[0]);
 	int oldColumnX = columnX;
 	int oldHScrollOffset = horizontalScrollOffset;
@@ -3097,6 +3191,71 @@ void doWordPrevious() {
 		doSelectionWordPrevious();
 	}
 }
+/**
+ * Ends a compound change started with <code>beginCompoundChange()</code>.
+ * When the outermost compound change ends the lines touched by the changes
+ * are measured again and redrawn, the scroll bars and the caret are updated,
+ * accessibility clients are notified of one change covering all changes and
+ * <code>ModifyListener</code>s are notified once.
+ * <p>
+ * Calling this method without a matching <code>beginCompoundChange()</code>
+ * has no effect.
+ * </p>
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #beginCompoundChange()
+ *
+ * @since 3.134
+ */
+public void endCompoundChange() {
+	checkWidget();
+	if (compoundChangeDepth == 0 || --compoundChangeDepth > 0) return;
+	int start = compoundChangeStart, end = compoundChangeEnd;
+	boolean modified = compoundChangeModified;
+	compoundChangeStart = -1;
+	compoundChangeModified = false;
+	if (compoundChangeScrolled) {
+		compoundChangeScrolled = false;
+		setScrollBars(true);
+	}
+	if (start != -1) {
+		int firstLine = content.getLineAtOffset(start);
+		int lastLine = content.getLineAtOffset(end);
+		resetCache(firstLine, 0);
+		if (!isFixedLineHeight() && isFocusControl() && topIndex > firstLine) {
+			topIndex = firstLine;
+			topIndexY = 0;
+		}
+		int top = Math.max(0, getLinePixel(firstLine));
+		int bottom = clientAreaHeight;
+		if (!compoundChangeLineCountChanged && isFixedLineHeight()) {
+			bottom = Math.min(bottom, getLinePixel(lastLine + 1));
+		}
+		if (bottom > top) {
+			super.redraw(0, top, clientAreaWidth, bottom - top, false);
+		}
+		claimBottomFreeSpace();
+		claimRightFreeSpace();
+		updateCompoundChangeSelection(start, end);
+		setCaretLocations();
+		sendAccessibleTextChanged(start, end - start, compoundChangeReplaceCharCount);
+		setAlignment();
+	}
+	if (modified) {
+		Event event = new Event();
+		event.text = "";
+		if (start != -1) {
+			event.start = start;
+			event.end = end;
+			event.text = content.getTextRange(start, end - start);
+		}
+		notifyListeners(SWT.Modify, event);
+	}
+}
 /**
  * Ends the autoscroll process.
  */
@@ -3258,8 +3417,10 @@ String getBlockSelectionText(String delimiter) {
 	int right = rect.width;
 	StringBuilder buffer = new StringBuilder();
 	for (int lineIndex = firstLine; lineIndex <= lastLine; lineIndex++) {
-		int start = getOffsetAtPoint(left, 0, lineIndex, null);
-		int end = getOffsetAtPoint(right, 0, lineIndex, null);
+		TextLayout layout = renderer.getTextLayout(lineIndex);
+		int start = getOffsetAtPoint(layout, left, 0, lineIndex, null);
+		int end = getOffsetAtPoint(layout, right, 0, lineIndex, null);
+		renderer.disposeTextLayout(layout);
 		if (start > end) {
 			int temp = start;
 			start = end;
@@ -3779,6 +3940,25 @@ public int getLineHeight(int offset) {
 	renderer.disposeTextLayout(layout);
 	return height;
 }
+/**
+ * Returns whether painted lines are kept as images and reused when
+ * the same lines are painted again.
+ *
+ * @return <code>true</code> if the line image cache is enabled
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @see #setLineImageCacheEnabled(boolean)
+ *
+ * @since 3.134
+ */
+public boolean getLineImageCacheEnabled() {
+	checkWidget();
+	return renderer.lineImages != null;
+}
 /**
  * Returns the indentation of the line at the given index.
  *
@@ -3877,7 +4057,8 @@ public int getLineSpacing() {
  * <p>
  * If there is a LineStyleListener but it does not set any styles,
  * the StyledTextEvent.styles field will be initialized to an empty
- * array.
+ * array. If there is no LineStyleListener, the styles of the style
+ * provider are returned with the attributes of the line.
  * </p>
  *
  * @param lineOffset offset of the line start relative to the start of
@@ -3887,7 +4068,11 @@ public int getLineSpacing() {
  * 	line start and end after line end
  */
 StyledTextEvent getLineStyleData(int lineOffset, String line) {
-	return sendLineEvent(ST.LineGetStyle, lineOffset, line);
+	StyledTextEvent event = sendLineEvent(ST.LineGetStyle, lineOffset, line);
+	if (event == null && renderer.styleProvider != null) {
+		event = renderer.getProviderLineStyleData(lineOffset, line);
+	}
+	return event;
 }
 /**
  * Returns the top SWT logical point, relative to the client area, of a given line.
@@ -3911,6 +4096,10 @@ public int getLinePixel(int lineIndex) {
 	}
 	if (lineIndex == topIndex)
 		return topIndexY + topMargin;
+	if (hasLineHeightIndex()) {
+		int topHeight = renderer.getLinesHeight(topIndex);
+		return renderer.getLinesHeight(lineIndex) - topHeight + topIndexY + topMargin;
+	}
 	int height = topIndexY;
 	if (lineIndex > topIndex) {
 		for (int i = Math.max(topIndex, 0); i < Math.min(lineIndex, lineCount); i++) {
@@ -3925,6 +4114,15 @@ public int getLinePixel(int lineIndex) {
 	}
 	return height + topMargin;
 }
+/*
+ * Returns true if the renderer knows the height of every line, so line
+ * pixels can be looked up in its line height index instead of summing
+ * the heights of all lines between the top index and the requested line.
+ */
+boolean hasLineHeightIndex() {
+	int lineCount = content.getLineCount();
+	return 0 <= topIndex && topIndex < lineCount && renderer.lineCount == lineCount && renderer.hasLineHeights();
+}
 /**
  * Returns the line index for a y, relative to the client area.
  * The line index returned is always in the range 0..lineCount - 1.
@@ -3946,6 +4144,9 @@ public int getLineIndex(int y) {
 		return lineIndex;
 	}
 	if (y == topIndexY) return topIndex;
+	if (hasLineHeightIndex()) {
+		return renderer.getLineIndexAtHeight(renderer.getLinesHeight(topIndex) + y - topIndexY);
+	}
 	int line = topIndex;
 	if (y < topIndexY) {
 		while (y < topIndexY && line > 0) {
@@ -4195,6 +4396,11 @@ int getOffsetAtPoint(int x, int y, int[] alignment) {
 }
 int getOffsetAtPoint(int x, int y, int lineIndex, int[] alignment) {
 	TextLayout layout = renderer.getTextLayout(lineIndex);
+	int offset = getOffsetAtPoint(layout, x, y, lineIndex, alignment);
+	renderer.disposeTextLayout(layout);
+	return offset;
+}
+int getOffsetAtPoint(TextLayout layout, int x, int y, int lineIndex, int[] alignment) {
 	x += horizontalScrollOffset - leftMargin;
 	int[] trailing = new int[1];
 	int offsetInLine = layout.getOffset(x, y, trailing);
@@ -4228,7 +4434,6 @@ int getOffsetAtPoint(int x, int y, int lineIndex, int[] alignment) {
 			}
 		}
 	}
-	renderer.disposeTextLayout(layout);
 	return offsetInLine + content.getOffsetAtLine(lineIndex);
 }
 int getOffsetAtPoint(int x, int y, int[] trailing, boolean inTextOnly) {
@@ -4311,6 +4516,16 @@ int getPartialTopIndex() {
  * 	delimiter to separate lines as written by the specified TextWriter.
  */
 String getPlatformDelimitedText(TextWriter writer) {
+	writePlatformDelimitedText(writer);
+	return writer.toString();
+}
+/**
+ * Writes the lines of the writer's range to the writer, separated by the
+ * platform line delimiter, and closes the writer.
+ *
+ * @param writer TextWriter to write the range to
+ */
+void writePlatformDelimitedText(TextWriter writer) {
 	int end = writer.getStart() + writer.getCharCount();
 	int startLine = content.getLineAtOffset(writer.getStart());
 	int endLine = content.getLineAtOffset(end);
@@ -4327,7 +4542,6 @@ String getPlatformDelimitedText(TextWriter writer) {
 		writer.writeLineDelimiter(PlatformLineDelimiter);
 	}
 	writer.close();
-	return writer.toString();
 }
 /**
  * Returns all the ranges of text that have an associated StyleRange.
@@ -4672,6 +4886,21 @@ int [] getBidiSegmentsCompatibility(String line, int lineOffset) {
 	System.arraycopy (offsets, 0, result, 0, count);
 	return result;
 }
+/**
+ * Returns the style provider of the widget.
+ *
+ * @return the style provider or <code>null</code>
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @see #setStyleProvider(StyledTextStyleProvider)
+ * @since 3.134
+ */
+public StyledTextStyleProvider getStyleProvider() {
+	checkWidget();
+	return renderer.styleProvider;
+}
 /**
  * Returns the style range at the given offset.
  * <p>
@@ -5092,6 +5321,18 @@ int getVerticalScrollOffset() {
 	}
 	return verticalScrollOffset;
 }
+/**
+ * Returns the text layout of the line at lineIndex, reusing the given
+ * layout when it is the layout of that line and disposing it otherwise.
+ * Lets carets on the same line share one layout.
+ */
+TextLayout getTextLayout(TextLayout layout, int layoutLine, int lineIndex) {
+	if (layout != null) {
+		if (layoutLine == lineIndex) return layout;
+		renderer.disposeTextLayout(layout);
+	}
+	return renderer.getTextLayout(lineIndex);
+}
 int getVisualLineIndex(TextLayout layout, int offsetInLine) {
 	int lineIndex = layout.getLineIndex(offsetInLine);
 	int[] offsets = layout.getLineOffsets();
@@ -5232,7 +5473,37 @@ public int getWrapIndent() {
  * @return location of the character at the given offset in the line.
  */
 Point getPointAtOffset(int offset) {
-	int lineIndex = content.getLineAtOffset(offset);
+	return getPointsAtOffsets(new int[] {offset})[0];
+}
+/**
+ * Returns the locations of the given offsets. Consecutive offsets on the
+ * same line share one text layout, so the locations of many carets are
+ * computed with one layout per line.
+ *
+ * @return locations of the characters at the given offsets
+ */
+Point[] getPointsAtOffsets(int[] offsets) {
+	Point[] points = new Point[offsets.length];
+	boolean emptySelection = wordWrap && Arrays.stream(selection).allMatch(p -> p.x == p.y);
+	TextLayout layout = null;
+	int layoutLine = -1, linePixel = 0;
+	for (int i = 0; i < offsets.length; i++) {
+		int lineIndex = content.getLineAtOffset(offsets[i]);
+		if (lineIndex != layoutLine) {
+			if (layout != null) renderer.disposeTextLayout(layout);
+			layout = renderer.getTextLayout(lineIndex);
+			layoutLine = lineIndex;
+			linePixel = getLinePixel(lineIndex);
+		}
+		Point point = getPointAtOffset(layout, lineIndex, offsets[i], emptySelection);
+		point.x += leftMargin - horizontalScrollOffset;
+		point.y += linePixel;
+		points[i] = point;
+	}
+	if (layout != null) renderer.disposeTextLayout(layout);
+	return points;
+}
+Point getPointAtOffset(TextLayout layout, int lineIndex, int offset, boolean emptySelection) {
 	String line = content.getLine(lineIndex);
 	int lineOffset = content.getOffsetAtLine(lineIndex);
 	int offsetInLine = Math.max (0, offset - lineOffset);
@@ -5244,7 +5515,6 @@ Point getPointAtOffset(int offset) {
 		}
 	}
 	Point point;
-	TextLayout layout = renderer.getTextLayout(lineIndex);
 	if (lineLength != 0  && offsetInLine <= lineLength) {
 		if (offsetInLine == lineLength) {
 			offsetInLine = layout.getPreviousOffset(offsetInLine, SWT.MOVEMENT_CLUSTER);
@@ -5263,7 +5533,7 @@ Point getPointAtOffset(int offset) {
 					// expected, see bug 488172.
 					// Respect caretAlignment at the caretOffset, unless there's
 					// a non-empty selection, see bug 488172 comment 6.
-					if (wordWrap && !lineBegin && (Arrays.binarySearch(caretOffsets, offset) < 0 || Arrays.stream(selection).allMatch(p -> p.x == p.y))) {
+					if (wordWrap && !lineBegin && (Arrays.binarySearch(caretOffsets, offset) < 0 || emptySelection)) {
 						int[] offsets = layout.getLineOffsets();
 						for (int i : offsets) {
 							if (i == offsetInLine) {
@@ -5284,9 +5554,6 @@ Point getPointAtOffset(int offset) {
 	} else {
 		point = new Point(layout.getIndent(), layout.getVerticalIndent());
 	}
-	renderer.disposeTextLayout(layout);
-	point.x += leftMargin - horizontalScrollOffset;
-	point.y += getLinePixel(lineIndex);
 	return point;
 }
 /**
@@ -6052,7 +6319,7 @@ void handleResize(Event event) {
 	redrawMargins(oldHeight, oldWidth);
 	if (wordWrap) {
 		if (oldWidth != clientAreaWidth) {
-			renderer.reset(0, content.getLineCount());
+			renderer.setWrapWidth(getWrapWidth());
 			verticalScrollOffset = -1;
 			renderer.calculateIdle();
 			super.redraw();
@@ -6101,6 +6368,15 @@ void handleTextChanged(TextChangedEvent event) {
 		compositionOffset= Math.min(compositionOffset, getCharCount());
 		ime.setCompositionOffset(compositionOffset);
 	}
+	if (compoundChangeDepth > 0) {
+		renderer.redrawLines = null;
+		if (!(blockSelection && blockXLocation != -1)) {
+			moveSelection(lastTextChangeStart, lastTextChangeReplaceCharCount, lastTextChangeNewCharCount);
+		}
+		lastCharCount += lastTextChangeNewCharCount;
+		lastCharCount -= lastTextChangeReplaceCharCount;
+		return;
+	}
 	int firstLine = content.getLineAtOffset(lastTextChangeStart);
 	resetCache(firstLine, 0);
 	if (!isFixedLineHeight() && isFocusControl() && topIndex > firstLine) {
@@ -6150,6 +6426,109 @@ void handleTextChanged(TextChangedEvent event) {
 	lastCharCount -= lastTextChangeReplaceCharCount;
 	setAlignment();
 }
+/**
+ * Adds a text change made during a compound change to the union of the
+ * changes, keeping track of how many characters of the text before the
+ * compound change the union covers.
+ */
+void addCompoundChange(TextChangingEvent event) {
+	int start = event.start, end = event.start + event.replaceCharCount;
+	if (compoundChangeStart == -1) {
+		compoundChangeStart = start;
+		compoundChangeEnd = end;
+		compoundChangeReplaceCharCount = event.replaceCharCount;
+		compoundChangeLineCountChanged = false;
+		compoundChangeSelection = Arrays.stream(selection).map(sel -> new Point(sel.x, sel.y)).toArray(Point[]::new);
+		compoundChangeCaretOffsets = caretOffsets;
+	} else {
+		int unionStart = Math.min(compoundChangeStart, start);
+		int unionEnd = Math.max(compoundChangeEnd, end);
+		compoundChangeReplaceCharCount += (compoundChangeStart - unionStart) + (unionEnd - compoundChangeEnd);
+		compoundChangeStart = unionStart;
+		compoundChangeEnd = unionEnd;
+	}
+	compoundChangeEnd += event.newCharCount - event.replaceCharCount;
+	if (event.replaceLineCount != event.newLineCount) compoundChangeLineCountChanged = true;
+}
+/**
+ * Moves the selection and the carets over a text change made during a
+ * compound change the way updateSelection does, without redrawing, placing
+ * the caret or sending events. endCompoundChange does that once.
+ */
+void moveSelection(int startOffset, int replacedLength, int newLength) {
+	if (selection[selection.length - 1].y <= startOffset) return;
+	int count = 0;
+	Point[] newSelection = new Point[selection.length];
+	for (Point sel : selection) {
+		Point range;
+		if (sel.y <= startOffset) {
+			range = sel;
+		} else if (sel.x < startOffset + replacedLength) {
+			// selection intersects replaced text. set caret behind text change
+			range = new Point(startOffset + newLength, startOffset + newLength);
+		} else {
+			// move selection to keep same text selected
+			range = new Point(Math.max(0, sel.x + newLength - replacedLength), Math.max(0, sel.y + newLength - replacedLength));
+		}
+		// merge contiguous ranges
+		if (count > 0 && newSelection[count - 1].y >= range.x) {
+			newSelection[count - 1].y = Math.max(newSelection[count - 1].y, range.y);
+		} else {
+			newSelection[count++] = range;
+		}
+	}
+	selection = Arrays.copyOf(newSelection, count);
+	selectionAnchors = Arrays.stream(selection).mapToInt(p -> p.x).toArray();
+	caretOffsets = Arrays.stream(selection).mapToInt(p -> p.y).distinct().toArray();
+}
+/**
+ * Redraws the selection moved by the changes of a compound change and sends
+ * the selection and caret events once. <code>start</code> and <code>end</code>
+ * are the union of the changes in current offsets.
+ */
+void updateCompoundChangeSelection(int start, int end) {
+	Point[] oldSelection = compoundChangeSelection;
+	int[] oldCaretOffsets = compoundChangeCaretOffsets;
+	compoundChangeSelection = null;
+	compoundChangeCaretOffsets = null;
+	if (oldSelection == null || (Arrays.equals(oldSelection, selection) && Arrays.equals(oldCaretOffsets, caretOffsets))) return;
+	int charCount = content.getCharCount();
+	int oldEnd = start + compoundChangeReplaceCharCount;
+	int redrawStart = charCount, redrawEnd = 0;
+	boolean changed = oldSelection.length != selection.length;
+	for (int i = 0; i < oldSelection.length; i++) {
+		Point sel = oldSelection[i];
+		if (sel.y <= start) continue;
+		// the old selection in current offsets, the changed text is redrawn already
+		int x = sel.x <= start ? sel.x : sel.x >= oldEnd ? sel.x + end - oldEnd : end;
+		int y = sel.y >= oldEnd ? sel.y + end - oldEnd : end;
+		redrawStart = Math.min(redrawStart, x);
+		redrawEnd = Math.max(redrawEnd, y);
+		if (!changed) {
+			Point newSel = selection[i];
+			int oldLength = sel.y - sel.x;
+			changed = oldLength != newSel.y - newSel.x || (oldLength != 0 && sel.x != newSel.x);
+		}
+	}
+	for (Point sel : selection) {
+		if (sel.y <= start) continue;
+		redrawStart = Math.min(redrawStart, sel.x);
+		redrawEnd = Math.max(redrawEnd, sel.y);
+	}
+	redrawEnd = Math.min(charCount, redrawEnd);
+	if (redrawEnd > redrawStart) {
+		internalRedrawRange(redrawStart, redrawEnd - redrawStart);
+	}
+	if (!Arrays.equals(oldCaretOffsets, caretOffsets) && isListening(ST.CaretMoved)) {
+		StyledTextEvent event = new StyledTextEvent(content);
+		event.end = caretOffsets[caretOffsets.length - 1];
+		notifyListeners(ST.CaretMoved, event);
+	}
+	if (changed) {
+		sendSelectionEvent();
+	}
+	sendAccessibleTextCaretMoved();
+}
 /**
  * Updates the screen to reflect a pending content change.
  *
@@ -6174,16 +6553,26 @@ void handleTextChanging(TextChangingEvent event) {
 	int lineIndex = content.getLineAtOffset(event.start);
 	int srcY = getLinePixel(lineIndex + event.replaceLineCount + 1);
 	int destY = getLinePixel(lineIndex + 1) + event.newLineCount * renderer.getLineHeight();
-	lastLineBottom = destY;
-	if (srcY < 0 && destY < 0) {
-		lastLineBottom += srcY - destY;
-		verticalScrollOffset += destY - srcY;
-		calculateTopIndex(destY - srcY);
-		setScrollBars(true);
+	if (compoundChangeDepth > 0) {
+		addCompoundChange(event);
+		if (srcY < 0 && destY < 0) {
+			// keep the visible text in place, the scroll bars are updated by endCompoundChange
+			verticalScrollOffset += destY - srcY;
+			calculateTopIndex(destY - srcY);
+			compoundChangeScrolled = true;
+		}
 	} else {
-		scrollText(srcY, destY);
+		lastLineBottom = destY;
+		if (srcY < 0 && destY < 0) {
+			lastLineBottom += srcY - destY;
+			verticalScrollOffset += destY - srcY;
+			calculateTopIndex(destY - srcY);
+			setScrollBars(true);
+		} else {
+			scrollText(srcY, destY);
+		}
+		sendAccessibleTextChanged(lastTextChangeStart, 0, lastTextChangeReplaceCharCount);
 	}
-	sendAccessibleTextChanged(lastTextChangeStart, 0, lastTextChangeReplaceCharCount);
 	renderer.textChanging(event);
 
 	// Update the caret offset if it is greater than the length of the content.
@@ -6209,6 +6598,10 @@ void handleTextChanging(TextChangingEvent event) {
  * @param event text change event.
  */
 void handleTextSet(TextChangedEvent event) {
+	compoundChangeStart = -1;
+	compoundChangeScrolled = false;
+	compoundChangeSelection = null;
+	compoundChangeCaretOffsets = null;
 	reset();
 	int newCharCount = getCharCount();
 	sendAccessibleTextChanged(0, newCharCount, lastCharCount);
@@ -7199,7 +7592,11 @@ void modifyContent(Event event, boolean updateCaret) {
 			}).flatMapToInt(p -> IntStream.of(p.x, p.y - p.x)).toArray(), true, false);
 			showCaret();
 		}
-		notifyListeners(SWT.Modify, event);
+		if (compoundChangeDepth > 0) {
+			compoundChangeModified = true;
+		} else {
+			notifyListeners(SWT.Modify, event);
+		}
 		if (isListening(ST.ExtendedModify)) {
 			notifyListeners(ST.ExtendedModify, styledTextEvent);
 		}
@@ -8496,8 +8893,7 @@ public void setBottomMargin (int bottomMargin) {
  * Moves the Caret to the current caret offset.
  */
 void setCaretLocations() {
-	Point[] newCaretPos = Arrays.stream(caretOffsets).mapToObj(this::getPointAtOffset).toArray(Point[]::new);
-	setCaretLocations(newCaretPos, getCaretDirection());
+	setCaretLocations(getPointsAtOffsets(caretOffsets), getCaretDirection());
 }
 void setCaretLocations(final Point[] locations, int direction) {
 	Caret firstCaret = getCaret();
@@ -8685,19 +9081,25 @@ void setClipboardContent(int start, int length, int clipboardType) throws SWTErr
 		data = new Object[]{plainText};
 		types = new Transfer[]{plainTextTransfer};
 	} else {
+		/*
+		 * RTF and HTML may be more than 15 times the size of the plain text and
+		 * most pastes only ask for plain text, so they are generated on request.
+		 * The styles are taken now, later changes of the widget must not show
+		 * in the copied text. Only the clipboard keeps the snapshot, so it is
+		 * released when another application takes over the clipboard.
+		 */
+		StyledTextWriterBase.Snapshot snapshot = new StyledTextWriterBase.Snapshot(this, start, length);
+		writePlatformDelimitedText(snapshot);
+		DeferredClipboardText rtfText = new DeferredClipboardText(snapshot, false);
+		DeferredClipboardText htmlText = new DeferredClipboardText(snapshot, true);
+		data = new Object[]{rtfText, htmlText, plainText};
+		types = new Transfer[]{RTFTransfer.getInstance(), HTMLTransfer.getInstance(), plainTextTransfer};
 		try {
-			RTFTransfer rtfTransfer = RTFTransfer.getInstance();
-			RTFWriter rtfWriter = new RTFWriter(this, start, length);
-			String rtfText = getPlatformDelimitedText(rtfWriter);
-
-			HTMLTransfer htmlTransfer = HTMLTransfer.getInstance();
-			HTMLWriter htmlWriter = new HTMLWriter(this, start, length, content);
-			String htmlText = getPlatformDelimitedText(htmlWriter);
-			htmlText = "" +htmlText; //cause extra memory pressure to fail fast instead of failing in HTMLTransfer.javaToNative()
-			data = new Object[]{rtfText, htmlText, plainText};
-			types = new Transfer[]{rtfTransfer, htmlTransfer, plainTextTransfer};
+			clipboard.setContents(data, types, clipboardType);
+			// platforms that copy the data immediately generate the rich text here
+			if (rtfText.error != null) throw rtfText.error;
+			if (htmlText.error != null) throw htmlText.error;
 		} catch (OutOfMemoryError oome) {
-			// Adding RTF and HTML text may increase size by factor > 15
 			// fall back: copy plain text
 			data = new Object[] { plainText };
 			types = new Transfer[] { plainTextTransfer };
@@ -8708,6 +9110,7 @@ void setClipboardContent(int start, int length, int clipboardType) throws SWTErr
 			// Still throw as it is likely that other threads silently failed too, but at least copied text is not lost
 			throw customOome;
 		}
+		return;
 	}
 	clipboard.setContents(data, types, clipboardType);
 }
@@ -9243,6 +9646,39 @@ public void setLineBullet(int startLine, int lineCount, Bullet bullet) {
 boolean isWordWrap() {
 	return wordWrap || visualWrap;
 }
+/**
+ * Sets whether painted lines are kept as images and reused when the same
+ * lines are painted again, for example when only the line with the caret
+ * or a small part of the widget is damaged.
+ * <p>
+ * A line image is discarded when the text, the styles or the line
+ * attributes of the line change, and when the selection, the colors or
+ * the width of the client area are different from the last paint.
+ * The cache is not used while a <code>LineStyleListener</code>, a
+ * <code>LineBackgroundListener</code>, a <code>BidiSegmentListener</code>
+ * or a <code>PaintObjectListener</code> is set, because these are asked
+ * for the appearance of the line on every paint, nor while a background
+ * image, fixed line metrics or the right to left orientation are in effect.
+ * </p><p>
+ * The cache is disabled by default. It holds one image for each of the
+ * most recently painted lines, so it uses memory proportional to the
+ * visible area of the widget.
+ * </p>
+ *
+ * @param enabled <code>true</code> to enable the line image cache
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ *
+ * @since 3.134
+ */
+public void setLineImageCacheEnabled(boolean enabled) {
+	checkWidget();
+	renderer.setLineImageCacheEnabled(enabled);
+	super.redraw();
+}
 /**
  * Sets the indent of the specified lines.
  * <p>
@@ -9987,22 +10423,23 @@ void setSelection(int[] regions, boolean sendEvent, boolean doBlock) {
 		Arrays.sort(toRedraw, SELECTION_COMPARATOR);
 		Point[] formerSelection = selection;
 		selection = Arrays.copyOf(newRanges, newRangeIndex);
-		Point currentToRedraw = null;
+		// redraw a single changed range exactly, many changed ranges (multiple
+		// carets) at once as the band of lines between the first and the last
+		int redrawStart = charCount, redrawEnd = 0, redrawCount = 0, currentEnd = -1;
 		for (Point p : toRedraw) {
-			if (currentToRedraw == null) {
-				currentToRedraw = new Point(p.x, p.y);
-			} else if (currentToRedraw.y >= p.x - 1) {
-				// expand if necessary
-				currentToRedraw = new Point(currentToRedraw.x, Math.max(p.y, currentToRedraw.y));
-			} else {
-				currentToRedraw = new Point(Math.max(0, currentToRedraw.x), Math.min(charCount, currentToRedraw.y));
-				internalRedrawRange(currentToRedraw.x, currentToRedraw.y - currentToRedraw.x);
-				currentToRedraw = null;
-			}
-		}
-		if (currentToRedraw != null) {
-			currentToRedraw = new Point(Math.max(0, currentToRedraw.x), Math.min(charCount, currentToRedraw.y));
-			internalRedrawRange(currentToRedraw.x, currentToRedraw.y - currentToRedraw.x);
+			if (p.x >= p.y) continue;
+			if (redrawCount == 0 || currentEnd < p.x - 1) redrawCount++;
+			currentEnd = Math.max(currentEnd, p.y);
+			redrawStart = Math.min(redrawStart, p.x);
+			redrawEnd = Math.max(redrawEnd, p.y);
+		}
+		redrawStart = Math.max(0, redrawStart);
+		redrawEnd = Math.min(charCount, redrawEnd);
+		if (redrawCount == 1) {
+			internalRedrawRange(redrawStart, redrawEnd - redrawStart);
+		} else if (redrawCount > 1) {
+			int startLine = content.getLineAtOffset(redrawStart);
+			redrawLines(startLine, content.getLineAtOffset(redrawEnd) - startLine + 1, false);
 		}
 		if (!caretAtEndOfSelection) {
 			selectionAnchors = Arrays.stream(selection).mapToInt(p -> p.y).toArray();
@@ -10091,6 +10528,34 @@ public void setSelectionRanges(int[] ranges) {
 	setCaretLocations();
 }
 
+/**
+ * Sets the style provider of the widget, or removes it if the argument is null.
+ * <p>
+ * The styles returned by the provider replace the styles set with
+ * <code>setStyleRange</code> and <code>setStyleRanges</code> when the widget
+ * is drawn and measured. They are queried for the lines the widget needs and
+ * cached until the revision of the provider changes, see
+ * {@link StyledTextStyleProvider#getRevision()}. The provider is not used
+ * when a LineStyleListener has been set, and its styles are not returned
+ * by <code>getStyleRanges</code>.
+ * </p>
+ *
+ * @param provider the style provider (or null)
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ * </ul>
+ * @see StyledTextStyleProvider
+ * @since 3.134
+ */
+public void setStyleProvider(StyledTextStyleProvider provider) {
+	checkWidget();
+	if (renderer.styleProvider == provider) return;
+	renderer.setStyleProvider(provider);
+	resetCache(0, content.getLineCount());
+	setCaretLocations();
+	super.redraw();
+}
 /**
  * Adds the specified style.
  * <p>
@@ -10924,6 +11389,79 @@ void updateSelection(int startOffset, int replacedLength, int newLength) {
 		.toArray(), true, false);
 	setCaretLocations();
 }
+/**
+ * Writes the specified range of the receiver's text with its styles as HTML
+ * to <code>out</code>, which can be a <code>Writer</code> of a file. The
+ * HTML is written line by line and is not kept in memory. Lines are separated
+ * by the platform line delimiter. The result is the same as the HTML that
+ * is put on the clipboard when the range is copied.
+ *
+ * @param out the destination of the HTML
+ * @param start offset of the first character to write
+ * @param length number of characters to write
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_IO - if an error occurred while writing to <code>out</code></li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *   <li>ERROR_NULL_ARGUMENT when out is null</li>
+ *   <li>ERROR_INVALID_RANGE when start and/or length are outside the widget content</li>
+ * </ul>
+ *
+ * @since 3.134
+ */
+public void writeHTML(Appendable out, int start, int length) {
+	checkWidget();
+	checkWriteRange(out, start, length);
+	writePlatformDelimitedText(new HTMLWriter(this, start, length, out));
+}
+/**
+ * Writes the specified range of the receiver's text with its styles as RTF
+ * to <code>out</code>, which can be a <code>Writer</code> of a file. The
+ * RTF is written line by line and is not kept in memory. Lines are separated
+ * by the platform line delimiter. The result is the same as the RTF that
+ * is put on the clipboard when the range is copied, without the null
+ * character that terminates the clipboard string.
+ * <p>
+ * The font and color tables of the RTF header have to be written before the
+ * text, so the styles of the range are read twice. A <code>LineStyleListener</code>
+ * is called twice for each line.
+ * </p>
+ *
+ * @param out the destination of the RTF
+ * @param start offset of the first character to write
+ * @param length number of characters to write
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_WIDGET_DISPOSED - if the receiver has been disposed</li>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_IO - if an error occurred while writing to <code>out</code></li>
+ * </ul>
+ * @exception IllegalArgumentException <ul>
+ *   <li>ERROR_NULL_ARGUMENT when out is null</li>
+ *   <li>ERROR_INVALID_RANGE when start and/or length are outside the widget content</li>
+ * </ul>
+ *
+ * @since 3.134
+ */
+public void writeRTF(Appendable out, int start, int length) {
+	checkWidget();
+	checkWriteRange(out, start, length);
+	RTFWriter tables = new RTFWriter(this, start, length, Writer.nullWriter(), null);
+	writePlatformDelimitedText(tables);
+	writePlatformDelimitedText(new RTFWriter(this, start, length, out, tables));
+}
+void checkWriteRange(Appendable out, int start, int length) {
+	if (out == null) {
+		SWT.error(SWT.ERROR_NULL_ARGUMENT);
+	}
+	int end = start + length;
+	if (start > end || start < 0 || end > getCharCount()) {
+		SWT.error(SWT.ERROR_INVALID_RANGE);
+	}
+}
 
 private void handleDPIChange(Event event) {
 	updateCaretVisibility();
@@ -10946,7 +11484,7 @@ private void handleDPIChange(Event event) {
 @Override
 public Object getData(String key) {
 	if ("StyledText.htmlText".equals(key)) {
-		HTMLWriter htmlWriter = new HTMLWriter(this, 0, content.getCharCount(), content);
+		HTMLWriter htmlWriter = new HTMLWriter(this, 0, content.getCharCount());
 		return getPlatformDelimitedText(htmlWriter);
 	}
 	return super.getData(key);
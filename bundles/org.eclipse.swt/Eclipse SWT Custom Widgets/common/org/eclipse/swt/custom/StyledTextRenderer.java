@@ -58,6 +58,30 @@ class StyledTextRenderer {
 	int linesInAverageLineHeight;
 	boolean idleRunning;
 
+	/*
+	 * Prefix sums of the line heights (Fenwick tree, 1-based). Only valid once
+	 * the height of every line is known, lines before lineHeightsKnown are known
+	 * to have a height.
+	 */
+	int[] lineHeightTree;
+	boolean lineHeightTreeValid;
+	int lineHeightsKnown;
+
+	/*
+	 * Text changes keep the line height index valid. The heights of the lines
+	 * from lineHeightsDirtyStart up to but not including lineHeightsDirtyEnd are
+	 * patched in once they are known, the index entries from lineHeightsShiftLine
+	 * on are rebuilt when lines were inserted or deleted.
+	 */
+	int lineHeightsDirtyStart = -1, lineHeightsDirtyEnd;
+	int lineHeightsShiftLine = -1;
+
+	/* lines before idleLine were calculated by calculateIdle */
+	int idleLine;
+
+	/* rendered lines by line index, only used when the line image cache is enabled */
+	LinkedHashMap<Integer, LineImage> lineImages;
+
 	/* Bullet */
 	Bullet[] bullets;
 	int[] bulletsIndices;
@@ -67,9 +91,18 @@ class StyledTextRenderer {
 	int[] ranges;
 	int styleCount;
 	StyleRange[] styles;
+	/* distinct styles, open addressing hash table using StyleRange.similarTo() */
 	StyleRange[] stylesSet;
 	int stylesSetCount = 0;
 	boolean hasLinks, fixedPitch;
+
+	/* styles queried from the style provider by line index, valid for styleProviderRevision */
+	StyledTextStyleProvider styleProvider;
+	int styleProviderRevision;
+	LinkedHashMap<Integer, LineStyles> providerStyles;
+	/* output buffer reused for every query to the style provider */
+	int[] providerRangesBuffer;
+	StyleRange[] providerStylesBuffer;
 	final static int BULLET_MARGIN = 8;
 
 	final static boolean COMPACT_STYLES = true;
@@ -78,6 +111,8 @@ class StyledTextRenderer {
 	final static int GROW = 32;
 	final static int IDLE_TIME = 50;
 	final static int CACHE_SIZE = 300;
+	final static int LINE_IMAGE_CACHE_SIZE = 128;
+	final static int PROVIDER_CACHE_SIZE = 1024;
 
 	final static int BACKGROUND = 1 << 0;
 	final static int ALIGNMENT = 1 << 1;
@@ -97,6 +132,9 @@ class StyledTextRenderer {
 		int height;
 		int width;
 
+		/* Width of the text when wrapping is on and the line fits on one visual line */
+		int extent;
+
 		public LineSizeInfo() {
 			resetSize();
 		}
@@ -107,6 +145,7 @@ class StyledTextRenderer {
 		void resetSize() {
 			height = RESETED_SIZE;
 			width = RESETED_SIZE;
+			extent = RESETED_SIZE;
 		}
 
 		/**
@@ -152,6 +191,18 @@ class StyledTextRenderer {
 		boolean needsRecalculateHeight() {
 			return height == RESETED_SIZE;
 		}
+
+		/**
+		 * Returns true if the line was measured on one visual line and still
+		 * fits on one visual line when wrapped at the given width, so its
+		 * height does not depend on the change of the wrap width.
+		 *
+		 * @param wrapWidth the new wrap width
+		 * @return true if the height of the line is the same at the new wrap width
+		 */
+		boolean fitsWrapWidth(int wrapWidth) {
+			return !needsRecalculateHeight() && extent != RESETED_SIZE && extent < wrapWidth;
+		}
 	}
 
 	static class LineInfo {
@@ -184,6 +235,32 @@ class StyledTextRenderer {
 		}
 	}
 
+	/*
+	 * A rendered line together with everything that was used to render it
+	 * and is not covered by the invalidation of the renderer.
+	 */
+	static class LineImage {
+		Image image;
+		String text;
+		int paintX, width, height;
+		Point[] selection;
+		boolean blockSelection;
+		Color background, foreground, selectionBackground, selectionForeground;
+
+		boolean matches(String text, int paintX, int width, Point[] selection, boolean blockSelection, Color background, Color foreground, Color selectionBackground, Color selectionForeground) {
+			return this.paintX == paintX && this.width == width && this.blockSelection == blockSelection
+				&& this.text.equals(text) && Arrays.equals(this.selection, selection)
+				&& Objects.equals(this.background, background) && Objects.equals(this.foreground, foreground)
+				&& Objects.equals(this.selectionBackground, selectionBackground) && Objects.equals(this.selectionForeground, selectionForeground);
+		}
+	}
+
+	static class LineStyles {
+		int[] ranges;
+		StyleRange[] styles;
+		boolean variableHeight;
+	}
+
 	private record LineDrawInfo(int index, TextLayout layout, String text, int offset, int height) {
 
 	}
@@ -306,7 +383,14 @@ void calculate(int startLine, int lineCount) {
 			TextLayout layout = getTextLayout(i);
 			Rectangle rect = layout.getBounds();
 			line.width = rect.width + hTrim;
+			if (!line.needsRecalculateHeight()) {
+				lineHeightChanged(i, rect.height - line.height);
+			}
 			line.height = rect.height;
+			line.extent = -1;
+			if (layout.getWidth() != -1 && layout.getLineCount() == 1) {
+				line.extent = layout.getIndent() + layout.getLineBounds(0).width;
+			}
 			averageLineHeight += (line.height - Math.round(averageLineHeight)) / ++linesInAverageLineHeight;
 			disposeTextLayout(layout);
 		}
@@ -343,16 +427,26 @@ void calculateIdle () {
 		@Override
 		public void run() {
 			if (styledText == null) return;
-			int i;
 			long start = System.currentTimeMillis();
-			for (i = 0; i < lineCount; i++) {
-				LineSizeInfo line = getLineSize(i);
+			/*
+			 * Calculate the lines around the client area first so that scrolling
+			 * near the viewport uses exact heights, then resume the background
+			 * pass where the previous slice stopped. Resets move idleLine back.
+			 */
+			int y = 0, height = styledText.clientAreaHeight * 2;
+			for (int i = Math.max(0, styledText.topIndex); i < lineCount && y < height; i++) {
+				calculate(i, 1);
+				y += lineSizes[i].height;
+				if (System.currentTimeMillis() - start > IDLE_TIME) break;
+			}
+			while (idleLine < lineCount) {
+				LineSizeInfo line = getLineSize(idleLine++);
 				if (line.needsRecalculateSize()) {
-					calculate(i, 1);
+					calculate(idleLine - 1, 1);
 					if (System.currentTimeMillis() - start > IDLE_TIME) break;
 				}
 			}
-			if (i < lineCount) {
+			if (idleLine < lineCount) {
 				Display display = styledText.getDisplay();
 				display.asyncExec(this);
 			} else {
@@ -370,6 +464,7 @@ void calculateIdle () {
 	idleRunning = true;
 }
 void clearLineBackground(int startLine, int count) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) return;
 	for (int i = startLine; i < startLine + count; i++) {
 		LineInfo info = lines[i];
@@ -381,6 +476,7 @@ void clearLineBackground(int startLine, int count) {
 	}
 }
 void clearLineStyle(int startLine, int count) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) return;
 	for (int i = startLine; i < startLine + count; i++) {
 		LineInfo info = lines[i];
@@ -391,14 +487,22 @@ void clearLineStyle(int startLine, int count) {
 	}
 }
 void copyInto(StyledTextRenderer renderer) {
-	if (ranges != null) {
+	if (styleProvider != null) {
+		copyProviderStylesInto(renderer);
+	} else if (ranges != null) {
 		int[] newRanges = renderer.ranges = new int[styleCount << 1];
 		System.arraycopy(ranges, 0, newRanges, 0, newRanges.length);
 	}
-	if (styles != null) {
+	if (styleProvider == null && styles != null) {
 		StyleRange[] newStyles = renderer.styles = new StyleRange[styleCount];
+		// ranges share styles, clone every distinct style once
+		Map<StyleRange, StyleRange> clones = new IdentityHashMap<>();
 		for (int i = 0; i < newStyles.length; i++) {
-			newStyles[i] = (StyleRange)styles[i].clone();
+			if (ranges != null) {
+				newStyles[i] = clones.computeIfAbsent(styles[i], style -> (StyleRange)style.clone());
+			} else {
+				newStyles[i] = (StyleRange)styles[i].clone();
+			}
 		}
 		renderer.styleCount = styleCount;
 	}
@@ -410,12 +514,93 @@ void copyInto(StyledTextRenderer renderer) {
 		renderer.lineCount = lineCount;
 	}
 }
+/*
+ * Sets the styles of the style provider for every line as the style ranges
+ * of the renderer, which can then be used without the provider, for example
+ * to print in another thread.
+ */
+void copyProviderStylesInto(StyledTextRenderer renderer) {
+	int count = 0;
+	int[] newRanges = new int[GROW << 1];
+	StyleRange[] newStyles = new StyleRange[GROW];
+	for (int i = 0; i < lineCount; i++) {
+		int lineOffset = content.getOffsetAtLine(i);
+		LineStyles lineStyles = getProviderStyles(i, lineOffset, content.getLine(i));
+		int lineStyleCount = lineStyles.styles.length;
+		if (count + lineStyleCount > newStyles.length) {
+			int size = Math.max(count + lineStyleCount, newStyles.length << 1);
+			newRanges = Arrays.copyOf(newRanges, size << 1);
+			newStyles = Arrays.copyOf(newStyles, size);
+		}
+		System.arraycopy(lineStyles.ranges, 0, newRanges, count << 1, lineStyleCount << 1);
+		System.arraycopy(lineStyles.styles, 0, newStyles, count, lineStyleCount);
+		count += lineStyleCount;
+	}
+	// ranges share styles, clone every distinct style once
+	Map<StyleRange, StyleRange> clones = new IdentityHashMap<>();
+	for (int i = 0; i < count; i++) {
+		newStyles[i] = clones.computeIfAbsent(newStyles[i], style -> (StyleRange)style.clone());
+	}
+	renderer.ranges = Arrays.copyOf(newRanges, count << 1);
+	renderer.styles = Arrays.copyOf(newStyles, count);
+	renderer.styleCount = count;
+}
+/*
+ * Returns the styles of the style provider and the attributes of the line
+ * like the event of a <code>LineStyleListener</code>, for the code that reads
+ * the styles of a line from such an event.
+ */
+StyledTextEvent getProviderLineStyleData(int lineOffset, String line) {
+	int lineIndex = content.getLineAtOffset(lineOffset);
+	LineStyles lineStyles = getProviderStyles(lineIndex, lineOffset, line);
+	StyledTextEvent event = new StyledTextEvent(content);
+	event.detail = lineOffset;
+	event.text = line;
+	event.styles = new StyleRange[lineStyles.styles.length];
+	for (int i = 0; i < event.styles.length; i++) {
+		StyleRange style = event.styles[i] = (StyleRange)lineStyles.styles[i].clone();
+		style.start = lineStyles.ranges[i << 1];
+		style.length = lineStyles.ranges[(i << 1) + 1];
+	}
+	event.alignment = getLineAlignment(lineIndex, styledText.alignment);
+	event.indent = getLineIndent(lineIndex, styledText.indent);
+	event.wrapIndent = getLineWrapIndent(lineIndex, styledText.wrapIndent);
+	event.justify = getLineJustify(lineIndex, styledText.justify);
+	event.verticalIndent = getLineVerticalIndent(lineIndex);
+	event.tabStops = getLineTabStops(lineIndex, null);
+	event.bullet = getLineBullet(lineIndex, null);
+	if (event.bullet != null) event.bulletIndex = event.bullet.indexOf(lineIndex);
+	return event;
+}
+/*
+ * Discards the styles cached for all lines when the style provider changed
+ * its revision since they were queried. The cached layouts and the line
+ * sizes were computed with the old styles, so they are discarded too.
+ */
+void checkStyleProviderRevision() {
+	int revision = styleProvider.getRevision();
+	if (revision != styleProviderRevision) {
+		styleProviderRevision = revision;
+		providerStyles.clear();
+		if (layouts != null) {
+			for (TextLayout layout : layouts) {
+				if (layout != null) layout.dispose();
+			}
+			layouts = null;
+		}
+		if (lineSizes != null) reset(0, lineCount);
+		disposeLineImages();
+	}
+}
 void dispose() {
 	if (boldFont != null) boldFont.dispose();
 	if (italicFont != null) italicFont.dispose();
 	if (boldItalicFont != null) boldItalicFont.dispose();
 	boldFont = italicFont = boldItalicFont = null;
 	reset();
+	lineImages = null;
+	styleProvider = null;
+	providerStyles = null;
 	content = null;
 	device = null;
 	styledText = null;
@@ -428,6 +613,13 @@ void disposeTextLayout (TextLayout layout) {
 	}
 	layout.dispose();
 }
+void disposeLineImages() {
+	if (lineImages == null) return;
+	for (LineImage lineImage : lineImages.values()) {
+		lineImage.image.dispose();
+	}
+	lineImages.clear();
+}
 void drawBullet(Bullet bullet, GC gc, int paintX, int paintY, int index, int lineAscent, int lineDescent) {
 	StyleRange style = bullet.style;
 	GlyphMetrics metrics = style.metrics;
@@ -483,6 +675,7 @@ int drawLines(int startLine, int endLine, int begX, int begY, int endY, GC gc, C
 	// still, I'd rather stay safe.
 	final boolean drawBackBeforeFore = (fixedLineMetrics != null);
 
+	if (styleProvider != null) checkStyleProviderRevision();
 	if (drawBackBeforeFore) {
 		// Cache drawing information
 		final List<LineDrawInfo> drawInfos = new ArrayList<>();
@@ -515,8 +708,13 @@ int drawLines(int startLine, int endLine, int begX, int begY, int endY, GC gc, C
 		return y - begY;
 	}
 
+	boolean useLineImages = canUseLineImages();
 	int y = begY;
 	for (int iLine = startLine; y < endY && iLine < endLine; iLine++) {
+		if (useLineImages) {
+			y += drawLineImage(iLine, begX, y, gc, widgetBackground, widgetForeground);
+			continue;
+		}
 		LineDrawInfo lineInfo = makeLineDrawInfo(iLine);
 		drawLineBackground(lineInfo, y, gc, widgetBackground);
 		drawLineForeground(lineInfo, begX, y, gc, widgetForeground);
@@ -526,6 +724,71 @@ int drawLines(int startLine, int endLine, int begX, int begY, int endY, GC gc, C
 	return y - begY;
 }
 
+/*
+ * Lines can only be drawn from an image when nothing outside of the renderer
+ * is asked for the appearance of the line while painting.
+ */
+private boolean canUseLineImages() {
+	if (lineImages == null || fixedLineMetrics != null) return false;
+	if ((styledText.getStyle() & SWT.RIGHT_TO_LEFT) != 0) return false;
+	if (styledText.getBackgroundImage() != null) return false;
+	if (styledText.ime != null && styledText.ime.getCompositionOffset() != -1) return false;
+	return !styledText.isListening(ST.LineGetStyle) && !styledText.isListening(ST.LineGetBackground)
+		&& !styledText.isListening(ST.LineGetSegments) && !styledText.isListening(ST.PaintObject);
+}
+
+/*
+ * Draws the line from the line image cache, rendering it into a new image
+ * when the cached one is missing or stale. Returns the height of the line.
+ */
+private int drawLineImage(int lineIndex, int paintX, int paintY, GC gc, Color widgetBackground, Color widgetForeground) {
+	Rectangle client = styledText.getClientArea();
+	int width = client.x + client.width;
+	String text = content.getLine(lineIndex);
+	int offset = content.getOffsetAtLine(lineIndex);
+	Point[] selection = intersectingRelativeNonEmptySelections(offset, offset + text.length());
+	boolean blockSelection = styledText.getBlockSelection();
+	Color selectionBackground = styledText.getSelectionBackground();
+	Color selectionForeground = styledText.getSelectionForeground();
+	Integer key = Integer.valueOf(lineIndex);
+	LineImage lineImage = lineImages.get(key);
+	if (lineImage == null || !lineImage.matches(text, paintX, width, selection, blockSelection, widgetBackground, widgetForeground, selectionBackground, selectionForeground)) {
+		if (lineImage != null) {
+			lineImages.remove(key);
+			lineImage.image.dispose();
+		}
+		LineDrawInfo lineInfo = makeLineDrawInfo(lineIndex);
+		if (lineInfo.height == 0 || width <= 0) {
+			disposeTextLayout(lineInfo.layout);
+			return lineInfo.height;
+		}
+		Image image = new Image(device, width, lineInfo.height);
+		GC imageGC = new GC(image);
+		try {
+			drawLineBackground(lineInfo, 0, imageGC, widgetBackground);
+			drawLineForeground(lineInfo, paintX, 0, imageGC, widgetForeground);
+		} finally {
+			imageGC.dispose();
+			disposeTextLayout(lineInfo.layout);
+		}
+		lineImage = new LineImage();
+		lineImage.image = image;
+		lineImage.text = text;
+		lineImage.paintX = paintX;
+		lineImage.width = width;
+		lineImage.height = lineInfo.height;
+		lineImage.selection = selection;
+		lineImage.blockSelection = blockSelection;
+		lineImage.background = widgetBackground;
+		lineImage.foreground = widgetForeground;
+		lineImage.selectionBackground = selectionBackground;
+		lineImage.selectionForeground = selectionForeground;
+		lineImages.put(key, lineImage);
+	}
+	gc.drawImage(lineImage.image, 0, paintY);
+	return lineImage.height;
+}
+
 private void drawLineBackground(LineDrawInfo lineInfo, int paintY, GC gc, Color widgetBackground) {
 	Rectangle client = styledText.getClientArea();
 	Color lineBackground = getLineBackground(lineInfo.index, null);
@@ -662,6 +925,9 @@ int getHeight () {
 	if (styledText.isFixedLineHeight()) {
 		return lineCount * defaultLineHeight + styledText.topMargin + styledText.bottomMargin;
 	}
+	if (hasLineHeights()) {
+		return getLinesHeight(lineCount) + styledText.topMargin + styledText.bottomMargin;
+	}
 	int totalHeight = 0;
 	int width = styledText.getWrapWidth();
 	for (int i = 0; i < lineCount; i++) {
@@ -745,6 +1011,168 @@ Bullet getLineBullet (int index, Bullet defaultBullet) {
 int getLineHeight() {
 	return ascent + descent;
 }
+/**
+ * Returns true if the height of every line is known and the line height
+ * index can be used, building the index if needed. Lines are checked only
+ * once between invalidations, so asking repeatedly while the heights are
+ * still being calculated stays cheap.
+ */
+boolean hasLineHeights() {
+	if (lineHeightTreeValid) {
+		return lineHeightsDirtyStart == -1 || updateLineHeightTree();
+	}
+	if (lineSizes == null) return false;
+	while (lineHeightsKnown < lineCount) {
+		LineSizeInfo line = lineSizes[lineHeightsKnown];
+		if (line == null || line.needsRecalculateHeight() || line.height < 0) return false;
+		lineHeightsKnown++;
+	}
+	if (lineHeightTree == null || lineHeightTree.length != lineCount + 1) {
+		lineHeightTree = new int[lineCount + 1];
+	} else {
+		Arrays.fill(lineHeightTree, 0);
+	}
+	for (int i = 1; i <= lineCount; i++) {
+		lineHeightTree[i] += lineSizes[i - 1].height;
+		int parent = i + (i & -i);
+		if (parent <= lineCount) lineHeightTree[parent] += lineHeightTree[i];
+	}
+	lineHeightTreeValid = true;
+	return true;
+}
+/*
+ * Applies the text changes recorded by textChanging to the line height index
+ * once the heights of the changed lines are known. Lines before the shifted
+ * ones keep their place in the index and are updated in place, the index
+ * entries after the first shifted line are rebuilt from the line heights.
+ */
+boolean updateLineHeightTree() {
+	int shiftLine = lineHeightsShiftLine;
+	int end = shiftLine == -1 ? lineHeightsDirtyEnd : lineCount;
+	for (int i = lineHeightsDirtyStart; i < end; i++) {
+		LineSizeInfo line = lineSizes[i];
+		if (line == null || line.needsRecalculateHeight() || line.height < 0) return false;
+	}
+	int updateEnd = shiftLine == -1 ? lineHeightsDirtyEnd : Math.min(lineHeightsDirtyEnd, shiftLine);
+	for (int i = lineHeightsDirtyStart; i < updateEnd; i++) {
+		lineHeightChanged(i, lineSizes[i].height - (getLinesHeight(i + 1) - getLinesHeight(i)));
+	}
+	if (shiftLine != -1) {
+		if (lineHeightTree.length != lineCount + 1) {
+			int[] newTree = new int[lineCount + 1];
+			System.arraycopy(lineHeightTree, 0, newTree, 0, shiftLine + 1);
+			lineHeightTree = newTree;
+		}
+		for (int i = shiftLine + 1; i <= lineCount; i++) {
+			int height = lineSizes[i - 1].height;
+			for (int child = i - 1, first = i - (i & -i); child > first; child -= child & -child) {
+				height += lineHeightTree[child];
+			}
+			lineHeightTree[i] = height;
+		}
+	}
+	lineHeightsDirtyStart = lineHeightsShiftLine = -1;
+	lineHeightsKnown = lineCount;
+	return true;
+}
+/**
+ * Returns the sum of the heights of the lines before <code>endLine</code>.
+ * Only valid when <code>hasLineHeights()</code> returned true.
+ */
+int getLinesHeight(int endLine) {
+	int height = 0;
+	for (int i = Math.min(endLine, lineCount); i > 0; i -= i & -i) {
+		height += lineHeightTree[i];
+	}
+	return height;
+}
+/**
+ * Returns the last line whose top is at or above <code>height</code>, where
+ * <code>height</code> is measured from the top of the first line. The result
+ * is in the range 0..lineCount - 1. Only valid when <code>hasLineHeights()</code>
+ * returned true.
+ */
+int getLineIndexAtHeight(int height) {
+	int index = 0;
+	for (int step = Integer.highestOneBit(lineCount); step > 0; step >>= 1) {
+		int next = index + step;
+		if (next <= lineCount && lineHeightTree[next] <= height) {
+			index = next;
+			height -= lineHeightTree[next];
+		}
+	}
+	return Math.max(0, Math.min(lineCount - 1, index));
+}
+/*
+ * Called when the sizes of the lines starting at startLine were reset
+ * or shifted.
+ */
+void lineSizesChanged(int startLine) {
+	startLine = Math.max(0, startLine);
+	lineHeightTreeValid = false;
+	lineHeightsDirtyStart = lineHeightsShiftLine = -1;
+	lineHeightsKnown = Math.min(lineHeightsKnown, startLine);
+	idleLine = Math.min(idleLine, startLine);
+}
+/*
+ * Disposes the rendered images of the lines from startLine up to but
+ * not including endLine.
+ */
+void lineImagesChanged(int startLine, int endLine) {
+	if (lineImages == null || lineImages.isEmpty() || startLine >= endLine) return;
+	Iterator<Map.Entry<Integer, LineImage>> iterator = lineImages.entrySet().iterator();
+	while (iterator.hasNext()) {
+		Map.Entry<Integer, LineImage> entry = iterator.next();
+		int lineIndex = entry.getKey().intValue();
+		if (startLine <= lineIndex && lineIndex < endLine) {
+			entry.getValue().image.dispose();
+			iterator.remove();
+		}
+	}
+}
+/*
+ * Discards the styles cached for the lines from startLine on.
+ */
+void providerStylesChanged(int startLine) {
+	if (providerStyles == null || providerStyles.isEmpty()) return;
+	providerStyles.keySet().removeIf(lineIndex -> lineIndex.intValue() >= startLine);
+}
+/*
+ * Called when the lines from startLine on are replaced by a text change.
+ * Records the changed lines instead of invalidating the line height index,
+ * so typing does not rebuild the whole index.
+ */
+void textLinesChanged(int startLine, int replaceLineCount, int newLineCount) {
+	if (!lineHeightTreeValid) {
+		lineSizesChanged(startLine);
+		return;
+	}
+	int delta = newLineCount - replaceLineCount;
+	int replaceEnd = startLine + replaceLineCount + 1;
+	int newEnd = startLine + newLineCount + 1;
+	if (lineHeightsDirtyStart == -1) {
+		lineHeightsDirtyStart = startLine;
+		lineHeightsDirtyEnd = newEnd;
+	} else {
+		int dirtyEnd = lineHeightsDirtyEnd > replaceEnd ? lineHeightsDirtyEnd + delta : newEnd;
+		lineHeightsDirtyStart = Math.min(lineHeightsDirtyStart, startLine);
+		lineHeightsDirtyEnd = Math.max(dirtyEnd, newEnd);
+	}
+	lineHeightsDirtyEnd = Math.min(lineHeightsDirtyEnd, lineCount + delta);
+	if (delta != 0) {
+		lineHeightsShiftLine = lineHeightsShiftLine == -1 ? startLine : Math.min(lineHeightsShiftLine, startLine);
+	}
+	lineHeightsKnown = Math.min(lineHeightsKnown, startLine);
+	idleLine = Math.min(idleLine, startLine);
+}
+void lineHeightChanged(int lineIndex, int delta) {
+	if (!lineHeightTreeValid || delta == 0) return;
+	/* the entries after a pending shift are rebuilt from the line heights */
+	int end = lineHeightsShiftLine == -1 ? lineCount : lineHeightsShiftLine;
+	for (int i = lineIndex + 1; i <= end; i += i & -i) {
+		lineHeightTree[i] += delta;
+	}
+}
 int getLineHeight(int lineIndex) {
 	return getLineHeight(lineIndex, true);
 }
@@ -1042,6 +1470,8 @@ private static final class StyleEntry {
 
 TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpacing) {
 	TextLayout layout = null;
+	// before a cached layout is returned or refilled, see checkStyleProviderRevision
+	if (styleProvider != null) checkStyleProviderRevision();
 	if (styledText != null) {
 		int topIndex = styledText.topIndex > 0 ? styledText.topIndex - 1 : 0;
 		if (layouts == null || topIndex != this.topIndex) {
@@ -1117,7 +1547,8 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 			segments = event.segments;
 			segmentChars = event.segmentsChars;
 		}
-		event = styledText.getLineStyleData(lineOffset, line);
+		// the styles of a style provider are read below with the line attributes
+		event = styledText.sendLineEvent(ST.LineGetStyle, lineOffset, line);
 		indent = styledText.indent;
 		wrapIndent = styledText.wrapIndent;
 		alignment = styledText.alignment;
@@ -1187,13 +1618,26 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 				}
 			}
 		}
-		ranges = this.ranges;
-		styles = this.styles;
-		styleCount = this.styleCount;
-		if (ranges != null) {
-			rangeStart = getRangeIndex(lineOffset, -1, styleCount << 1);
+		if (styleProvider != null) {
+			LineStyles lineStyles = getProviderStyles(lineIndex, lineOffset, line);
+			ranges = lineStyles.ranges;
+			styles = lineStyles.styles;
+			styleCount = styles.length;
+			rangeStart = 0;
+			if (lineStyles.variableHeight && styledText != null && styledText.isFixedLineHeight()) {
+				styledText.hasStyleWithVariableHeight = true;
+				styledText.verticalScrollOffset = -1;
+				styledText.redraw();
+			}
 		} else {
-			rangeStart = getRangeIndex(lineOffset, -1, styleCount);
+			ranges = this.ranges;
+			styles = this.styles;
+			styleCount = this.styleCount;
+			if (ranges != null) {
+				rangeStart = getRangeIndex(lineOffset, -1, styleCount << 1);
+			} else {
+				rangeStart = getRangeIndex(lineOffset, -1, styleCount);
+			}
 		}
 	}
 	if (bullet != null) {
@@ -1386,6 +1830,36 @@ TextLayout getTextLayout(int lineIndex, int orientation, int width, int lineSpac
 	}
 	return layout;
 }
+/*
+ * Returns the styles of the line, querying the style provider when they are
+ * not cached. The ranges of the result are relative to the beginning of the
+ * text.
+ */
+LineStyles getProviderStyles(int lineIndex, int lineOffset, String line) {
+	checkStyleProviderRevision();
+	Integer key = Integer.valueOf(lineIndex);
+	LineStyles lineStyles = providerStyles.get(key);
+	if (lineStyles != null) return lineStyles;
+	int count = styleProvider.getStyleRanges(lineOffset, line, providerRangesBuffer, providerStylesBuffer);
+	while (count > providerStylesBuffer.length) {
+		providerStylesBuffer = new StyleRange[count];
+		providerRangesBuffer = new int[count << 1];
+		count = styleProvider.getStyleRanges(lineOffset, line, providerRangesBuffer, providerStylesBuffer);
+	}
+	count = Math.max(0, count);
+	lineStyles = new LineStyles();
+	lineStyles.ranges = new int[count << 1];
+	lineStyles.styles = new StyleRange[count];
+	System.arraycopy(providerRangesBuffer, 0, lineStyles.ranges, 0, count << 1);
+	System.arraycopy(providerStylesBuffer, 0, lineStyles.styles, 0, count);
+	for (int i = 0; i < count; i++) {
+		if (lineStyles.styles[i] == null) SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		if (lineStyles.styles[i].isVariableHeight()) lineStyles.variableHeight = true;
+	}
+	Arrays.fill(providerStylesBuffer, 0, count, null);
+	providerStyles.put(key, lineStyles);
+	return lineStyles;
+}
 int getWidth() {
 	return maxWidth;
 }
@@ -1403,10 +1877,13 @@ void reset() {
 	stylesSet = null;
 	lines = null;
 	lineSizes = null;
+	lineSizesChanged(0);
 	bullets = null;
 	bulletsIndices = null;
 	redrawLines = null;
 	hasLinks = false;
+	disposeLineImages();
+	if (providerStyles != null) providerStyles.clear();
 }
 void reset(int startLine, int lineCount) {
 	int endLine = startLine + lineCount;
@@ -1420,12 +1897,17 @@ void reset(int startLine, int lineCount) {
 void reset(Set<Integer> lines) {
 	if (lines == null || lines.isEmpty()) return;
 	int resetLineCount = 0;
+	int firstLine = lineCount, lastLine = -1;
 	for (Integer line : lines) {
 		if (line >= 0 || line < lineCount) {
 			resetLineCount++;
 			getLineSize(line.intValue()).resetSize();
+			firstLine = Math.min(firstLine, line.intValue());
+			lastLine = Math.max(lastLine, line.intValue());
 		}
 	}
+	lineSizesChanged(firstLine);
+	lineImagesChanged(firstLine, lastLine + 1);
 	if (linesInAverageLineHeight > resetLineCount) {
 		linesInAverageLineHeight -= resetLineCount;
 	} else {
@@ -1463,9 +1945,11 @@ void setContent(StyledTextContent content) {
  */
 public void setFixedLineMetrics(FontMetrics metrics) {
 	fixedLineMetrics = metrics;
+	disposeLineImages();
 }
 
 void setFont(Font font, int tabs) {
+	disposeLineImages();
 	TextLayout layout = new TextLayout(device);
 	layout.setFont(regularFont);
 	tabLength = tabs;
@@ -1506,7 +1990,82 @@ void setFont(Font font, int tabs) {
 		gc.dispose();
 	}
 }
+/*
+ * Called when the wrap width changes. Lines that fit on one visual line at
+ * the new width keep their height and only need their width updated, all
+ * other lines are measured again.
+ */
+void setWrapWidth(int wrapWidth) {
+	if (lineSizes == null) return;
+	int hTrim = styledText.leftMargin + styledText.rightMargin + styledText.getCaretWidth();
+	int firstLine = lineCount, resetLineCount = 0;
+	maxWidth = 0;
+	maxWidthLineIndex = -1;
+	for (int i = 0; i < lineCount; i++) {
+		LineSizeInfo line = getLineSize(i);
+		if (line.fitsWrapWidth(wrapWidth)) {
+			line.width = wrapWidth + hTrim;
+			if (line.width > maxWidth) {
+				maxWidth = line.width;
+				maxWidthLineIndex = i;
+			}
+		} else {
+			if (!line.needsRecalculateHeight()) resetLineCount++;
+			line.resetSize();
+			firstLine = Math.min(firstLine, i);
+		}
+	}
+	if (layouts != null) {
+		for (TextLayout layout : layouts) {
+			if (layout != null) layout.setWidth(wrapWidth);
+		}
+	}
+	lineSizesChanged(firstLine);
+	disposeLineImages();
+	if (linesInAverageLineHeight > resetLineCount) {
+		linesInAverageLineHeight -= resetLineCount;
+	} else {
+		linesInAverageLineHeight = 0;
+		averageLineHeight = 0.0f;
+	}
+}
+void setLineImageCacheEnabled(boolean enabled) {
+	if (enabled) {
+		if (lineImages != null) return;
+		lineImages = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, LineImage> eldest) {
+				if (size() <= LINE_IMAGE_CACHE_SIZE) return false;
+				eldest.getValue().image.dispose();
+				return true;
+			}
+		};
+	} else {
+		disposeLineImages();
+		lineImages = null;
+	}
+}
+void setStyleProvider(StyledTextStyleProvider provider) {
+	styleProvider = provider;
+	disposeLineImages();
+	if (provider == null) {
+		providerStyles = null;
+		providerRangesBuffer = null;
+		providerStylesBuffer = null;
+		return;
+	}
+	styleProviderRevision = provider.getRevision();
+	providerStyles = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, LineStyles> eldest) {
+			return size() > PROVIDER_CACHE_SIZE;
+		}
+	};
+	providerRangesBuffer = new int[GROW << 1];
+	providerStylesBuffer = new StyleRange[GROW];
+}
 void setLineAlignment(int startLine, int count, int alignment) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1517,6 +2076,7 @@ void setLineAlignment(int startLine, int count, int alignment) {
 	}
 }
 void setLineBackground(int startLine, int count, Color background) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1527,6 +2087,7 @@ void setLineBackground(int startLine, int count, Color background) {
 	}
 }
 void setLineBullet(int startLine, int count, Bullet bullet) {
+	lineImagesChanged(startLine, lineCount);
 	if (bulletsIndices != null) {
 		bulletsIndices = null;
 		bullets = null;
@@ -1556,6 +2117,7 @@ void setLineBullet(int startLine, int count, Bullet bullet) {
 	}
 }
 void setLineIndent(int startLine, int count, int indent) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1572,14 +2134,17 @@ void setLineVerticalIndent(int lineIndex, int verticalLineIndent) {
 		lines[lineIndex] = new LineInfo();
 	}
 	lines[lineIndex].flags |= VERTICAL_INDENT;
+	lineImagesChanged(lineIndex, lineIndex + 1);
 	int delta = verticalLineIndent - lines[lineIndex].verticalIndent;
 	lines[lineIndex].verticalIndent = verticalLineIndent;
 	LineSizeInfo info = getLineSize(lineIndex);
 	if (!info.needsRecalculateHeight()) {
 		info.height += delta;
+		lineHeightChanged(lineIndex, delta);
 	}
 }
 void setLineWrapIndent(int startLine, int count, int wrapIndent) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1590,6 +2155,7 @@ void setLineWrapIndent(int startLine, int count, int wrapIndent) {
 	}
 }
 void setLineJustify(int startLine, int count, boolean justify) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1600,6 +2166,7 @@ void setLineJustify(int startLine, int count, boolean justify) {
 	}
 }
 void setLineSegments(int startLine, int count, int[] segments) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1610,6 +2177,7 @@ void setLineSegments(int startLine, int count, int[] segments) {
 	}
 }
 void setLineSegmentChars(int startLine, int count, char[] segmentChars) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1620,6 +2188,7 @@ void setLineSegmentChars(int startLine, int count, char[] segmentChars) {
 	}
 }
 void setLineTabStops(int startLine, int count, int[] tabStops) {
+	lineImagesChanged(startLine, startLine + count);
 	if (lines == null) lines = new LineInfo[lineCount];
 	for (int i = startLine; i < startLine + count; i++) {
 		if (lines[i] == null) {
@@ -1631,6 +2200,39 @@ void setLineTabStops(int startLine, int count, int[] tabStops) {
 }
 void setLineSpacingProvider(StyledTextLineSpacingProvider lineSpacingProvider) {
 	this.lineSpacingProvider = lineSpacingProvider;
+	disposeLineImages();
+}
+/*
+ * Returns the style in the set of distinct styles that is similar to the
+ * given style, adding the style to the set if there is none. Ranges with
+ * similar styles share one StyleRange instance, so highlighting a large
+ * document only keeps as many StyleRange objects as there are distinct
+ * styles.
+ */
+StyleRange internStyle(StyleRange style) {
+	if (stylesSet == null) stylesSet = new StyleRange[16];
+	int mask = stylesSet.length - 1;
+	int hash = style.hashCode();
+	int index = (hash ^ (hash >>> 16)) & mask;
+	StyleRange setStyle;
+	while ((setStyle = stylesSet[index]) != null) {
+		if (setStyle == style || setStyle.similarTo(style)) return setStyle;
+		index = (index + 1) & mask;
+	}
+	stylesSet[index] = style;
+	if (++stylesSetCount << 1 > stylesSet.length) {
+		StyleRange[] oldStylesSet = stylesSet;
+		stylesSet = new StyleRange[oldStylesSet.length << 1];
+		mask = stylesSet.length - 1;
+		for (StyleRange oldStyle : oldStylesSet) {
+			if (oldStyle == null) continue;
+			hash = oldStyle.hashCode();
+			index = (hash ^ (hash >>> 16)) & mask;
+			while (stylesSet[index] != null) index = (index + 1) & mask;
+			stylesSet[index] = oldStyle;
+		}
+	}
+	return style;
 }
 void setStyleRanges (int[] newRanges, StyleRange[] newStyles) {
 	if (newStyles == null) {
@@ -1641,28 +2243,17 @@ void setStyleRanges (int[] newRanges, StyleRange[] newStyles) {
 		hasLinks = false;
 		return;
 	}
-	if (newRanges == null && COMPACT_STYLES) {
-		newRanges = new int[newStyles.length << 1];
+	if (COMPACT_STYLES) {
 		StyleRange[] tmpStyles = new StyleRange[newStyles.length];
-		if (stylesSet == null) stylesSet = new StyleRange[4];
-		for (int i = 0, j = 0; i < newStyles.length; i++) {
-			StyleRange newStyle = newStyles[i];
-			newRanges[j++] = newStyle.start;
-			newRanges[j++] = newStyle.length;
-			int index = 0;
-			while (index < stylesSetCount) {
-				if (stylesSet[index].similarTo(newStyle)) break;
-				index++;
+		if (newRanges == null) {
+			newRanges = new int[newStyles.length << 1];
+			for (int i = 0, j = 0; i < newStyles.length; i++) {
+				newRanges[j++] = newStyles[i].start;
+				newRanges[j++] = newStyles[i].length;
 			}
-			if (index == stylesSetCount) {
-				if (stylesSetCount == stylesSet.length) {
-					StyleRange[] tmpStylesSet = new StyleRange[stylesSetCount + 4];
-					System.arraycopy(stylesSet, 0, tmpStylesSet, 0, stylesSetCount);
-					stylesSet = tmpStylesSet;
-				}
-				stylesSet[stylesSetCount++] = newStyle;
-			}
-			tmpStyles[i] = stylesSet[index];
+		}
+		for (int i = 0; i < newStyles.length; i++) {
+			tmpStyles[i] = internStyle(newStyles[i]);
 		}
 		newStyles = tmpStyles;
 	}
@@ -1793,6 +2384,9 @@ void textChanging(TextChangingEvent event) {
 	updateRanges(start, replaceCharCount, newCharCount);
 
 	int startLine = content.getLineAtOffset(start);
+	textLinesChanged(startLine, replaceLineCount, newLineCount);
+	lineImagesChanged(startLine, Integer.MAX_VALUE);
+	providerStylesChanged(startLine);
 	if (replaceCharCount == content.getCharCount()) lines = null;
 	if (replaceLineCount == lineCount) {
 		lineCount = newLineCount;
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.custom;
+
+/**
+ * Style provider used to compute the styles of the lines of a
+ * {@link StyledText} on demand.
+ * <p>
+ * Unlike a <code>LineStyleListener</code>, which is asked for the styles of
+ * a line every time the line is measured or drawn, the styles returned by a
+ * style provider are cached by the widget until the provider changes its
+ * revision or the text of the line changes. Unlike
+ * <code>setStyleRanges(int[], StyleRange[])</code>, the styles are only
+ * computed for the lines the widget actually needs.
+ * </p><p>
+ * The line attributes (alignment, indent, bullets, ...) are still set on the
+ * widget, the style provider only supplies the style ranges.
+ * </p>
+ *
+ * @see StyledText#setStyleProvider(StyledTextStyleProvider)
+ * @since 3.134
+ */
+public interface StyledTextStyleProvider {
+
+	/**
+	 * Returns the revision of the styles. The widget discards the styles it
+	 * cached for all lines when the revision is different from the one
+	 * returned the last time. After changing the revision, call
+	 * <code>StyledText.redraw()</code> or <code>StyledText.redrawRange()</code>
+	 * so the affected lines are measured and painted again.
+	 *
+	 * @return the revision of the styles
+	 */
+	int getRevision();
+
+	/**
+	 * Stores the styles of the given line into the given arrays and returns
+	 * the number of styles of the line.
+	 * <p>
+	 * For the style at index <code>i</code>, <code>ranges[i * 2]</code> is the
+	 * start offset of the style relative to the beginning of the text and
+	 * <code>ranges[i * 2 + 1]</code> its length, the <code>start</code> and
+	 * <code>length</code> fields of the style are ignored so the same
+	 * <code>StyleRange</code> can be used for many ranges. The ranges must be
+	 * in order and must not overlap.
+	 * </p><p>
+	 * The arrays are owned by the widget and reused for every line. When the
+	 * line has more styles than <code>styles.length</code>, only the number of
+	 * styles has to be returned, and the widget calls the method again with
+	 * large enough arrays.
+	 * </p>
+	 *
+	 * @param lineOffset offset of the first character of the line
+	 * @param line the text of the line, without the line delimiter
+	 * @param ranges receives the start and length of each style
+	 * @param styles receives the styles
+	 * @return the number of styles of the line
+	 */
+	int getStyleRanges(int lineOffset, String line, int[] ranges, StyleRange[] styles);
+
+}
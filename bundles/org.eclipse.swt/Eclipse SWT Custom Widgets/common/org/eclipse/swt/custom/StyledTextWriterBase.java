@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.swt.custom;
 
+import java.io.*;
+import java.util.*;
+
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
 
@@ -31,7 +34,104 @@ import org.eclipse.swt.graphics.*;
  * widget font name and size is used for the whole text.</p>
  */
 abstract class StyledTextWriterBase extends TextWriter {
-	final StyledText styledText;
+	final StyledText styledText;	// null if the lines are written from a snapshot
+	final Snapshot snapshot;		// the properties of the widget
+
+	/**
+	 * A line with the styles that the widget renders it with.
+	 */
+	static final class StyledLine {
+		String text;
+		int offset;
+		int[] ranges;
+		StyleRange[] styles;
+		Color background;
+		int indent, verticalIndent, alignment;
+		boolean justify;
+		String delimiter;	// the line delimiter written after the line, or null
+	}
+
+	/**
+	 * The properties of a widget, and the lines written to the snapshot with
+	 * the styles that the widget renders them with at that time. A writer
+	 * created for a snapshot writes the lines later, after the widget changed
+	 * or was disposed. Writers of the widget itself only use the properties.
+	 */
+	static final class Snapshot extends TextWriter {
+		private StyledText styledText;	// null once the snapshot is closed
+		final Color foreground, background, marginColor;
+		final Font font;
+		final int topMargin, rightMargin, bottomMargin, leftMargin;
+		final int indent, alignment;
+		final boolean justify, wordWrap, rightToLeft, multiline;
+		final List<StyledLine> lines = new ArrayList<>();
+
+		/**
+		 * Creates a snapshot of the properties of the widget for the content
+		 * starting at offset "start".
+		 *
+		 * @param styledText the widget to take the snapshot of
+		 * @param start start offset of content to write, 0 based from beginning of document
+		 * @param length length of content to write
+		 */
+		Snapshot(StyledText styledText, int start, int length) {
+			super(start, length, Writer.nullWriter());
+			this.styledText = styledText;
+			foreground = styledText.getForeground();
+			background = styledText.getBackground();
+			marginColor = styledText.getMarginColor();
+			font = styledText.getFont();
+			topMargin = styledText.getTopMargin();
+			rightMargin = styledText.getRightMargin();
+			bottomMargin = styledText.getBottomMargin();
+			leftMargin = styledText.getLeftMargin();
+			indent = styledText.getIndent();
+			alignment = styledText.getAlignment();
+			justify = styledText.getJustify();
+			wordWrap = styledText.getWordWrap();
+			rightToLeft = styledText.getOrientation() == SWT.RIGHT_TO_LEFT || styledText.getTextDirection() == SWT.RIGHT_TO_LEFT;
+			// The range is multi line if it contains a line break, without copying its text.
+			StyledTextContent content = styledText.content;
+			multiline = content.getLineAtOffset(start) != content.getLineAtOffset(start + length);
+		}
+
+		@Override
+		public void close() {
+			styledText = null;
+			super.close();
+		}
+
+		/**
+		 * Keeps the line with a copy of its styles, the widget and the
+		 * listeners may change their styles later.
+		 */
+		@Override
+		public void writeLine(String line, int lineOffset) {
+			if (isClosed()) {
+				SWT.error(SWT.ERROR_IO);
+			}
+			StyledLine styledLine = getStyledLine(styledText, line, lineOffset);
+			StyleRange[] styles = new StyleRange[styledLine.styles.length];
+			for (int i = 0; i < styles.length; i++) {
+				styles[i] = (StyleRange) styledLine.styles[i].clone();
+			}
+			styledLine.styles = styles;
+			if (styledLine.ranges != null) {
+				styledLine.ranges = styledLine.ranges.clone();
+			}
+			lines.add(styledLine);
+		}
+
+		@Override
+		public void writeLineDelimiter(String lineDelimiter) {
+			if (isClosed()) {
+				SWT.error(SWT.ERROR_IO);
+			}
+			if (!lines.isEmpty()) {
+				lines.get(lines.size() - 1).delimiter = lineDelimiter;
+			}
+		}
+	}
 
 	/**
 	 * Creates a writer that processed content starting at offset "start"
@@ -45,10 +145,39 @@ abstract class StyledTextWriterBase extends TextWriter {
 	public StyledTextWriterBase(StyledText styledText, int start, int length) {
 		super(start, length);
 		this.styledText = styledText;
+		this.snapshot = new Snapshot(styledText, start, length);
 	}
 
 	/**
-	 * Appends the specified segment of "string" to the output data.
+	 * Creates a writer that writes the content to {@code out} instead of
+	 * keeping it in memory.
+	 *
+	 * @param start start offset of content to write, 0 based from beginning of document
+	 * @param length length of content to write
+	 * @param styledText the widget to produce the output from
+	 * @param out the destination of the output
+	 */
+	StyledTextWriterBase(StyledText styledText, int start, int length, Appendable out) {
+		super(start, length, out);
+		this.styledText = styledText;
+		this.snapshot = new Snapshot(styledText, start, length);
+	}
+
+	/**
+	 * Creates a writer that writes the lines of a snapshot, see
+	 * {@link #writeSnapshot()}.
+	 *
+	 * @param snapshot the snapshot to produce the output from
+	 */
+	StyledTextWriterBase(Snapshot snapshot) {
+		super(snapshot.getStart(), snapshot.getCharCount());
+		this.styledText = null;
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * Appends the specified segment of "string" to the output data, escaped
+	 * using the rules of the output format.
 	 * Copy from {@code start} up to, but excluding, {@code end}.
 	 *
 	 * @param string string to copy a segment from. Must not contain line breaks.
@@ -56,10 +185,7 @@ abstract class StyledTextWriterBase extends TextWriter {
 	 * @param start start offset of segment. 0 based.
 	 * @param end end offset of segment
 	 */
-	void writeEscaped(String string, int start, int end) {
-		String textToWrite = string.substring(start, end);
-		write(escapeText(textToWrite));
-	}
+	abstract void writeEscaped(String string, int start, int end);
 
 	/**
 	 * Appends the specified line text to the output data. Lines will be formatted
@@ -79,42 +205,67 @@ abstract class StyledTextWriterBase extends TextWriter {
 		if (isClosed()) {
 			SWT.error(SWT.ERROR_IO);
 		}
+		writeStyledLine(getStyledLine(styledText, line, lineOffset));
+	}
 
-		int lineIndex = styledText.content.getLineAtOffset(lineOffset);
-		int lineAlignment;
-		int lineIndent;
-		boolean lineJustify;
-		int verticalIndent;
-		int[] ranges;
-		StyleRange[] styles;
+	/**
+	 * Writes the lines of the snapshot that the writer was created for, and
+	 * closes the writer.
+	 *
+	 * @throws SWTException {@code ERROR_IO} when the writer is closed.
+	 */
+	void writeSnapshot() {
+		if (isClosed()) {
+			SWT.error(SWT.ERROR_IO);
+		}
+		for (StyledLine line : snapshot.lines) {
+			writeStyledLine(line);
+			if (line.delimiter != null) {
+				writeLineDelimiter(line.delimiter);
+			}
+		}
+		close();
+	}
 
+	/**
+	 * Returns the line with the styles queried from the LineStyleListener,
+	 * if set, or those set directly in the widget.
+	 */
+	static StyledLine getStyledLine(StyledText styledText, String line, int lineOffset) {
+		StyledLine styledLine = new StyledLine();
+		styledLine.text = line;
+		styledLine.offset = lineOffset;
+		int lineIndex = styledText.content.getLineAtOffset(lineOffset);
 		StyledTextEvent event = styledText.getLineStyleData(lineOffset, line);
 		if (event != null) {
-			verticalIndent = event.verticalIndent;
-			lineAlignment = event.alignment;
-			lineIndent = event.indent;
-			lineJustify = event.justify;
-			ranges = event.ranges;
-			styles = event.styles;
+			styledLine.verticalIndent = event.verticalIndent;
+			styledLine.alignment = event.alignment;
+			styledLine.indent = event.indent;
+			styledLine.justify = event.justify;
+			styledLine.ranges = event.ranges;
+			styledLine.styles = event.styles;
 		} else {
-			verticalIndent = styledText.renderer.getLineVerticalIndent(lineIndex);
-			lineAlignment = styledText.renderer.getLineAlignment(lineIndex, styledText.alignment);
-			lineIndent = styledText.renderer.getLineIndent(lineIndex, styledText.indent);
-			lineJustify = styledText.renderer.getLineJustify(lineIndex, styledText.justify);
-			ranges = styledText.renderer.getRanges(lineOffset, line.length());
-			styles = styledText.renderer.getStyleRanges(lineOffset, line.length(), false);
+			styledLine.verticalIndent = styledText.renderer.getLineVerticalIndent(lineIndex);
+			styledLine.alignment = styledText.renderer.getLineAlignment(lineIndex, styledText.alignment);
+			styledLine.indent = styledText.renderer.getLineIndent(lineIndex, styledText.indent);
+			styledLine.justify = styledText.renderer.getLineJustify(lineIndex, styledText.justify);
+			styledLine.ranges = styledText.renderer.getRanges(lineOffset, line.length());
+			styledLine.styles = styledText.renderer.getStyleRanges(lineOffset, line.length(), false);
 		}
 
-		if (styles == null) {
-			styles = new StyleRange[0];
+		if (styledLine.styles == null) {
+			styledLine.styles = new StyleRange[0];
 		}
 
 		event = styledText.getLineBackgroundData(lineOffset, line);
-		Color lineBackground = (event != null && event.lineBackground != null)
+		styledLine.background = (event != null && event.lineBackground != null)
 				? event.lineBackground
 				: styledText.renderer.getLineBackground(lineIndex, null);
+		return styledLine;
+	}
 
-		writeStyledLine(line, lineOffset, ranges, styles, lineBackground, lineIndent, verticalIndent, lineAlignment, lineJustify);
+	void writeStyledLine(StyledLine line) {
+		writeStyledLine(line.text, line.offset, line.ranges, line.styles, line.background, line.indent, line.verticalIndent, line.alignment, line.justify);
 	}
 
 	/**
@@ -216,13 +367,6 @@ abstract class StyledTextWriterBase extends TextWriter {
 	 */
 	abstract void writeHeader();
 
-	/**
-	 * Takes plain text and returns the same text escaped using the rules of the output format.
-	 * @param text the text to escape
-	 * @return the escaped text
-	 */
-	abstract String escapeText(String text);
-
 	/**
 	 * Invoked at the beginning of each line in the original widget.
 	 *
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swt.custom;
 
+import java.io.*;
+
 import org.eclipse.swt.*;
 
 /**
@@ -21,12 +23,17 @@ import org.eclipse.swt.*;
  * partial lines, specify the start and length of the desired segment
  * during object creation.
  * <p>
+ * The content can also be written to an <code>Appendable</code>, for example
+ * a <code>Writer</code> of a file, instead of being kept in memory.
+ * </p>
+ * <p>
  * <b>NOTE:</b> <code>toString()</code> is guaranteed to return a valid string only after close()
  * has been called.
  * </p>
  */
 class TextWriter {
 	private StringBuilder buffer;
+	private Appendable out;		// receives the content instead of buffer when set
 	private int startOffset;	// offset of first character that will be written
 	private int endOffset;		// offset of last character that will be written.
 								// 0 based from the beginning of the widget text.
@@ -44,6 +51,19 @@ class TextWriter {
 		startOffset = start;
 		endOffset = start + length;
 	}
+	/**
+	 * Creates a writer that writes content starting at offset "start"
+	 * in the document to <code>out</code>.
+	 *
+	 * @param start start offset of content to write, 0 based from beginning of document
+	 * @param length length of content to write
+	 * @param out the destination of the content
+	 */
+	TextWriter(int start, int length, Appendable out) {
+		this.out = out;
+		startOffset = start;
+		endOffset = start + length;
+	}
 	/**
 	 * Closes the writer. Once closed no more content can be written.
 	 * <b>NOTE:</b>  <code>toString()</code> is not guaranteed to return a valid string unless
@@ -76,6 +96,14 @@ class TextWriter {
 	public boolean isClosed() {
 		return isClosed;
 	}
+	/**
+	 * Returns whether the content is written to an <code>Appendable</code>
+	 * instead of being kept in a string.
+	 * @return a boolean specifying whether or not the content is streamed
+	 */
+	boolean isStreamed() {
+		return buffer == null;
+	}
 	/**
 	 * Returns the string.  <code>close()</code> must be called before <code>toString()</code>
 	 * is guaranteed to return a valid string.
@@ -84,25 +112,41 @@ class TextWriter {
 	 */
 	@Override
 	public String toString() {
-		return buffer.toString();
+		return buffer != null ? buffer.toString() : out.toString();
 	}
 	/**
 	 * Appends the given string to the data.
 	 */
 	void write(String string) {
-		buffer.append(string);
+		if (buffer != null) {
+			buffer.append(string);
+		} else {
+			append(string, 0, string.length());
+		}
+	}
+	/**
+	 * Appends the characters of "string" from "start" up to, but
+	 * excluding, "end" to the data.
+	 */
+	void write(String string, int start, int end) {
+		if (buffer != null) {
+			buffer.append(string, start, end);
+		} else {
+			append(string, start, end);
+		}
 	}
 	/**
 	 * Inserts the given string to the data at the specified offset.
 	 * <p>
-	 * Do nothing if "offset" is &lt; 0 or &gt; getCharCount()
+	 * Do nothing if "offset" is &lt; 0 or &gt; getCharCount(), or if
+	 * the content is written to an <code>Appendable</code>.
 	 * </p>
 	 *
 	 * @param string text to insert
 	 * @param offset offset in the existing data to insert "string" at.
 	 */
 	void write(String string, int offset) {
-		if (offset < 0 || offset > buffer.length()) {
+		if (buffer == null || offset < 0 || offset > buffer.length()) {
 			return;
 		}
 		buffer.insert(offset, string);
@@ -111,13 +155,32 @@ class TextWriter {
 	 * Appends the given int to the data.
 	 */
 	void write(int i) {
-		buffer.append(i);
+		if (buffer != null) {
+			buffer.append(i);
+		} else {
+			write(Integer.toString(i));
+		}
 	}
 	/**
 	 * Appends the given character to the data.
 	 */
 	void write(char i) {
-		buffer.append(i);
+		if (buffer != null) {
+			buffer.append(i);
+		} else {
+			try {
+				out.append(i);
+			} catch (IOException e) {
+				SWT.error(SWT.ERROR_IO, e);
+			}
+		}
+	}
+	private void append(String string, int start, int end) {
+		try {
+			out.append(string, start, end);
+		} catch (IOException e) {
+			SWT.error(SWT.ERROR_IO, e);
+		}
 	}
 	/**
 	 * Appends the specified line text to the data.
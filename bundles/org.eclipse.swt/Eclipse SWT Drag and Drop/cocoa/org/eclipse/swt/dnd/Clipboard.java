@@ -14,6 +14,7 @@
 package org.eclipse.swt.dnd;
 
 import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.cocoa.*;
@@ -483,6 +484,11 @@ public void setContents(Object[] data, Transfer[] dataTypes) {
  * modification may or may not be available when the data is subsequently
  * requested.</p>
  *
+ * <p>An entry of <code>data</code> may also be a {@link Supplier} of the data
+ * for the corresponding transfer agent. The pasteboard holds a copy of the data,
+ * so it is called by this method, a format the supplier provides no data for is
+ * not set.</p>
+ *
  * <p>The clipboards value is either one of the clipboard constants defined in
  * class <code>DND</code>, or must be built by <em>bitwise OR</em>'ing together
  * (that is, using the <code>int</code> "|" operator) two or more
@@ -536,22 +542,27 @@ public void setContents(Object[] data, Transfer[] dataTypes, int clipboards) {
 		DND.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	for (int i = 0; i < data.length; i++) {
-		if (data[i] == null || dataTypes[i] == null || !dataTypes[i].validate(data[i])) {
+		if (data[i] == null || dataTypes[i] == null || !(data[i] instanceof Supplier || dataTypes[i].validate(data[i]))) {
 			DND.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 	}
 	if ((clipboards & DND.CLIPBOARD) == 0) return;
+	Object[] values = new Object[data.length];
+	for (int i = 0; i < data.length; i++) {
+		values[i] = DND.resolveData(data[i], dataTypes[i]);
+	}
 	NSPasteboard pasteboard = NSPasteboard.generalPasteboard();
 	if (pasteboard == null) {
 		DND.error(DND.ERROR_CANNOT_SET_CLIPBOARD);
 	}
 	pasteboard.declareTypes(NSMutableArray.arrayWithCapacity(0), null);
 	for (int i=0; i<dataTypes.length; i++) {
+		if (values[i] == null) continue;
 		String[] typeNames = dataTypes[i].getTypeNames();
 		for (int j=0; j<typeNames.length; j++) {
 			TransferData transferData = new TransferData();
 			transferData.type = Transfer.registerType(typeNames[j]);
-			dataTypes[i].javaToNative(data[i], transferData);
+			dataTypes[i].javaToNative(values[i], transferData);
 			NSObject tdata = transferData.data;
 			NSString dataType = NSString.stringWith(typeNames[j]);
 			pasteboard.addTypes(NSArray.arrayWithObject(dataType), null);
@@ -14,6 +14,8 @@
 package org.eclipse.swt.dnd;
 
 
+import java.util.function.*;
+
 import org.eclipse.swt.*;
 
 /**
@@ -296,4 +298,20 @@ public static void error (int code, int hresult) {
 	SWT.error(code);
 }
 
+/**
+ * Returns the data of an entry passed to <code>Clipboard.setContents</code>,
+ * asking a <code>Supplier</code> for it. Returns null if the supplier provides
+ * no data or data that is not valid for the transfer agent.
+ *
+ * @param data the entry passed to <code>setContents</code>
+ * @param transfer the transfer agent of the entry
+ */
+static Object resolveData(Object data, Transfer transfer) {
+	if (data instanceof Supplier<?> supplier) {
+		data = supplier.get();
+		if (data == null || !transfer.validate(data)) return null;
+	}
+	return data;
+}
+
 }
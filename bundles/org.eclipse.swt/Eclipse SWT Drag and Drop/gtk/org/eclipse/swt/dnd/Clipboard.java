@@ -18,6 +18,7 @@ import java.time.*;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.*;
@@ -547,6 +548,10 @@ public void setContents(Object[] data, Transfer[] dataTypes) {
  * modification may or may not be available when the data is subsequently
  * requested.</p>
  *
+ * <p>An entry of <code>data</code> may also be a {@link Supplier} of the data
+ * for the corresponding transfer agent. It is called when an application asks
+ * for that format, a format the supplier provides no data for is not available.</p>
+ *
  * <p>The clipboards value is either one of the clipboard constants defined in
  * class <code>DND</code>, or must be built by <em>bitwise OR</em>'ing together
  * (that is, using the <code>int</code> "|" operator) two or more
@@ -600,7 +605,7 @@ public void setContents(Object[] data, Transfer[] dataTypes, int clipboards) {
 		DND.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	for (int i = 0; i < data.length; i++) {
-		if (data[i] == null || dataTypes[i] == null || !dataTypes[i].validate(data[i])) {
+		if (data[i] == null || dataTypes[i] == null || !(data[i] instanceof Supplier || dataTypes[i].validate(data[i]))) {
 			DND.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 	}
@@ -172,7 +172,9 @@ long getFunc(long clipboard, long selection_data, long info, long user_data_or_o
 	}
 	if (index == -1) return 0;
 	Object[] data = (clipboard == Clipboard.GTKCLIPBOARD) ? clipboardData : primaryClipboardData;
-	types[index].javaToNative(data[index], tdata);
+	Object value = DND.resolveData(data[index], types[index]);
+	if (value == null) return 0;
+	types[index].javaToNative(value, tdata);
 	if (tdata.format < 8 || tdata.format % 8 != 0) {
 		return 0;
 	}
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.swt.dnd;
 
+import java.lang.reflect.*;
 import java.time.*;
 import java.util.concurrent.*;
 
@@ -35,6 +36,8 @@ class ClipboardProxyGTK4 {
 	private Clipboard activeClipboard = null;
 	private Clipboard activePrimaryClipboard = null;
 	private final ContentProviders contentProviders = ContentProviders.getInstance();
+	private Callback changedFunc;
+	private int clipboardChangedHandler, primaryClipboardChangedHandler;
 
 	static ClipboardProxyGTK4 _getInstance(final Display display) {
 		if (!GTK.GTK4) {
@@ -57,6 +60,25 @@ class ClipboardProxyGTK4 {
 
 	private ClipboardProxyGTK4(Display display) {
 		this.display = display;
+		changedFunc = new Callback(this, "changedFunc", void.class, new Type[] { long.class, long.class }); //$NON-NLS-1$
+		clipboardChangedHandler = OS.g_signal_connect(Clipboard.GTKCLIPBOARD, OS.changed, changedFunc.getAddress(), 0);
+		primaryClipboardChangedHandler = OS.g_signal_connect(Clipboard.GTKPRIMARYCLIPBOARD, OS.changed, changedFunc.getAddress(), 0);
+	}
+
+	/**
+	 * Releases the data we placed on a clipboard once another application
+	 * owns the clipboard. Data that is created on request, such as a
+	 * {@link java.util.function.Supplier}, can be large.
+	 */
+	void changedFunc(long clipboard, long user_data) {
+		if (GTK4.gdk_clipboard_is_local(clipboard)) return;
+		if (clipboard == Clipboard.GTKCLIPBOARD) {
+			ContentProviders.CLIPBOARD_DATA.CLIPBOARD.clear();
+			activeClipboard = null;
+		} else if (clipboard == Clipboard.GTKPRIMARYCLIPBOARD) {
+			ContentProviders.CLIPBOARD_DATA.PRIMARYCLIPBOARD.clear();
+			activePrimaryClipboard = null;
+		}
 	}
 
 	/**
@@ -102,6 +124,10 @@ class ClipboardProxyGTK4 {
 		}
 
 		display = null;
+		OS.g_signal_handler_disconnect(Clipboard.GTKCLIPBOARD, clipboardChangedHandler);
+		OS.g_signal_handler_disconnect(Clipboard.GTKPRIMARYCLIPBOARD, primaryClipboardChangedHandler);
+		changedFunc.dispose();
+		changedFunc = null;
 
 	}
 
@@ -97,12 +97,8 @@ class ContentProviders {
 
 		/**
 		 * At the beginning of a set contents operation clear out any old data we have
-		 * copied to the clipboard.
-		 *
-		 * TODO call clear when we lose ownership of this clipboard by registering with
-		 * https://docs.gtk.org/gdk4/signal.Clipboard.changed.html and then maybe
-		 * checking https://docs.gtk.org/gdk4/method.Clipboard.is_local.html and if not
-		 * local anymore then we should clear the data we placed.
+		 * copied to the clipboard. Also called when we lose ownership of this
+		 * clipboard, see ClipboardProxyGTK4#changedFunc.
 		 */
 		void clear() {
 			this.data.clear();
@@ -258,7 +254,12 @@ class ContentProviders {
 			return;
 		}
 
-		Object object = clipboardData.data.get(transferKey(transfer));
+		Object object = DND.resolveData(clipboardData.data.get(transferKey(transfer)), transfer);
+		if (object == null) {
+			serializer.return_error(OS.g_error_new_literal(OS.g_io_error_quark(), OS.G_IO_ERROR_FAILED,
+					"Supplier could not provide data"));
+			return;
+		}
 
 		transfer.javaToNative(object, transferData);
 		if (transferData.result != 1) {
@@ -457,8 +458,8 @@ class ContentProviders {
 				// Object is from within app, so get contents from clipboard data
 				// Do not remove our reference to the object yet as it may be copied
 				// multiple times
-				Object object = fromSourceId.data.get(transferKey(transfer));
-				return clone(transfer, object);
+				Object object = DND.resolveData(fromSourceId.data.get(transferKey(transfer)), transfer);
+				return object == null ? null : clone(transfer, object);
 			} else {
 				// Object is from outside app or otherwise needed deserializing
 				// Remove our reference to it and return it
@@ -15,6 +15,7 @@
 package org.eclipse.swt.dnd;
 
 import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.internal.*;
@@ -543,6 +544,10 @@ public void setContents(Object[] data, Transfer[] dataTypes) {
  * modification may or may not be available when the data is subsequently
  * requested.</p>
  *
+ * <p>An entry of <code>data</code> may also be a {@link Supplier} of the data
+ * for the corresponding transfer agent. It is called when an application asks
+ * for that format, a format the supplier provides no data for is not available.</p>
+ *
  * <p>The clipboards value is either one of the clipboard constants defined in
  * class <code>DND</code>, or must be built by <em>bitwise OR</em>'ing together
  * (that is, using the <code>int</code> "|" operator) two or more
@@ -596,7 +601,7 @@ public void setContents(Object[] data, Transfer[] dataTypes, int clipboards) {
 		DND.error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	for (int i = 0; i < data.length; i++) {
-		if (data[i] == null || dataTypes[i] == null || !dataTypes[i].validate(data[i])) {
+		if (data[i] == null || dataTypes[i] == null || !(data[i] instanceof Supplier || dataTypes[i].validate(data[i]))) {
 			DND.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 	}
@@ -733,7 +738,9 @@ private int GetData(long pFormatetc, long pmedium) {
 		}
 	}
 	if (transferIndex == -1) return COM.DV_E_FORMATETC;
-	transferAgents[transferIndex].javaToNative(data[transferIndex], transferData);
+	Object value = DND.resolveData(data[transferIndex], transferAgents[transferIndex]);
+	if (value == null) return COM.E_FAIL;
+	transferAgents[transferIndex].javaToNative(value, transferData);
 	COM.MoveMemory(pmedium, transferData.stgmedium, STGMEDIUM.sizeof);
 	return transferData.result;
 }
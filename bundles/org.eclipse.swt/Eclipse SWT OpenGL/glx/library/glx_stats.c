@@ -17,4 +17,67 @@
 
 #include "swt.h"
 #include "glx_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int GLX_nativeProfile = 0;
+int GLX_nativeFunctionCount = 11;
+jlong GLX_nativeFunctionCallCount[11];
+jlong GLX_nativeFunctionTime[11];
+const char* GLX_nativeFunctionNames[] = {
+	"XVisualInfo_1sizeof",
+	"glGetIntegerv",
+	"glViewport",
+	"glXChooseVisual",
+	"glXCreateContext",
+	"glXDestroyContext",
+	"glXGetConfig",
+	"glXGetCurrentContext",
+	"glXMakeCurrent",
+	"glXSwapBuffers",
+	"memmove",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(GLX_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return GLX_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(GLX_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, GLX_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(GLX_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return GLX_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(GLX_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return GLX_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(GLX_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	GLX_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(GLX_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(GLX_nativeFunctionCallCount, 0, sizeof(GLX_nativeFunctionCallCount));
+	memset(GLX_nativeFunctionTime, 0, sizeof(GLX_nativeFunctionTime));
+}
 
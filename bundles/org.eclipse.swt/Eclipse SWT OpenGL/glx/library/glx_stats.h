@@ -15,11 +15,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define GLX_PROFILE_ENTER(func) jlong GLX_nativeProfileStart = GLX_nativeProfile ? swt_profile_time() : 0;
+#define GLX_PROFILE_EXIT(func) if (GLX_nativeProfile) { GLX_nativeFunctionCallCount[func]++; GLX_nativeFunctionTime[func] += swt_profile_time() - GLX_nativeProfileStart; }
 #ifndef GLX_NATIVE_ENTER
-#define GLX_NATIVE_ENTER(env, that, func) 
+#define GLX_NATIVE_ENTER(env, that, func) GLX_PROFILE_ENTER(func)
 #endif
 #ifndef GLX_NATIVE_EXIT
-#define GLX_NATIVE_EXIT(env, that, func) 
+#define GLX_NATIVE_EXIT(env, that, func) GLX_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -35,3 +37,8 @@ typedef enum {
 	glXSwapBuffers_FUNC,
 	memmove_FUNC,
 } GLX_FUNCS;
+
+extern int GLX_nativeProfile;
+extern jlong GLX_nativeFunctionCallCount[];
+extern jlong GLX_nativeFunctionTime[];
+
@@ -17,4 +17,65 @@
 
 #include "swt.h"
 #include "wgl_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int WGL_nativeProfile = 0;
+int WGL_nativeFunctionCount = 9;
+jlong WGL_nativeFunctionCallCount[9];
+jlong WGL_nativeFunctionTime[9];
+const char* WGL_nativeFunctionNames[] = {
+	"ChoosePixelFormat",
+	"DescribePixelFormat",
+	"SetPixelFormat",
+	"SwapBuffers",
+	"wglCreateContext",
+	"wglDeleteContext",
+	"wglGetCurrentContext",
+	"wglMakeCurrent",
+	"wglShareLists",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(WGL_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return WGL_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(WGL_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, WGL_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(WGL_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return WGL_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(WGL_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return WGL_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(WGL_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	WGL_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(WGL_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(WGL_nativeFunctionCallCount, 0, sizeof(WGL_nativeFunctionCallCount));
+	memset(WGL_nativeFunctionTime, 0, sizeof(WGL_nativeFunctionTime));
+}
 
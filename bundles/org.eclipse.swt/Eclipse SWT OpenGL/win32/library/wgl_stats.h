@@ -15,11 +15,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define WGL_PROFILE_ENTER(func) jlong WGL_nativeProfileStart = WGL_nativeProfile ? swt_profile_time() : 0;
+#define WGL_PROFILE_EXIT(func) if (WGL_nativeProfile) { WGL_nativeFunctionCallCount[func]++; WGL_nativeFunctionTime[func] += swt_profile_time() - WGL_nativeProfileStart; }
 #ifndef WGL_NATIVE_ENTER
-#define WGL_NATIVE_ENTER(env, that, func) 
+#define WGL_NATIVE_ENTER(env, that, func) WGL_PROFILE_ENTER(func)
 #endif
 #ifndef WGL_NATIVE_EXIT
-#define WGL_NATIVE_EXIT(env, that, func) 
+#define WGL_NATIVE_EXIT(env, that, func) WGL_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -33,3 +35,8 @@ typedef enum {
 	wglMakeCurrent_FUNC,
 	wglShareLists_FUNC,
 } WGL_FUNCS;
+
+extern int WGL_nativeProfile;
+extern jlong WGL_nativeFunctionCallCount[];
+extern jlong WGL_nativeFunctionTime[];
+
@@ -24,4 +24,176 @@
 
 #include "swt.h"
 #include "cairo_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int Cairo_nativeProfile = 0;
+int Cairo_nativeFunctionCount = 120;
+jlong Cairo_nativeFunctionCallCount[120];
+jlong Cairo_nativeFunctionTime[120];
+const char* Cairo_nativeFunctionNames[] = {
+	"CAIRO_1VERSION_1ENCODE",
+	"cairo_1append_1path",
+	"cairo_1arc",
+	"cairo_1arc_1negative",
+	"cairo_1clip",
+	"cairo_1close_1path",
+	"cairo_1copy_1path",
+	"cairo_1copy_1path_1flat",
+	"cairo_1create",
+	"cairo_1curve_1to",
+	"cairo_1destroy",
+	"cairo_1fill",
+	"cairo_1font_1options_1create",
+	"cairo_1font_1options_1destroy",
+	"cairo_1font_1options_1get_1antialias",
+	"cairo_1font_1options_1set_1antialias",
+	"cairo_1get_1antialias",
+	"cairo_1get_1current_1point",
+	"cairo_1get_1fill_1rule",
+	"cairo_1get_1font_1face",
+	"cairo_1get_1matrix",
+	"cairo_1get_1source",
+	"cairo_1get_1target",
+	"cairo_1get_1tolerance",
+	"cairo_1identity_1matrix",
+	"cairo_1image_1surface_1create",
+	"cairo_1image_1surface_1get_1data",
+	"cairo_1image_1surface_1get_1format",
+	"cairo_1image_1surface_1get_1height",
+	"cairo_1image_1surface_1get_1stride",
+	"cairo_1image_1surface_1get_1width",
+	"cairo_1in_1fill",
+	"cairo_1in_1stroke",
+	"cairo_1line_1to",
+	"cairo_1matrix_1init",
+	"cairo_1matrix_1init_1identity",
+	"cairo_1matrix_1invert",
+	"cairo_1matrix_1multiply",
+	"cairo_1matrix_1rotate",
+	"cairo_1matrix_1scale",
+	"cairo_1matrix_1transform_1point",
+	"cairo_1matrix_1translate",
+	"cairo_1move_1to",
+	"cairo_1new_1path",
+	"cairo_1paint",
+	"cairo_1paint_1with_1alpha",
+	"cairo_1path_1data_1t_1sizeof",
+	"cairo_1path_1destroy",
+	"cairo_1path_1t_1sizeof",
+	"cairo_1pattern_1add_1color_1stop_1rgba",
+	"cairo_1pattern_1create_1for_1surface",
+	"cairo_1pattern_1create_1linear",
+	"cairo_1pattern_1destroy",
+	"cairo_1pattern_1set_1extend",
+	"cairo_1pattern_1set_1filter",
+	"cairo_1pattern_1set_1matrix",
+	"cairo_1pdf_1surface_1create",
+	"cairo_1pdf_1surface_1set_1size",
+	"cairo_1pop_1group_1to_1source",
+	"cairo_1ps_1surface_1set_1size",
+	"cairo_1push_1group",
+	"cairo_1rectangle",
+	"cairo_1rectangle_1int_1t_1sizeof",
+	"cairo_1reference",
+	"cairo_1region_1contains_1point",
+	"cairo_1region_1contains_1rectangle",
+	"cairo_1region_1copy",
+	"cairo_1region_1create",
+	"cairo_1region_1create_1rectangle",
+	"cairo_1region_1destroy",
+	"cairo_1region_1get_1extents",
+	"cairo_1region_1get_1rectangle",
+	"cairo_1region_1intersect",
+	"cairo_1region_1is_1empty",
+	"cairo_1region_1num_1rectangles",
+	"cairo_1region_1subtract",
+	"cairo_1region_1translate",
+	"cairo_1region_1union",
+	"cairo_1region_1union_1rectangle",
+	"cairo_1reset_1clip",
+	"cairo_1restore",
+	"cairo_1save",
+	"cairo_1scale",
+	"cairo_1select_1font_1face",
+	"cairo_1set_1antialias",
+	"cairo_1set_1dash",
+	"cairo_1set_1fill_1rule",
+	"cairo_1set_1font_1size",
+	"cairo_1set_1line_1cap",
+	"cairo_1set_1line_1join",
+	"cairo_1set_1line_1width",
+	"cairo_1set_1matrix",
+	"cairo_1set_1miter_1limit",
+	"cairo_1set_1operator",
+	"cairo_1set_1source",
+	"cairo_1set_1source_1rgb",
+	"cairo_1set_1source_1rgba",
+	"cairo_1set_1source_1surface",
+	"cairo_1set_1tolerance",
+	"cairo_1show_1page",
+	"cairo_1stroke",
+	"cairo_1surface_1destroy",
+	"cairo_1surface_1finish",
+	"cairo_1surface_1flush",
+	"cairo_1surface_1get_1content",
+	"cairo_1surface_1get_1device_1scale",
+	"cairo_1surface_1get_1type",
+	"cairo_1surface_1mark_1dirty",
+	"cairo_1surface_1reference",
+	"cairo_1surface_1set_1device_1scale",
+	"cairo_1transform",
+	"cairo_1translate",
+	"cairo_1user_1to_1device_1distance",
+	"cairo_1version",
+	"cairo_1xlib_1surface_1get_1height",
+	"cairo_1xlib_1surface_1get_1width",
+	"memmove__Lorg_eclipse_swt_internal_cairo_cairo_1path_1data_1t_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cairo_cairo_1path_1t_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cairo_cairo_1rectangle_1int_1t_2JJ",
+	"memmove___3DJJ",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(Cairo_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return Cairo_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(Cairo_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, Cairo_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(Cairo_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return Cairo_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(Cairo_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return Cairo_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(Cairo_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	Cairo_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(Cairo_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(Cairo_nativeFunctionCallCount, 0, sizeof(Cairo_nativeFunctionCallCount));
+	memset(Cairo_nativeFunctionTime, 0, sizeof(Cairo_nativeFunctionTime));
+}
 
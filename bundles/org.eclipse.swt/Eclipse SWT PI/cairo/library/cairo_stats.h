@@ -22,11 +22,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define Cairo_PROFILE_ENTER(func) jlong Cairo_nativeProfileStart = Cairo_nativeProfile ? swt_profile_time() : 0;
+#define Cairo_PROFILE_EXIT(func) if (Cairo_nativeProfile) { Cairo_nativeFunctionCallCount[func]++; Cairo_nativeFunctionTime[func] += swt_profile_time() - Cairo_nativeProfileStart; }
 #ifndef Cairo_NATIVE_ENTER
-#define Cairo_NATIVE_ENTER(env, that, func) 
+#define Cairo_NATIVE_ENTER(env, that, func) Cairo_PROFILE_ENTER(func)
 #endif
 #ifndef Cairo_NATIVE_EXIT
-#define Cairo_NATIVE_EXIT(env, that, func) 
+#define Cairo_NATIVE_EXIT(env, that, func) Cairo_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -151,3 +153,8 @@ typedef enum {
 	memmove__Lorg_eclipse_swt_internal_cairo_cairo_1rectangle_1int_1t_2JJ_FUNC,
 	memmove___3DJJ_FUNC,
 } Cairo_FUNCS;
+
+extern int Cairo_nativeProfile;
+extern jlong Cairo_nativeFunctionCallCount[];
+extern jlong Cairo_nativeFunctionTime[];
+
@@ -69,15 +69,16 @@ extern jint CPSSetProcessName(void *, jlong);
 #define DUMP_EXCEPTION
 #endif
 
-#ifndef NATIVE_STATS
+/* OS_PROFILE_ENTER and OS_PROFILE_EXIT are defined in os_stats.h */
 #define OS_NATIVE_ENTER(env, that, func) \
+	OS_PROFILE_ENTER(func) \
 	@try {  
 #define OS_NATIVE_EXIT(env, that, func) \
 	; } \
 	@catch (NSException *nsx) { \
 		DUMP_EXCEPTION \
-	}
-#endif
+	} \
+	OS_PROFILE_EXIT(func)
 
 #endif /* INC_os_H */
 
@@ -17,4 +17,569 @@
 
 #include "swt.h"
 #include "os_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int OS_nativeProfile = 0;
+int OS_nativeFunctionCount = 513;
+jlong OS_nativeFunctionCallCount[513];
+jlong OS_nativeFunctionTime[513];
+const char* OS_nativeFunctionNames[] = {
+	"AcquireRootMenu",
+	"CALLBACK_1NSTextAttachmentCell_1attachment",
+	"CALLBACK_1NSTextAttachmentCell_1cellSize",
+	"CALLBACK_1accessibilityHitTest_1",
+	"CALLBACK_1attributedSubstringFromRange_1",
+	"CALLBACK_1cacheDisplayInRect_1toBitmapImageRep_1",
+	"CALLBACK_1canDragRowsWithIndexes_1atPoint_1",
+	"CALLBACK_1cellBaselineOffset",
+	"CALLBACK_1cellSize",
+	"CALLBACK_1cellSizeForBounds_1",
+	"CALLBACK_1characterIndexForPoint_1",
+	"CALLBACK_1columnAtPoint_1",
+	"CALLBACK_1draggedImage_1endedAt_1operation_1",
+	"CALLBACK_1drawBackgroundInClipRect_1",
+	"CALLBACK_1drawBezelWithFrame_1inView_1",
+	"CALLBACK_1drawImage_1withFrame_1inView_1",
+	"CALLBACK_1drawInteriorWithFrame_1inView_1",
+	"CALLBACK_1drawLabel_1inRect_1",
+	"CALLBACK_1drawRect_1",
+	"CALLBACK_1drawTitle_1withFrame_1inView_1",
+	"CALLBACK_1drawViewBackgroundInRect_1",
+	"CALLBACK_1drawWithExpansionFrame_1inView_1",
+	"CALLBACK_1expansionFrameWithFrame_1inView_1",
+	"CALLBACK_1firstRectForCharacterRange_1",
+	"CALLBACK_1focusRingMaskBoundsForFrame_1inView_1",
+	"CALLBACK_1headerRectOfColumn_1",
+	"CALLBACK_1highlightSelectionInClipRect_1",
+	"CALLBACK_1hitTestForEvent_1inRect_1ofView_1",
+	"CALLBACK_1hitTest_1",
+	"CALLBACK_1imageRectForBounds_1",
+	"CALLBACK_1markedRange",
+	"CALLBACK_1scrollClipView_1toPoint_1",
+	"CALLBACK_1selectedRange",
+	"CALLBACK_1setFrameOrigin_1",
+	"CALLBACK_1setFrameSize_1",
+	"CALLBACK_1setMarkedText_1selectedRange_1",
+	"CALLBACK_1setNeedsDisplayInRect_1",
+	"CALLBACK_1shouldChangeTextInRange_1replacementString_1",
+	"CALLBACK_1sizeOfLabel_1",
+	"CALLBACK_1textView_1willChangeSelectionFromCharacterRange_1toCharacterRange_1",
+	"CALLBACK_1titleRectForBounds_1",
+	"CALLBACK_1view_1stringForToolTip_1point_1userData_1",
+	"CALLBACK_1webView_1setFrame_1",
+	"CFDataGetBytePtr",
+	"CFDataGetLength",
+	"CFRelease",
+	"CFRunLoopAddObserver",
+	"CFRunLoopGetCurrent",
+	"CFRunLoopObserverCreate",
+	"CFRunLoopObserverInvalidate",
+	"CFURLCreateStringByAddingPercentEscapes",
+	"CGAffineTransform_1sizeof",
+	"CGBitmapContextCreate",
+	"CGColorCreate",
+	"CGColorRelease",
+	"CGColorSpaceCreateDeviceRGB",
+	"CGColorSpaceRelease",
+	"CGContextAddPath",
+	"CGContextBeginTransparencyLayerWithRect",
+	"CGContextCopyPath",
+	"CGContextDrawImage",
+	"CGContextEndTransparencyLayer",
+	"CGContextFillRect",
+	"CGContextRelease",
+	"CGContextReplacePathWithStrokedPath",
+	"CGContextRestoreGState",
+	"CGContextSaveGState",
+	"CGContextScaleCTM",
+	"CGContextSetBlendMode",
+	"CGContextSetFillColor",
+	"CGContextSetFillColorSpace",
+	"CGContextSetLineCap",
+	"CGContextSetLineDash",
+	"CGContextSetLineJoin",
+	"CGContextSetLineWidth",
+	"CGContextSetMiterLimit",
+	"CGContextStrokePath",
+	"CGContextTranslateCTM",
+	"CGDataProviderCreateWithData",
+	"CGDataProviderRelease",
+	"CGDisplayBounds",
+	"CGDisplayCreateImage",
+	"CGEventCreateKeyboardEvent",
+	"CGEventCreateMouseEvent",
+	"CGEventCreateScrollWheelEvent",
+	"CGEventGetIntegerValueField",
+	"CGEventPost",
+	"CGEventSourceCreate",
+	"CGGetDisplaysWithRect",
+	"CGImageCreate",
+	"CGImageGetHeight",
+	"CGImageGetWidth",
+	"CGImageRelease",
+	"CGPDFContextBeginPage",
+	"CGPDFContextClose",
+	"CGPDFContextCreateWithURL",
+	"CGPDFContextEndPage",
+	"CGPathAddCurveToPoint",
+	"CGPathAddLineToPoint",
+	"CGPathApply",
+	"CGPathCloseSubpath",
+	"CGPathCreateMutable",
+	"CGPathElement_1sizeof",
+	"CGPathMoveToPoint",
+	"CGPathRelease",
+	"CGPoint_1sizeof",
+	"CGRect_1sizeof",
+	"CGSize_1sizeof",
+	"CPSSetProcessName",
+	"CTFontManagerRegisterFontsForURL",
+	"CancelMenuTracking",
+	"CloseRgn",
+	"CopyRgn",
+	"DeleteGlobalRef",
+	"DiffRgn",
+	"DisposeRgn",
+	"EmptyRgn",
+	"GetCurrentProcess",
+	"GetIconRefFromTypeInfo",
+	"GetRegionBounds",
+	"GetSystemUIMode",
+	"GetThemeMetric",
+	"HIThemeDrawFocusRect",
+	"JNIGetObject",
+	"JSEvaluateScript",
+	"JSStringCreateWithUTF8CString",
+	"JSStringRelease",
+	"LMGetKbdType",
+	"LineTo",
+	"MoveTo",
+	"NSAccessibilityAttributedStringForRangeParameterizedAttribute",
+	"NSAccessibilityBackgroundColorTextAttribute",
+	"NSAccessibilityBoundsForRangeParameterizedAttribute",
+	"NSAccessibilityButtonRole",
+	"NSAccessibilityCellForColumnAndRowParameterizedAttribute",
+	"NSAccessibilityCheckBoxRole",
+	"NSAccessibilityChildrenAttribute",
+	"NSAccessibilityColumnIndexRangeAttribute",
+	"NSAccessibilityColumnRole",
+	"NSAccessibilityColumnsAttribute",
+	"NSAccessibilityComboBoxRole",
+	"NSAccessibilityConfirmAction",
+	"NSAccessibilityContentsAttribute",
+	"NSAccessibilityDescriptionAttribute",
+	"NSAccessibilityDialogSubrole",
+	"NSAccessibilityEnabledAttribute",
+	"NSAccessibilityExpandedAttribute",
+	"NSAccessibilityFocusedAttribute",
+	"NSAccessibilityFocusedUIElementChangedNotification",
+	"NSAccessibilityFontFamilyKey",
+	"NSAccessibilityFontNameKey",
+	"NSAccessibilityFontSizeKey",
+	"NSAccessibilityFontTextAttribute",
+	"NSAccessibilityForegroundColorTextAttribute",
+	"NSAccessibilityGroupRole",
+	"NSAccessibilityHeaderAttribute",
+	"NSAccessibilityHelpAttribute",
+	"NSAccessibilityHelpTagRole",
+	"NSAccessibilityHorizontalOrientationValue",
+	"NSAccessibilityImageRole",
+	"NSAccessibilityIndexAttribute",
+	"NSAccessibilityInsertionPointLineNumberAttribute",
+	"NSAccessibilityLineForIndexParameterizedAttribute",
+	"NSAccessibilityLinkRole",
+	"NSAccessibilityLinkTextAttribute",
+	"NSAccessibilityMaxValueAttribute",
+	"NSAccessibilityMenuBarRole",
+	"NSAccessibilityMenuButtonRole",
+	"NSAccessibilityMenuItemRole",
+	"NSAccessibilityMenuRole",
+	"NSAccessibilityMinValueAttribute",
+	"NSAccessibilityMisspelledTextAttribute",
+	"NSAccessibilityMovedNotification",
+	"NSAccessibilityNextContentsAttribute",
+	"NSAccessibilityNumberOfCharactersAttribute",
+	"NSAccessibilityOrientationAttribute",
+	"NSAccessibilityOutlineRole",
+	"NSAccessibilityOutlineRowSubrole",
+	"NSAccessibilityParentAttribute",
+	"NSAccessibilityPositionAttribute",
+	"NSAccessibilityPostNotification",
+	"NSAccessibilityPressAction",
+	"NSAccessibilityPreviousContentsAttribute",
+	"NSAccessibilityProgressIndicatorRole",
+	"NSAccessibilityRadioButtonRole",
+	"NSAccessibilityRangeForIndexParameterizedAttribute",
+	"NSAccessibilityRangeForLineParameterizedAttribute",
+	"NSAccessibilityRangeForPositionParameterizedAttribute",
+	"NSAccessibilityRoleAttribute",
+	"NSAccessibilityRoleDescription",
+	"NSAccessibilityRoleDescriptionAttribute",
+	"NSAccessibilityRowCountChangedNotification",
+	"NSAccessibilityRowIndexRangeAttribute",
+	"NSAccessibilityRowRole",
+	"NSAccessibilityRowsAttribute",
+	"NSAccessibilityScrollBarRole",
+	"NSAccessibilitySelectedAttribute",
+	"NSAccessibilitySelectedChildrenAttribute",
+	"NSAccessibilitySelectedChildrenChangedNotification",
+	"NSAccessibilitySelectedColumnsAttribute",
+	"NSAccessibilitySelectedRowsAttribute",
+	"NSAccessibilitySelectedRowsChangedNotification",
+	"NSAccessibilitySelectedTextAttribute",
+	"NSAccessibilitySelectedTextChangedNotification",
+	"NSAccessibilitySelectedTextRangeAttribute",
+	"NSAccessibilitySelectedTextRangesAttribute",
+	"NSAccessibilityServesAsTitleForUIElementsAttribute",
+	"NSAccessibilityShowMenuAction",
+	"NSAccessibilitySizeAttribute",
+	"NSAccessibilitySliderRole",
+	"NSAccessibilitySplitterRole",
+	"NSAccessibilityStaticTextRole",
+	"NSAccessibilityStrikethroughColorTextAttribute",
+	"NSAccessibilityStrikethroughTextAttribute",
+	"NSAccessibilityStringForRangeParameterizedAttribute",
+	"NSAccessibilityStyleRangeForIndexParameterizedAttribute",
+	"NSAccessibilitySubroleAttribute",
+	"NSAccessibilityTabGroupRole",
+	"NSAccessibilityTableRole",
+	"NSAccessibilityTableRowSubrole",
+	"NSAccessibilityTabsAttribute",
+	"NSAccessibilityTextAreaRole",
+	"NSAccessibilityTextFieldRole",
+	"NSAccessibilityTitleAttribute",
+	"NSAccessibilityTitleChangedNotification",
+	"NSAccessibilityTitleUIElementAttribute",
+	"NSAccessibilityToolbarRole",
+	"NSAccessibilityTopLevelUIElementAttribute",
+	"NSAccessibilityUnderlineColorTextAttribute",
+	"NSAccessibilityUnderlineTextAttribute",
+	"NSAccessibilityUnignoredAncestor",
+	"NSAccessibilityUnignoredChildren",
+	"NSAccessibilityUnknownRole",
+	"NSAccessibilityUnknownSubrole",
+	"NSAccessibilityValueAttribute",
+	"NSAccessibilityValueChangedNotification",
+	"NSAccessibilityVerticalOrientationValue",
+	"NSAccessibilityVisibleCharacterRangeAttribute",
+	"NSAccessibilityVisibleChildrenAttribute",
+	"NSAccessibilityVisibleColumnsAttribute",
+	"NSAccessibilityVisibleNameKey",
+	"NSAccessibilityVisibleRowsAttribute",
+	"NSAccessibilityWindowAttribute",
+	"NSAccessibilityWindowRole",
+	"NSAffineTransformStruct_1sizeof",
+	"NSApplicationDidChangeScreenParametersNotification",
+	"NSAttachmentAttributeName",
+	"NSBackgroundColorAttributeName",
+	"NSBaselineOffsetAttributeName",
+	"NSBeep",
+	"NSBitsPerPixelFromDepth",
+	"NSCursorAttributeName",
+	"NSDefaultRunLoopMode",
+	"NSDeviceRGBColorSpace",
+	"NSDeviceResolution",
+	"NSDragPboard",
+	"NSEqualRects",
+	"NSEventTrackingRunLoopMode",
+	"NSFilenamesPboardType",
+	"NSFontAttributeName",
+	"NSForegroundColorAttributeName",
+	"NSImageNameCaution",
+	"NSImageNameInfo",
+	"NSIntersectionRect",
+	"NSLigatureAttributeName",
+	"NSLinkAttributeName",
+	"NSLocaleLanguageCode",
+	"NSModalPanelRunLoopMode",
+	"NSNotFound",
+	"NSObliquenessAttributeName",
+	"NSOperatingSystemVersion_1sizeof",
+	"NSParagraphStyleAttributeName",
+	"NSPasteboardTypeHTML",
+	"NSPasteboardTypeRTF",
+	"NSPasteboardTypeString",
+	"NSPointInRect",
+	"NSPoint_1sizeof",
+	"NSPrintAllPages",
+	"NSPrintCopies",
+	"NSPrintFirstPage",
+	"NSPrintJobDisposition",
+	"NSPrintLastPage",
+	"NSPrintMustCollate",
+	"NSPrintOrientation",
+	"NSPrintPreviewJob",
+	"NSPrintSaveJob",
+	"NSPrintSavePath",
+	"NSPrintScalingFactor",
+	"NSRange_1sizeof",
+	"NSRectFillUsingOperation",
+	"NSRect_1sizeof",
+	"NSSearchPathForDirectoriesInDomains",
+	"NSSize_1sizeof",
+	"NSSquareStatusItemLength",
+	"NSStrikethroughColorAttributeName",
+	"NSStrikethroughStyleAttributeName",
+	"NSStrokeWidthAttributeName",
+	"NSSystemColorsDidChangeNotification",
+	"NSTIFFPboardType",
+	"NSToolbarFlexibleSpaceItemIdentifier",
+	"NSToolbarSpaceItemIdentifier",
+	"NSURLPboardType",
+	"NSUnderlineColorAttributeName",
+	"NSUnderlineStyleAttributeName",
+	"NSViewGlobalFrameDidChangeNotification",
+	"NSWindowDidBecomeKeyNotification",
+	"NSWindowDidDeminiaturizeNotification",
+	"NSWindowDidMiniaturizeNotification",
+	"NSWindowDidMoveNotification",
+	"NSWindowDidResignKeyNotification",
+	"NSWindowDidResizeNotification",
+	"NSWindowWillCloseNotification",
+	"NewGlobalRef",
+	"NewRgn",
+	"OffsetRgn",
+	"OpenRgn",
+	"PMGetDuplex",
+	"PMPrinterGetIndexedPrinterResolution",
+	"PMPrinterGetOutputResolution",
+	"PMPrinterGetPrinterResolutionCount",
+	"PMSessionGetCurrentPrinter",
+	"PMSessionGetDestinationType",
+	"PMSetDuplex",
+	"PtInRgn",
+	"QDRegionToRects",
+	"RectInRgn",
+	"RectRgn",
+	"SecPolicySearchCopyNext",
+	"SecPolicySearchCreate",
+	"SecTrustCreateWithCertificates",
+	"SectRgn",
+	"SetRect",
+	"SetSystemUIMode",
+	"TISCopyCurrentKeyboardInputSource",
+	"TISGetInputSourceProperty",
+	"UCKeyTranslate",
+	"UTTypeEqual",
+	"UnionRgn",
+	"beginSheetModalForWindow",
+	"call",
+	"class_1addIvar",
+	"class_1addMethod",
+	"class_1addProtocol",
+	"class_1createInstance",
+	"class_1getClassMethod",
+	"class_1getInstanceMethod",
+	"class_1getMethodImplementation",
+	"class_1getName",
+	"class_1getSuperclass",
+	"getpid",
+	"instrumentObjcMessageSends",
+	"isFlipped_1CALLBACK",
+	"kCFAllocatorDefault",
+	"kCFRunLoopCommonModes",
+	"kTISPropertyUnicodeKeyLayoutData",
+	"kUTTypeFileURL",
+	"kUTTypeURL",
+	"memmove__JLorg_eclipse_swt_internal_cocoa_CGPathElement_2J",
+	"memmove__JLorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"memmove__JLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"memmove__JLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"memmove__JLorg_eclipse_swt_internal_cocoa_NSSize_2J",
+	"memmove__Lorg_eclipse_swt_internal_cocoa_CGPathElement_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cocoa_NSPoint_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cocoa_NSRange_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJ",
+	"memmove__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJ",
+	"method_1setImplementation",
+	"objc_1allocateClassPair",
+	"objc_1disposeClassPair",
+	"objc_1getClass",
+	"objc_1getMetaClass",
+	"objc_1getProtocol",
+	"objc_1lookUpClass",
+	"objc_1msgSend__JJ",
+	"objc_1msgSend__JJD",
+	"objc_1msgSend__JJDD",
+	"objc_1msgSend__JJDDDD",
+	"objc_1msgSend__JJDJJJZ",
+	"objc_1msgSend__JJI",
+	"objc_1msgSend__JJJ",
+	"objc_1msgSend__JJJD",
+	"objc_1msgSend__JJJJ",
+	"objc_1msgSend__JJJJDJ",
+	"objc_1msgSend__JJJJJ",
+	"objc_1msgSend__JJJJJJ",
+	"objc_1msgSend__JJJJJJJ",
+	"objc_1msgSend__JJJJJJJJ",
+	"objc_1msgSend__JJJJJJJJJ",
+	"objc_1msgSend__JJJJJJJZZJJJJ",
+	"objc_1msgSend__JJJJJZ",
+	"objc_1msgSend__JJJJLorg_eclipse_swt_internal_cocoa_NSRange_2",
+	"objc_1msgSend__JJJJZ",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2JDJJJJJ",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2JDJJSJJ",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2Lorg_eclipse_swt_internal_cocoa_NSSize_2JJJZ",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSRange_2",
+	"objc_1msgSend__JJJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSend__JJJZ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSAffineTransformStruct_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2DDDZ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2J_3D",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2Lorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2Lorg_eclipse_swt_internal_cocoa_NSPoint_2Lorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRange_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRange_2JJJJ_3B",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRange_2Lorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRange_2Lorg_eclipse_swt_internal_cocoa_NSRange_2J_3J",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2D",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2DD",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2JJ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2JJZ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2JJZJ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2JZJ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_NSRect_2JD",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_NSSize_2",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2Z",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSRect_2ZZ",
+	"objc_1msgSend__JJLorg_eclipse_swt_internal_cocoa_NSSize_2",
+	"objc_1msgSend__JJZ",
+	"objc_1msgSend__JJZJ",
+	"objc_1msgSend__JJZLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend__JJ_3B",
+	"objc_1msgSend__JJ_3BJ",
+	"objc_1msgSend__JJ_3C",
+	"objc_1msgSend__JJ_3CJ",
+	"objc_1msgSend__JJ_3CLorg_eclipse_swt_internal_cocoa_NSRange_2",
+	"objc_1msgSend__JJ_3D",
+	"objc_1msgSend__JJ_3DJD",
+	"objc_1msgSend__JJ_3I",
+	"objc_1msgSend__JJ_3IJ",
+	"objc_1msgSend__JJ_3JII",
+	"objc_1msgSend__JJ_3JJJ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2J",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJJ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJJJJ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJJJZ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJLorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJZ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSSize_2",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JZ",
+	"objc_1msgSendSuper__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JZLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSendSuper_1bool__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSendSuper_1bool__Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJ",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2J",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSendSuper_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2Lorg_eclipse_swt_internal_cocoa_objc_1super_2JZ",
+	"objc_1msgSend_1bool__JJ",
+	"objc_1msgSend_1bool__JJJ",
+	"objc_1msgSend_1bool__JJJJ",
+	"objc_1msgSend_1bool__JJJJJ",
+	"objc_1msgSend_1bool__JJJJJJ",
+	"objc_1msgSend_1bool__JJJJJJJ",
+	"objc_1msgSend_1bool__JJJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend_1bool__JJJLorg_eclipse_swt_internal_cocoa_NSSize_2Z",
+	"objc_1msgSend_1bool__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend_1bool__JJLorg_eclipse_swt_internal_cocoa_NSPoint_2Lorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend_1bool__JJLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"objc_1msgSend_1bool__JJLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend_1floatret",
+	"objc_1msgSend_1fpret__JJ",
+	"objc_1msgSend_1fpret__JJJ",
+	"objc_1msgSend_1fpret__JJJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSAffineTransformStruct_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSOperatingSystemVersion_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSPoint_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSPoint_2JJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSPoint_2JJLorg_eclipse_swt_internal_cocoa_NSPoint_2",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSPoint_2JJLorg_eclipse_swt_internal_cocoa_NSPoint_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRange_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRange_2JJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRange_2JJLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJJJZ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJLorg_eclipse_swt_internal_cocoa_NSRange_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJLorg_eclipse_swt_internal_cocoa_NSRect_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSRect_2JJLorg_eclipse_swt_internal_cocoa_NSSize_2J",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJLorg_eclipse_swt_internal_cocoa_NSRect_2",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJLorg_eclipse_swt_internal_cocoa_NSSize_2",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJLorg_eclipse_swt_internal_cocoa_NSSize_2JJJJJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJLorg_eclipse_swt_internal_cocoa_NSSize_2ZZJ",
+	"objc_1msgSend_1stret__Lorg_eclipse_swt_internal_cocoa_NSSize_2JJZ",
+	"objc_1registerClassPair",
+	"objc_1super_1sizeof",
+	"object_1getClass",
+	"object_1getClassName",
+	"object_1getInstanceVariable",
+	"object_1setClass",
+	"object_1setInstanceVariable",
+	"sel_1registerName",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(OS_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return OS_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(OS_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, OS_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(OS_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return OS_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(OS_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return OS_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(OS_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	OS_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(OS_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(OS_nativeFunctionCallCount, 0, sizeof(OS_nativeFunctionCallCount));
+	memset(OS_nativeFunctionTime, 0, sizeof(OS_nativeFunctionTime));
+}
 
@@ -12,11 +12,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define OS_PROFILE_ENTER(func) jlong OS_nativeProfileStart = OS_nativeProfile ? swt_profile_time() : 0;
+#define OS_PROFILE_EXIT(func) if (OS_nativeProfile) { OS_nativeFunctionCallCount[func]++; OS_nativeFunctionTime[func] += swt_profile_time() - OS_nativeProfileStart; }
 #ifndef OS_NATIVE_ENTER
-#define OS_NATIVE_ENTER(env, that, func) 
+#define OS_NATIVE_ENTER(env, that, func) OS_PROFILE_ENTER(func)
 #endif
 #ifndef OS_NATIVE_EXIT
-#define OS_NATIVE_EXIT(env, that, func) 
+#define OS_NATIVE_EXIT(env, that, func) OS_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -534,3 +536,8 @@ typedef enum {
 	object_1setInstanceVariable_FUNC,
 	sel_1registerName_FUNC,
 } OS_FUNCS;
+
+extern int OS_nativeProfile;
+extern jlong OS_nativeFunctionCallCount[];
+extern jlong OS_nativeFunctionTime[];
+
@@ -17,4 +17,80 @@
 
 #include "swt.h"
 #include "c_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int C_nativeProfile = 0;
+int C_nativeFunctionCount = 24;
+jlong C_nativeFunctionCallCount[24];
+jlong C_nativeFunctionTime[24];
+const char* C_nativeFunctionNames[] = {
+	"PTR_1sizeof",
+	"free",
+	"getenv",
+	"malloc",
+	"memmove__JJJ",
+	"memmove__J_3BJ",
+	"memmove__J_3CJ",
+	"memmove__J_3DJ",
+	"memmove__J_3FJ",
+	"memmove__J_3IJ",
+	"memmove__J_3JJ",
+	"memmove__J_3SJ",
+	"memmove___3BJJ",
+	"memmove___3B_3CJ",
+	"memmove___3CJJ",
+	"memmove___3DJJ",
+	"memmove___3FJJ",
+	"memmove___3IJJ",
+	"memmove___3I_3BJ",
+	"memmove___3JJJ",
+	"memmove___3SJJ",
+	"memset",
+	"setenv",
+	"strlen",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(C_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return C_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(C_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, C_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(C_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return C_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(C_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return C_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(C_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	C_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(C_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(C_nativeFunctionCallCount, 0, sizeof(C_nativeFunctionCallCount));
+	memset(C_nativeFunctionTime, 0, sizeof(C_nativeFunctionTime));
+}
 
@@ -15,11 +15,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define C_PROFILE_ENTER(func) jlong C_nativeProfileStart = C_nativeProfile ? swt_profile_time() : 0;
+#define C_PROFILE_EXIT(func) if (C_nativeProfile) { C_nativeFunctionCallCount[func]++; C_nativeFunctionTime[func] += swt_profile_time() - C_nativeProfileStart; }
 #ifndef C_NATIVE_ENTER
-#define C_NATIVE_ENTER(env, that, func) 
+#define C_NATIVE_ENTER(env, that, func) C_PROFILE_ENTER(func)
 #endif
 #ifndef C_NATIVE_EXIT
-#define C_NATIVE_EXIT(env, that, func) 
+#define C_NATIVE_EXIT(env, that, func) C_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -48,3 +50,8 @@ typedef enum {
 	setenv_FUNC,
 	strlen_FUNC,
 } C_FUNCS;
+
+extern int C_nativeProfile;
+extern jlong C_nativeFunctionCallCount[];
+extern jlong C_nativeFunctionTime[];
+
@@ -229,6 +229,7 @@ static boolean load (String libName, StringBuilder message) {
 		} else {
 			System.loadLibrary (libName);
 		}
+		NativeProfiler.libraryLoaded ();
 		return true;
 	} catch (UnsatisfiedLinkError e) {
 		if (message.length() == 0) message.append(DELIMITER);
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Counts the calls of the SWT natives and the time spent in them.
+ * <p>
+ * Every generated native records its calls in the tables of its
+ * <code>*_stats.c</code> file while profiling is switched on. The time of
+ * a native includes the time of the Java callbacks it runs, e.g. the time
+ * of <code>gtk_main_iteration_do</code> includes the time of the event
+ * listeners.
+ * </p><p>
+ * Setting the system property <code>org.eclipse.swt.internal.nativeProfile</code>
+ * switches profiling on when the libraries are loaded and emits the counts
+ * as <code>org.eclipse.swt.NativeCalls</code> JDK Flight Recorder events.
+ * </p>
+ */
+public class NativeProfiler {
+
+	/**
+	 * The calls of one native since profiling was switched on or reset.
+	 *
+	 * @param table the class declaring the native, e.g. <code>GTK3</code>
+	 * @param function the name of the native, followed by its JNI signature when it is overloaded
+	 * @param calls the number of calls
+	 * @param nanos the time spent in the native in nanoseconds
+	 */
+	public record Entry(String table, String function, long calls, long nanos) {}
+
+	record Table(String name, IntSupplier count, IntFunction<String> function, IntToLongFunction calls,
+			IntToLongFunction nanos, Consumer<Boolean> enable, Runnable reset) {
+
+		boolean isLoaded() {
+			try {
+				count.getAsInt();
+				return true;
+			} catch (UnsatisfiedLinkError e) {
+				return false;
+			}
+		}
+	}
+
+	static final boolean ENABLED_AT_STARTUP = System.getProperty("org.eclipse.swt.internal.nativeProfile") != null; //$NON-NLS-1$
+	static boolean enabled;
+	static final Table[] TABLES = {
+		new Table("C", NativeProfiler::C_GetFunctionCount, NativeProfiler::C_GetFunctionName, NativeProfiler::C_GetFunctionCallCount, NativeProfiler::C_GetFunctionTime, NativeProfiler::C_SetProfiling, NativeProfiler::C_Reset), //$NON-NLS-1$
+		new Table("OS", NativeProfiler::OS_GetFunctionCount, NativeProfiler::OS_GetFunctionName, NativeProfiler::OS_GetFunctionCallCount, NativeProfiler::OS_GetFunctionTime, NativeProfiler::OS_SetProfiling, NativeProfiler::OS_Reset), //$NON-NLS-1$
+		new Table("GDK", NativeProfiler::GDK_GetFunctionCount, NativeProfiler::GDK_GetFunctionName, NativeProfiler::GDK_GetFunctionCallCount, NativeProfiler::GDK_GetFunctionTime, NativeProfiler::GDK_SetProfiling, NativeProfiler::GDK_Reset), //$NON-NLS-1$
+		new Table("GTK", NativeProfiler::GTK_GetFunctionCount, NativeProfiler::GTK_GetFunctionName, NativeProfiler::GTK_GetFunctionCallCount, NativeProfiler::GTK_GetFunctionTime, NativeProfiler::GTK_SetProfiling, NativeProfiler::GTK_Reset), //$NON-NLS-1$
+		new Table("GTK3", NativeProfiler::GTK3_GetFunctionCount, NativeProfiler::GTK3_GetFunctionName, NativeProfiler::GTK3_GetFunctionCallCount, NativeProfiler::GTK3_GetFunctionTime, NativeProfiler::GTK3_SetProfiling, NativeProfiler::GTK3_Reset), //$NON-NLS-1$
+		new Table("GTK4", NativeProfiler::GTK4_GetFunctionCount, NativeProfiler::GTK4_GetFunctionName, NativeProfiler::GTK4_GetFunctionCallCount, NativeProfiler::GTK4_GetFunctionTime, NativeProfiler::GTK4_SetProfiling, NativeProfiler::GTK4_Reset), //$NON-NLS-1$
+		new Table("Graphene", NativeProfiler::Graphene_GetFunctionCount, NativeProfiler::Graphene_GetFunctionName, NativeProfiler::Graphene_GetFunctionCallCount, NativeProfiler::Graphene_GetFunctionTime, NativeProfiler::Graphene_SetProfiling, NativeProfiler::Graphene_Reset), //$NON-NLS-1$
+		new Table("ATK", NativeProfiler::ATK_GetFunctionCount, NativeProfiler::ATK_GetFunctionName, NativeProfiler::ATK_GetFunctionCallCount, NativeProfiler::ATK_GetFunctionTime, NativeProfiler::ATK_SetProfiling, NativeProfiler::ATK_Reset), //$NON-NLS-1$
+		new Table("Cairo", NativeProfiler::Cairo_GetFunctionCount, NativeProfiler::Cairo_GetFunctionName, NativeProfiler::Cairo_GetFunctionCallCount, NativeProfiler::Cairo_GetFunctionTime, NativeProfiler::Cairo_SetProfiling, NativeProfiler::Cairo_Reset), //$NON-NLS-1$
+		new Table("WebKitGTK", NativeProfiler::WebKitGTK_GetFunctionCount, NativeProfiler::WebKitGTK_GetFunctionName, NativeProfiler::WebKitGTK_GetFunctionCallCount, NativeProfiler::WebKitGTK_GetFunctionTime, NativeProfiler::WebKitGTK_SetProfiling, NativeProfiler::WebKitGTK_Reset), //$NON-NLS-1$
+		new Table("GLX", NativeProfiler::GLX_GetFunctionCount, NativeProfiler::GLX_GetFunctionName, NativeProfiler::GLX_GetFunctionCallCount, NativeProfiler::GLX_GetFunctionTime, NativeProfiler::GLX_SetProfiling, NativeProfiler::GLX_Reset), //$NON-NLS-1$
+		new Table("COM", NativeProfiler::COM_GetFunctionCount, NativeProfiler::COM_GetFunctionName, NativeProfiler::COM_GetFunctionCallCount, NativeProfiler::COM_GetFunctionTime, NativeProfiler::COM_SetProfiling, NativeProfiler::COM_Reset), //$NON-NLS-1$
+		new Table("Gdip", NativeProfiler::Gdip_GetFunctionCount, NativeProfiler::Gdip_GetFunctionName, NativeProfiler::Gdip_GetFunctionCallCount, NativeProfiler::Gdip_GetFunctionTime, NativeProfiler::Gdip_SetProfiling, NativeProfiler::Gdip_Reset), //$NON-NLS-1$
+		new Table("OsVersion", NativeProfiler::OsVersion_GetFunctionCount, NativeProfiler::OsVersion_GetFunctionName, NativeProfiler::OsVersion_GetFunctionCallCount, NativeProfiler::OsVersion_GetFunctionTime, NativeProfiler::OsVersion_SetProfiling, NativeProfiler::OsVersion_Reset), //$NON-NLS-1$
+		new Table("WGL", NativeProfiler::WGL_GetFunctionCount, NativeProfiler::WGL_GetFunctionName, NativeProfiler::WGL_GetFunctionCallCount, NativeProfiler::WGL_GetFunctionTime, NativeProfiler::WGL_SetProfiling, NativeProfiler::WGL_Reset), //$NON-NLS-1$
+	};
+
+/**
+ * Switches profiling on or off for every loaded library. Libraries that
+ * are loaded later are profiled when profiling is on at that time.
+ *
+ * @param enabled whether to count the calls of the natives
+ */
+public static synchronized void setEnabled(boolean enabled) {
+	NativeProfiler.enabled = enabled;
+	for (Table table : TABLES) {
+		if (table.isLoaded()) table.enable.accept(enabled);
+	}
+}
+
+/**
+ * Returns whether profiling is on.
+ *
+ * @return whether the calls of the natives are counted
+ */
+public static synchronized boolean isEnabled() {
+	return enabled;
+}
+
+/**
+ * Clears the counts of every loaded library.
+ */
+public static synchronized void reset() {
+	for (Table table : TABLES) {
+		if (table.isLoaded()) table.reset.run();
+	}
+}
+
+/**
+ * Returns the natives that were called, most expensive first.
+ *
+ * @return the calls of the natives of every loaded library
+ */
+public static synchronized List<Entry> getEntries() {
+	List<Entry> entries = new ArrayList<>();
+	for (Table table : TABLES) {
+		if (!table.isLoaded()) continue;
+		int count = table.count.getAsInt();
+		for (int i = 0; i < count; i++) {
+			long calls = table.calls.applyAsLong(i);
+			if (calls == 0) continue;
+			entries.add(new Entry(table.name, demangle(table.function.apply(i)), calls, table.nanos.applyAsLong(i)));
+		}
+	}
+	entries.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+	return entries;
+}
+
+/*
+ * Called by Library after a library was loaded.
+ */
+static synchronized void libraryLoaded() {
+	if (!enabled && !ENABLED_AT_STARTUP) return;
+	if (ENABLED_AT_STARTUP && !enabled) {
+		enabled = true;
+		try {
+			FlightRecorderEvents.register();
+		} catch (LinkageError e) {
+			/* jdk.jfr is not part of the runtime */
+		}
+	}
+	setEnabled(true);
+}
+
+/*
+ * Emits the calls since the previous chunk of a recording. Only loaded
+ * when jdk.jfr is available.
+ */
+static class FlightRecorderEvents {
+	static Map<String, long[]> previous = new HashMap<>();
+
+	@jdk.jfr.Name("org.eclipse.swt.NativeCalls")
+	@jdk.jfr.Label("SWT Native Calls")
+	@jdk.jfr.Category("SWT")
+	@jdk.jfr.Period("1 s")
+	@jdk.jfr.StackTrace(false)
+	static class NativeCallsEvent extends jdk.jfr.Event {
+		@jdk.jfr.Label("Library")
+		String library;
+		@jdk.jfr.Label("Function")
+		String function;
+		@jdk.jfr.Label("Calls")
+		long calls;
+		@jdk.jfr.Label("Duration")
+		@jdk.jfr.Timespan(jdk.jfr.Timespan.NANOSECONDS)
+		long duration;
+	}
+
+	static void register() {
+		jdk.jfr.FlightRecorder.addPeriodicEvent(NativeCallsEvent.class, FlightRecorderEvents::emit);
+	}
+
+	static void emit() {
+		for (Entry entry : getEntries()) {
+			String key = entry.table + '.' + entry.function;
+			long[] last = previous.computeIfAbsent(key, k -> new long[2]);
+			long calls = entry.calls - last[0], nanos = entry.nanos - last[1];
+			/* the counts go back to zero after a reset */
+			if (calls < 0 || nanos < 0) {
+				calls = entry.calls;
+				nanos = entry.nanos;
+			}
+			last[0] = entry.calls;
+			last[1] = entry.nanos;
+			if (calls == 0) continue;
+			NativeCallsEvent event = new NativeCallsEvent();
+			event.library = entry.table;
+			event.function = entry.function;
+			event.calls = calls;
+			event.duration = nanos;
+			event.commit();
+		}
+	}
+}
+
+/*
+ * Converts the escapes of the JNI function name back to Java, the
+ * signature of overloaded natives is kept after the "__" separator.
+ */
+static String demangle(String function) {
+	StringBuilder buffer = new StringBuilder(function.length());
+	for (int i = 0; i < function.length(); i++) {
+		char c = function.charAt(i);
+		if (c == '_' && i + 1 < function.length()) {
+			char next = function.charAt(i + 1);
+			switch (next) {
+				case '1': buffer.append('_'); i++; continue;
+				case '2': buffer.append(';'); i++; continue;
+				case '3': buffer.append('['); i++; continue;
+			}
+		}
+		buffer.append(c);
+	}
+	return buffer.toString();
+}
+
+static final native int C_GetFunctionCount();
+static final native String C_GetFunctionName(int index);
+static final native long C_GetFunctionCallCount(int index);
+static final native long C_GetFunctionTime(int index);
+static final native void C_SetProfiling(boolean enabled);
+static final native void C_Reset();
+static final native int OS_GetFunctionCount();
+static final native String OS_GetFunctionName(int index);
+static final native long OS_GetFunctionCallCount(int index);
+static final native long OS_GetFunctionTime(int index);
+static final native void OS_SetProfiling(boolean enabled);
+static final native void OS_Reset();
+static final native int GDK_GetFunctionCount();
+static final native String GDK_GetFunctionName(int index);
+static final native long GDK_GetFunctionCallCount(int index);
+static final native long GDK_GetFunctionTime(int index);
+static final native void GDK_SetProfiling(boolean enabled);
+static final native void GDK_Reset();
+static final native int GTK_GetFunctionCount();
+static final native String GTK_GetFunctionName(int index);
+static final native long GTK_GetFunctionCallCount(int index);
+static final native long GTK_GetFunctionTime(int index);
+static final native void GTK_SetProfiling(boolean enabled);
+static final native void GTK_Reset();
+static final native int GTK3_GetFunctionCount();
+static final native String GTK3_GetFunctionName(int index);
+static final native long GTK3_GetFunctionCallCount(int index);
+static final native long GTK3_GetFunctionTime(int index);
+static final native void GTK3_SetProfiling(boolean enabled);
+static final native void GTK3_Reset();
+static final native int GTK4_GetFunctionCount();
+static final native String GTK4_GetFunctionName(int index);
+static final native long GTK4_GetFunctionCallCount(int index);
+static final native long GTK4_GetFunctionTime(int index);
+static final native void GTK4_SetProfiling(boolean enabled);
+static final native void GTK4_Reset();
+static final native int Graphene_GetFunctionCount();
+static final native String Graphene_GetFunctionName(int index);
+static final native long Graphene_GetFunctionCallCount(int index);
+static final native long Graphene_GetFunctionTime(int index);
+static final native void Graphene_SetProfiling(boolean enabled);
+static final native void Graphene_Reset();
+static final native int ATK_GetFunctionCount();
+static final native String ATK_GetFunctionName(int index);
+static final native long ATK_GetFunctionCallCount(int index);
+static final native long ATK_GetFunctionTime(int index);
+static final native void ATK_SetProfiling(boolean enabled);
+static final native void ATK_Reset();
+static final native int Cairo_GetFunctionCount();
+static final native String Cairo_GetFunctionName(int index);
+static final native long Cairo_GetFunctionCallCount(int index);
+static final native long Cairo_GetFunctionTime(int index);
+static final native void Cairo_SetProfiling(boolean enabled);
+static final native void Cairo_Reset();
+static final native int WebKitGTK_GetFunctionCount();
+static final native String WebKitGTK_GetFunctionName(int index);
+static final native long WebKitGTK_GetFunctionCallCount(int index);
+static final native long WebKitGTK_GetFunctionTime(int index);
+static final native void WebKitGTK_SetProfiling(boolean enabled);
+static final native void WebKitGTK_Reset();
+static final native int GLX_GetFunctionCount();
+static final native String GLX_GetFunctionName(int index);
+static final native long GLX_GetFunctionCallCount(int index);
+static final native long GLX_GetFunctionTime(int index);
+static final native void GLX_SetProfiling(boolean enabled);
+static final native void GLX_Reset();
+static final native int COM_GetFunctionCount();
+static final native String COM_GetFunctionName(int index);
+static final native long COM_GetFunctionCallCount(int index);
+static final native long COM_GetFunctionTime(int index);
+static final native void COM_SetProfiling(boolean enabled);
+static final native void COM_Reset();
+static final native int Gdip_GetFunctionCount();
+static final native String Gdip_GetFunctionName(int index);
+static final native long Gdip_GetFunctionCallCount(int index);
+static final native long Gdip_GetFunctionTime(int index);
+static final native void Gdip_SetProfiling(boolean enabled);
+static final native void Gdip_Reset();
+static final native int OsVersion_GetFunctionCount();
+static final native String OsVersion_GetFunctionName(int index);
+static final native long OsVersion_GetFunctionCallCount(int index);
+static final native long OsVersion_GetFunctionTime(int index);
+static final native void OsVersion_SetProfiling(boolean enabled);
+static final native void OsVersion_Reset();
+static final native int WGL_GetFunctionCount();
+static final native String WGL_GetFunctionName(int index);
+static final native long WGL_GetFunctionCallCount(int index);
+static final native long WGL_GetFunctionTime(int index);
+static final native void WGL_SetProfiling(boolean enabled);
+static final native void WGL_Reset();
+
+}
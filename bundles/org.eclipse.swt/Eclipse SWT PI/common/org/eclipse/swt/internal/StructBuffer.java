@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.internal;
+
+import java.nio.*;
+
+/**
+ * Allocates the memory of the structs generated with the <code>direct</code>
+ * flag. The natives use that memory in place instead of copying every field
+ * with the JNI field accessors.
+ * <p>
+ * A direct buffer of its own would be more expensive than the struct, so
+ * small buffers are slices of a larger direct buffer, which is freed once
+ * none of its slices is reachable anymore.
+ * </p>
+ *
+ * @jniclass flags=no_gen
+ */
+public class StructBuffer {
+	static final int SLAB_SIZE = 4096;
+	static ByteBuffer slab;
+
+/**
+ * Returns a zeroed direct buffer in native byte order, aligned for any
+ * primitive type.
+ *
+ * @param size the size of the struct in bytes
+ * @return the memory of the struct
+ */
+public static ByteBuffer allocate (int size) {
+	size = (size + 7) & ~7;
+	if (size > SLAB_SIZE / 4) {
+		return ByteBuffer.allocateDirect (size).order (ByteOrder.nativeOrder ());
+	}
+	synchronized (StructBuffer.class) {
+		if (slab == null || slab.remaining () < size) slab = ByteBuffer.allocateDirect (SLAB_SIZE);
+		int position = slab.position ();
+		slab.position (position + size);
+		return slab.slice (position, size).order (ByteOrder.nativeOrder ());
+	}
+}
+}
@@ -18,4 +18,100 @@
 
 #include "swt.h"
 #include "atk_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int ATK_nativeProfile = 0;
+int ATK_nativeFunctionCount = 44;
+jlong ATK_nativeFunctionCallCount[44];
+jlong ATK_nativeFunctionTime[44];
+const char* ATK_nativeFunctionNames[] = {
+	"ATK_1ACTION_1GET_1IFACE",
+	"ATK_1COMPONENT_1GET_1IFACE",
+	"ATK_1EDITABLE_1TEXT_1GET_1IFACE",
+	"ATK_1HYPERTEXT_1GET_1IFACE",
+	"ATK_1SELECTION_1GET_1IFACE",
+	"ATK_1TABLE_1GET_1IFACE",
+	"ATK_1TEXT_1GET_1IFACE",
+	"ATK_1TYPE_1ACTION",
+	"ATK_1TYPE_1COMPONENT",
+	"ATK_1TYPE_1EDITABLE_1TEXT",
+	"ATK_1TYPE_1HYPERTEXT",
+	"ATK_1TYPE_1SELECTION",
+	"ATK_1TYPE_1TABLE",
+	"ATK_1TYPE_1TEXT",
+	"ATK_1TYPE_1VALUE",
+	"ATK_1VALUE_1GET_1IFACE",
+	"AtkAttribute_1sizeof",
+	"AtkTextRange_1sizeof",
+	"AtkTextRectangle_1sizeof",
+	"atk_1object_1add_1relationship",
+	"atk_1object_1notify_1state_1change",
+	"atk_1object_1remove_1relationship",
+	"atk_1state_1set_1add_1state",
+	"atk_1text_1attribute_1get_1name",
+	"atk_1text_1attribute_1get_1value",
+	"call__JJ",
+	"call__JJJ",
+	"call__JJJJ",
+	"call__JJJJJJ",
+	"memmove__JLorg_eclipse_swt_internal_accessibility_gtk_AtkAttribute_2I",
+	"memmove__JLorg_eclipse_swt_internal_accessibility_gtk_AtkTextRange_2I",
+	"memmove__JLorg_eclipse_swt_internal_accessibility_gtk_AtkTextRectangle_2I",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkActionIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkAttribute_2JI",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkComponentIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkEditableTextIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkHypertextIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkObjectClass_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkSelectionIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkTableIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkTextIface_2J",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkTextRange_2JI",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkTextRectangle_2JI",
+	"memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkValueIface_2J",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(ATK_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return ATK_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(ATK_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, ATK_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(ATK_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return ATK_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(ATK_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return ATK_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(ATK_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	ATK_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(ATK_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(ATK_nativeFunctionCallCount, 0, sizeof(ATK_nativeFunctionCallCount));
+	memset(ATK_nativeFunctionTime, 0, sizeof(ATK_nativeFunctionTime));
+}
 
@@ -16,11 +16,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define ATK_PROFILE_ENTER(func) jlong ATK_nativeProfileStart = ATK_nativeProfile ? swt_profile_time() : 0;
+#define ATK_PROFILE_EXIT(func) if (ATK_nativeProfile) { ATK_nativeFunctionCallCount[func]++; ATK_nativeFunctionTime[func] += swt_profile_time() - ATK_nativeProfileStart; }
 #ifndef ATK_NATIVE_ENTER
-#define ATK_NATIVE_ENTER(env, that, func) 
+#define ATK_NATIVE_ENTER(env, that, func) ATK_PROFILE_ENTER(func)
 #endif
 #ifndef ATK_NATIVE_EXIT
-#define ATK_NATIVE_EXIT(env, that, func) 
+#define ATK_NATIVE_EXIT(env, that, func) ATK_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -69,3 +71,8 @@ typedef enum {
 	memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkTextRectangle_2JI_FUNC,
 	memmove__Lorg_eclipse_swt_internal_accessibility_gtk_AtkValueIface_2J_FUNC,
 } ATK_FUNCS;
+
+extern int ATK_nativeProfile;
+extern jlong ATK_nativeFunctionCallCount[];
+extern jlong ATK_nativeFunctionTime[];
+
@@ -12,11 +12,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define GTK3_PROFILE_ENTER(func) jlong GTK3_nativeProfileStart = GTK3_nativeProfile ? swt_profile_time() : 0;
+#define GTK3_PROFILE_EXIT(func) if (GTK3_nativeProfile) { GTK3_nativeFunctionCallCount[func]++; GTK3_nativeFunctionTime[func] += swt_profile_time() - GTK3_nativeProfileStart; }
 #ifndef GTK3_NATIVE_ENTER
-#define GTK3_NATIVE_ENTER(env, that, func) 
+#define GTK3_NATIVE_ENTER(env, that, func) GTK3_PROFILE_ENTER(func)
 #endif
 #ifndef GTK3_NATIVE_EXIT
-#define GTK3_NATIVE_EXIT(env, that, func) 
+#define GTK3_NATIVE_EXIT(env, that, func) GTK3_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -251,3 +253,8 @@ typedef enum {
 	memmove__Lorg_eclipse_swt_internal_gtk3_GdkEventMotion_2JJ_FUNC,
 	memmove__Lorg_eclipse_swt_internal_gtk3_GdkEventWindowState_2JJ_FUNC,
 } GTK3_FUNCS;
+
+extern int GTK3_nativeProfile;
+extern jlong GTK3_nativeFunctionCallCount[];
+extern jlong GTK3_nativeFunctionTime[];
+
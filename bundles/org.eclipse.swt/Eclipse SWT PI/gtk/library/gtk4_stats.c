@@ -17,4 +17,283 @@
 
 #include "swt.h"
 #include "gtk4_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int GTK4_nativeProfile = 0;
+int GTK4_nativeFunctionCount = 227;
+jlong GTK4_nativeFunctionCallCount[227];
+jlong GTK4_nativeFunctionTime[227];
+const char* GTK4_nativeFunctionNames[] = {
+	"GTK_1IS_1POPOVER_1MENU",
+	"gdk_1clipboard_1get_1content",
+	"gdk_1clipboard_1get_1formats",
+	"gdk_1clipboard_1is_1local",
+	"gdk_1clipboard_1read_1async",
+	"gdk_1clipboard_1read_1finish",
+	"gdk_1clipboard_1read_1value_1async",
+	"gdk_1clipboard_1read_1value_1finish",
+	"gdk_1clipboard_1set",
+	"gdk_1clipboard_1set_1content",
+	"gdk_1clipboard_1set_1text",
+	"gdk_1clipboard_1store_1async",
+	"gdk_1clipboard_1store_1finish",
+	"gdk_1content_1deserializer_1get_1cancellable",
+	"gdk_1content_1deserializer_1get_1gtype",
+	"gdk_1content_1deserializer_1get_1input_1stream",
+	"gdk_1content_1deserializer_1get_1mime_1type",
+	"gdk_1content_1deserializer_1get_1priority",
+	"gdk_1content_1deserializer_1get_1task_1data",
+	"gdk_1content_1deserializer_1get_1user_1data",
+	"gdk_1content_1deserializer_1get_1value",
+	"gdk_1content_1deserializer_1return_1error",
+	"gdk_1content_1deserializer_1return_1success",
+	"gdk_1content_1deserializer_1set_1task_1data",
+	"gdk_1content_1formats_1builder_1add_1mime_1type",
+	"gdk_1content_1formats_1builder_1free_1to_1formats",
+	"gdk_1content_1formats_1builder_1new",
+	"gdk_1content_1formats_1get_1gtypes",
+	"gdk_1content_1formats_1get_1mime_1types",
+	"gdk_1content_1formats_1to_1string",
+	"gdk_1content_1provider_1get_1value",
+	"gdk_1content_1provider_1new_1for_1value",
+	"gdk_1content_1provider_1new_1typed",
+	"gdk_1content_1provider_1new_1union",
+	"gdk_1content_1register_1deserializer",
+	"gdk_1content_1register_1serializer",
+	"gdk_1content_1serializer_1get_1cancellable",
+	"gdk_1content_1serializer_1get_1gtype",
+	"gdk_1content_1serializer_1get_1mime_1type",
+	"gdk_1content_1serializer_1get_1output_1stream",
+	"gdk_1content_1serializer_1get_1priority",
+	"gdk_1content_1serializer_1get_1task_1data",
+	"gdk_1content_1serializer_1get_1user_1data",
+	"gdk_1content_1serializer_1get_1value",
+	"gdk_1content_1serializer_1return_1error",
+	"gdk_1content_1serializer_1return_1success",
+	"gdk_1content_1serializer_1set_1task_1data",
+	"gdk_1paintable_1snapshot",
+	"gdk_1toplevel_1focus",
+	"gdk_1toplevel_1get_1state",
+	"gdk_1toplevel_1lower",
+	"gdk_1toplevel_1set_1icon_1list",
+	"gdk_1toplevel_1size_1get_1bounds",
+	"gdk_1toplevel_1size_1set_1min_1size",
+	"gdk_1toplevel_1size_1set_1size",
+	"gsk_1render_1node_1draw",
+	"gsk_1render_1node_1unref",
+	"gtk_1box_1append",
+	"gtk_1box_1insert_1child_1after",
+	"gtk_1box_1prepend",
+	"gtk_1button_1new_1from_1icon_1name",
+	"gtk_1button_1set_1child",
+	"gtk_1calendar_1get_1date",
+	"gtk_1calendar_1select_1day",
+	"gtk_1calendar_1set_1date",
+	"gtk_1calendar_1set_1show_1day_1names",
+	"gtk_1calendar_1set_1show_1heading",
+	"gtk_1calendar_1set_1show_1week_1numbers",
+	"gtk_1check_1button_1get_1active",
+	"gtk_1check_1button_1set_1active",
+	"gtk_1check_1button_1set_1group",
+	"gtk_1check_1button_1set_1inconsistent",
+	"gtk_1check_1button_1set_1use_1underline",
+	"gtk_1color_1dialog_1choose_1rgba",
+	"gtk_1color_1dialog_1choose_1rgba_1finish",
+	"gtk_1color_1dialog_1get_1modal",
+	"gtk_1color_1dialog_1get_1with_1alpha",
+	"gtk_1color_1dialog_1new",
+	"gtk_1color_1dialog_1set_1modal",
+	"gtk_1color_1dialog_1set_1title",
+	"gtk_1color_1dialog_1set_1with_1alpha",
+	"gtk_1combo_1box_1get_1child",
+	"gtk_1css_1provider_1load_1from_1data",
+	"gtk_1drag_1source_1new",
+	"gtk_1drag_1source_1set_1actions",
+	"gtk_1drag_1source_1set_1icon",
+	"gtk_1drop_1target_1async_1new",
+	"gtk_1drop_1target_1async_1set_1formats",
+	"gtk_1editable_1get_1delegate",
+	"gtk_1editable_1get_1max_1width_1chars",
+	"gtk_1editable_1get_1text",
+	"gtk_1editable_1set_1alignment",
+	"gtk_1editable_1set_1max_1width_1chars",
+	"gtk_1editable_1set_1text",
+	"gtk_1entry_1buffer_1get_1text",
+	"gtk_1entry_1get_1buffer",
+	"gtk_1entry_1get_1text_1length",
+	"gtk_1entry_1set_1buffer",
+	"gtk_1event_1controller_1focus_1new",
+	"gtk_1event_1controller_1get_1current_1event",
+	"gtk_1event_1controller_1get_1current_1event_1state",
+	"gtk_1event_1controller_1key_1new",
+	"gtk_1event_1controller_1motion_1new",
+	"gtk_1event_1controller_1scroll_1new",
+	"gtk_1expander_1set_1child",
+	"gtk_1file_1chooser_1get_1file",
+	"gtk_1file_1chooser_1get_1files",
+	"gtk_1file_1chooser_1set_1current_1folder",
+	"gtk_1file_1chooser_1set_1file",
+	"gtk_1file_1dialog_1get_1default_1filter",
+	"gtk_1file_1dialog_1new",
+	"gtk_1file_1dialog_1open",
+	"gtk_1file_1dialog_1open_1finish",
+	"gtk_1file_1dialog_1open_1multiple",
+	"gtk_1file_1dialog_1open_1multiple_1finish",
+	"gtk_1file_1dialog_1save",
+	"gtk_1file_1dialog_1save_1finish",
+	"gtk_1file_1dialog_1select_1folder",
+	"gtk_1file_1dialog_1select_1folder_1finish",
+	"gtk_1file_1dialog_1set_1default_1filter",
+	"gtk_1file_1dialog_1set_1filters",
+	"gtk_1file_1dialog_1set_1initial_1file",
+	"gtk_1file_1dialog_1set_1initial_1folder",
+	"gtk_1file_1dialog_1set_1initial_1name",
+	"gtk_1file_1dialog_1set_1title",
+	"gtk_1font_1dialog_1choose_1font",
+	"gtk_1font_1dialog_1choose_1font_1finish",
+	"gtk_1font_1dialog_1new",
+	"gtk_1font_1dialog_1set_1modal",
+	"gtk_1font_1dialog_1set_1title",
+	"gtk_1frame_1set_1child",
+	"gtk_1gesture_1click_1new",
+	"gtk_1gesture_1drag_1new",
+	"gtk_1gesture_1get_1last_1updated_1sequence",
+	"gtk_1gesture_1rotate_1new",
+	"gtk_1gesture_1set_1sequence_1state",
+	"gtk_1gesture_1zoom_1new",
+	"gtk_1header_1bar_1new",
+	"gtk_1hsv_1to_1rgb",
+	"gtk_1icon_1paintable_1get_1file",
+	"gtk_1icon_1theme_1get_1for_1display",
+	"gtk_1icon_1theme_1lookup_1by_1gicon",
+	"gtk_1icon_1theme_1lookup_1icon",
+	"gtk_1im_1context_1filter_1keypress",
+	"gtk_1image_1clear",
+	"gtk_1image_1new_1from_1icon_1name",
+	"gtk_1image_1set_1from_1icon_1name",
+	"gtk_1image_1set_1from_1paintable",
+	"gtk_1init_1check",
+	"gtk_1keyval_1trigger_1new",
+	"gtk_1label_1set_1wrap",
+	"gtk_1label_1set_1wrap_1mode",
+	"gtk_1menu_1button_1set_1use_1underline",
+	"gtk_1named_1action_1new",
+	"gtk_1native_1get_1for_1surface",
+	"gtk_1native_1get_1surface",
+	"gtk_1picture_1new",
+	"gtk_1picture_1set_1can_1shrink",
+	"gtk_1picture_1set_1paintable",
+	"gtk_1popover_1menu_1bar_1new_1from_1model",
+	"gtk_1popover_1menu_1get_1menu_1model",
+	"gtk_1popover_1menu_1new_1from_1model_1full",
+	"gtk_1popover_1menu_1set_1menu_1model",
+	"gtk_1popover_1set_1has_1arrow",
+	"gtk_1rgb_1to_1hsv",
+	"gtk_1scrollbar_1get_1adjustment",
+	"gtk_1scrolled_1window_1get_1has_1frame",
+	"gtk_1scrolled_1window_1new",
+	"gtk_1scrolled_1window_1set_1child",
+	"gtk_1scrolled_1window_1set_1has_1frame",
+	"gtk_1shortcut_1controller_1add_1shortcut",
+	"gtk_1shortcut_1controller_1new",
+	"gtk_1shortcut_1controller_1remove_1shortcut",
+	"gtk_1shortcut_1controller_1set_1scope",
+	"gtk_1shortcut_1new",
+	"gtk_1snapshot_1append_1cairo",
+	"gtk_1snapshot_1free_1to_1node",
+	"gtk_1snapshot_1new",
+	"gtk_1style_1context_1add_1provider_1for_1display",
+	"gtk_1style_1context_1get_1border",
+	"gtk_1style_1context_1get_1color",
+	"gtk_1style_1context_1get_1margin",
+	"gtk_1style_1context_1get_1padding",
+	"gtk_1text_1get_1buffer",
+	"gtk_1text_1set_1placeholder_1text",
+	"gtk_1text_1set_1tabs",
+	"gtk_1text_1set_1visibility",
+	"gtk_1tree_1view_1column_1cell_1get_1size",
+	"gtk_1widget_1action_1set_1enabled",
+	"gtk_1widget_1activate_1action",
+	"gtk_1widget_1add_1controller",
+	"gtk_1widget_1class_1add_1binding_1signal",
+	"gtk_1widget_1get_1clipboard",
+	"gtk_1widget_1get_1first_1child",
+	"gtk_1widget_1get_1height",
+	"gtk_1widget_1get_1last_1child",
+	"gtk_1widget_1get_1native",
+	"gtk_1widget_1get_1next_1sibling",
+	"gtk_1widget_1get_1prev_1sibling",
+	"gtk_1widget_1get_1receives_1default",
+	"gtk_1widget_1get_1root",
+	"gtk_1widget_1get_1size_1request",
+	"gtk_1widget_1get_1width",
+	"gtk_1widget_1insert_1after",
+	"gtk_1widget_1insert_1before",
+	"gtk_1widget_1measure",
+	"gtk_1widget_1paintable_1new",
+	"gtk_1widget_1pick",
+	"gtk_1widget_1set_1cursor",
+	"gtk_1widget_1set_1focusable",
+	"gtk_1widget_1set_1size_1request",
+	"gtk_1widget_1size_1allocate",
+	"gtk_1widget_1snapshot_1child",
+	"gtk_1widget_1translate_1coordinates",
+	"gtk_1window_1destroy",
+	"gtk_1window_1get_1icon_1name",
+	"gtk_1window_1get_1titlebar",
+	"gtk_1window_1is_1maximized",
+	"gtk_1window_1maximize",
+	"gtk_1window_1minimize",
+	"gtk_1window_1new",
+	"gtk_1window_1present",
+	"gtk_1window_1set_1child",
+	"gtk_1window_1set_1default_1widget",
+	"gtk_1window_1set_1icon_1name",
+	"gtk_1window_1set_1titlebar",
+	"gtk_1window_1unminimize",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(GTK4_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return GTK4_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(GTK4_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, GTK4_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(GTK4_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return GTK4_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(GTK4_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return GTK4_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(GTK4_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	GTK4_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(GTK4_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(GTK4_nativeFunctionCallCount, 0, sizeof(GTK4_nativeFunctionCallCount));
+	memset(GTK4_nativeFunctionTime, 0, sizeof(GTK4_nativeFunctionTime));
+}
 
@@ -12,11 +12,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define GTK4_PROFILE_ENTER(func) jlong GTK4_nativeProfileStart = GTK4_nativeProfile ? swt_profile_time() : 0;
+#define GTK4_PROFILE_EXIT(func) if (GTK4_nativeProfile) { GTK4_nativeFunctionCallCount[func]++; GTK4_nativeFunctionTime[func] += swt_profile_time() - GTK4_nativeProfileStart; }
 #ifndef GTK4_NATIVE_ENTER
-#define GTK4_NATIVE_ENTER(env, that, func) 
+#define GTK4_NATIVE_ENTER(env, that, func) GTK4_PROFILE_ENTER(func)
 #endif
 #ifndef GTK4_NATIVE_EXIT
-#define GTK4_NATIVE_EXIT(env, that, func) 
+#define GTK4_NATIVE_EXIT(env, that, func) GTK4_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -248,3 +250,8 @@ typedef enum {
 	gtk_1window_1set_1titlebar_FUNC,
 	gtk_1window_1unminimize_FUNC,
 } GTK4_FUNCS;
+
+extern int GTK4_nativeProfile;
+extern jlong GTK4_nativeFunctionCallCount[];
+extern jlong GTK4_nativeFunctionTime[];
+
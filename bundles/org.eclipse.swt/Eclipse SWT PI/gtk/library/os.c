@@ -11496,6 +11496,28 @@ JNIEXPORT jint JNICALL OS_NATIVE(g_1idle_1add)
 }
 #endif
 
+#ifndef NO_g_1input_1stream_1read_1all
+JNIEXPORT jboolean JNICALL OS_NATIVE(g_1input_1stream_1read_1all)
+	(JNIEnv *env, jclass that, jlong arg0, jbyteArray arg1, jlong arg2, jlongArray arg3, jlong arg4, jlongArray arg5)
+{
+	jbyte *lparg1=NULL;
+	jlong *lparg3=NULL;
+	jlong *lparg5=NULL;
+	jboolean rc = 0;
+	OS_NATIVE_ENTER(env, that, g_1input_1stream_1read_1all_FUNC);
+	if (arg1) if ((lparg1 = (*env)->GetByteArrayElements(env, arg1, NULL)) == NULL) goto fail;
+	if (arg3) if ((lparg3 = (*env)->GetLongArrayElements(env, arg3, NULL)) == NULL) goto fail;
+	if (arg5) if ((lparg5 = (*env)->GetLongArrayElements(env, arg5, NULL)) == NULL) goto fail;
+	rc = (jboolean)g_input_stream_read_all((GInputStream *)arg0, (void *)lparg1, (gsize)arg2, (gsize *)lparg3, (GCancellable *)arg4, (GError **)lparg5);
+fail:
+	if (arg5 && lparg5) (*env)->ReleaseLongArrayElements(env, arg5, lparg5, 0);
+	if (arg3 && lparg3) (*env)->ReleaseLongArrayElements(env, arg3, lparg3, 0);
+	if (arg1 && lparg1) (*env)->ReleaseByteArrayElements(env, arg1, lparg1, 0);
+	OS_NATIVE_EXIT(env, that, g_1input_1stream_1read_1all_FUNC);
+	return rc;
+}
+#endif
+
 #ifndef NO_g_1io_1error_1quark
 JNIEXPORT jint JNICALL OS_NATIVE(g_1io_1error_1quark)
 	(JNIEnv *env, jclass that)
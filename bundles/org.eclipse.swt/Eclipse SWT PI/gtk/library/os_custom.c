@@ -2103,12 +2103,72 @@ static void swt_fixed_accessible_value_iface_init (AtkValueIface *iface) {
 	iface->set_current_value = swt_fixed_accessible_value_set_current_value;
 }
 
+/*
+ * Per method call counts and latency histograms of the ATK callbacks into
+ * AccessibleObject. Enabled by setting the SWT_ATK_STATS environment
+ * variable, the statistics are printed to stderr when the process exits.
+ */
+#define ATK_STATS_BUCKETS 16
+
+typedef struct {
+	const char *method_name;
+	guint64 count;
+	gint64 total_us;
+	gint64 max_us;
+	/* bucket i counts the calls that took less than 2^i microseconds, the last one the rest */
+	guint64 histogram[ATK_STATS_BUCKETS];
+} AtkCallStats;
+
+static GHashTable *atk_stats_table;
+static int atk_stats_enabled = -1;
+
+static void atk_stats_print_entry (gpointer key, gpointer value, gpointer user_data) {
+	AtkCallStats *stats = (AtkCallStats *)value;
+	int i;
+	g_printerr("%-40s %10" G_GUINT64_FORMAT " calls %10" G_GINT64_FORMAT " us total %8" G_GINT64_FORMAT " us max |",
+		stats->method_name, stats->count, stats->total_us, stats->max_us);
+	for (i = 0; i < ATK_STATS_BUCKETS; i++) {
+		g_printerr(" %" G_GUINT64_FORMAT, stats->histogram[i]);
+	}
+	g_printerr("\n");
+}
+
+static void atk_stats_print (void) {
+	if (atk_stats_table == NULL) return;
+	g_printerr("ATK callback statistics, histogram buckets are < 1, 2, 4, ... us\n");
+	g_hash_table_foreach(atk_stats_table, atk_stats_print_entry, NULL);
+}
+
+static void atk_stats_record (const char *method_name, gint64 duration_us) {
+	AtkCallStats *stats;
+	int bucket = 0;
+	if (atk_stats_table == NULL) {
+		atk_stats_table = g_hash_table_new_full(g_str_hash, g_str_equal, NULL, g_free);
+		atexit(atk_stats_print);
+	}
+	stats = g_hash_table_lookup(atk_stats_table, method_name);
+	if (stats == NULL) {
+		stats = g_new0(AtkCallStats, 1);
+		stats->method_name = method_name;
+		g_hash_table_insert(atk_stats_table, (gpointer)method_name, stats);
+	}
+	stats->count++;
+	stats->total_us += duration_us;
+	if (duration_us > stats->max_us) stats->max_us = duration_us;
+	while (bucket < ATK_STATS_BUCKETS - 1 && duration_us >= ((gint64)1 << bucket)) bucket++;
+	stats->histogram[bucket]++;
+}
+
 jlong call_accessible_object_function (const char *method_name, const char *method_signature,...) {
 	jlong result = 0;
 	va_list arg_list;
 	jclass cls;
 	JNIEnv *env;
 	jmethodID mid;
+	gint64 start_time = 0;
+
+	if (atk_stats_enabled == -1) atk_stats_enabled = g_getenv("SWT_ATK_STATS") != NULL;
+	if (atk_stats_enabled) start_time = g_get_monotonic_time();
 
 	if (method_name == NULL || method_signature == NULL) {
 		g_critical("Error calling Java method with JNI, check method name and signature\n");
@@ -2157,6 +2217,7 @@ jlong call_accessible_object_function (const char *method_name, const char *meth
 		}
 	}
 
+	if (atk_stats_enabled) atk_stats_record(method_name, g_get_monotonic_time() - start_time);
 	return result;
 }
 
@@ -16,11 +16,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define GDK_PROFILE_ENTER(func) jlong GDK_nativeProfileStart = GDK_nativeProfile ? swt_profile_time() : 0;
+#define GDK_PROFILE_EXIT(func) if (GDK_nativeProfile) { GDK_nativeFunctionCallCount[func]++; GDK_nativeFunctionTime[func] += swt_profile_time() - GDK_nativeProfileStart; }
 #ifndef GDK_NATIVE_ENTER
-#define GDK_NATIVE_ENTER(env, that, func) 
+#define GDK_NATIVE_ENTER(env, that, func) GDK_PROFILE_ENTER(func)
 #endif
 #ifndef GDK_NATIVE_EXIT
-#define GDK_NATIVE_EXIT(env, that, func) 
+#define GDK_NATIVE_EXIT(env, that, func) GDK_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -235,11 +237,18 @@ typedef enum {
 	gdk_1x11_1window_1get_1xid_FUNC,
 	gdk_1x11_1window_1lookup_1for_1display_FUNC,
 } GDK_FUNCS;
+
+extern int GDK_nativeProfile;
+extern jlong GDK_nativeFunctionCallCount[];
+extern jlong GDK_nativeFunctionTime[];
+
+#define GTK_PROFILE_ENTER(func) jlong GTK_nativeProfileStart = GTK_nativeProfile ? swt_profile_time() : 0;
+#define GTK_PROFILE_EXIT(func) if (GTK_nativeProfile) { GTK_nativeFunctionCallCount[func]++; GTK_nativeFunctionTime[func] += swt_profile_time() - GTK_nativeProfileStart; }
 #ifndef GTK_NATIVE_ENTER
-#define GTK_NATIVE_ENTER(env, that, func) 
+#define GTK_NATIVE_ENTER(env, that, func) GTK_PROFILE_ENTER(func)
 #endif
 #ifndef GTK_NATIVE_EXIT
-#define GTK_NATIVE_EXIT(env, that, func) 
+#define GTK_NATIVE_EXIT(env, that, func) GTK_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -792,11 +801,18 @@ typedef enum {
 	gtk_1window_1unfullscreen_FUNC,
 	gtk_1window_1unmaximize_FUNC,
 } GTK_FUNCS;
+
+extern int GTK_nativeProfile;
+extern jlong GTK_nativeFunctionCallCount[];
+extern jlong GTK_nativeFunctionTime[];
+
+#define Graphene_PROFILE_ENTER(func) jlong Graphene_nativeProfileStart = Graphene_nativeProfile ? swt_profile_time() : 0;
+#define Graphene_PROFILE_EXIT(func) if (Graphene_nativeProfile) { Graphene_nativeFunctionCallCount[func]++; Graphene_nativeFunctionTime[func] += swt_profile_time() - Graphene_nativeProfileStart; }
 #ifndef Graphene_NATIVE_ENTER
-#define Graphene_NATIVE_ENTER(env, that, func) 
+#define Graphene_NATIVE_ENTER(env, that, func) Graphene_PROFILE_ENTER(func)
 #endif
 #ifndef Graphene_NATIVE_EXIT
-#define Graphene_NATIVE_EXIT(env, that, func) 
+#define Graphene_NATIVE_EXIT(env, that, func) Graphene_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -804,11 +820,18 @@ typedef enum {
 	graphene_1rect_1free_FUNC,
 	graphene_1rect_1init_FUNC,
 } Graphene_FUNCS;
+
+extern int Graphene_nativeProfile;
+extern jlong Graphene_nativeFunctionCallCount[];
+extern jlong Graphene_nativeFunctionTime[];
+
+#define OS_PROFILE_ENTER(func) jlong OS_nativeProfileStart = OS_nativeProfile ? swt_profile_time() : 0;
+#define OS_PROFILE_EXIT(func) if (OS_nativeProfile) { OS_nativeFunctionCallCount[func]++; OS_nativeFunctionTime[func] += swt_profile_time() - OS_nativeProfileStart; }
 #ifndef OS_NATIVE_ENTER
-#define OS_NATIVE_ENTER(env, that, func) 
+#define OS_NATIVE_ENTER(env, that, func) OS_PROFILE_ENTER(func)
 #endif
 #ifndef OS_NATIVE_EXIT
-#define OS_NATIVE_EXIT(env, that, func) 
+#define OS_NATIVE_EXIT(env, that, func) OS_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -930,6 +953,7 @@ typedef enum {
 	g_1icon_1new_1for_1string_FUNC,
 	g_1icon_1to_1string_FUNC,
 	g_1idle_1add_FUNC,
+	g_1input_1stream_1read_1all_FUNC,
 	g_1io_1error_1quark_FUNC,
 	g_1list_1append_FUNC,
 	g_1list_1data_FUNC,
@@ -1235,3 +1259,8 @@ typedef enum {
 	swt_1set_1lock_1functions_FUNC,
 	ubuntu_1menu_1proxy_1get_FUNC,
 } OS_FUNCS;
+
+extern int OS_nativeProfile;
+extern jlong OS_nativeFunctionCallCount[];
+extern jlong OS_nativeFunctionTime[];
+
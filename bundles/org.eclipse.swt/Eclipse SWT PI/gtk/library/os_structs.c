@@ -748,7 +748,7 @@ void setPangoLogAttrFields(JNIEnv *env, jobject lpObject, PangoLogAttr *lpStruct
 typedef struct PangoRectangle_FID_CACHE {
 	int cached;
 	jclass clazz;
-	jfieldID x, y, width, height;
+	jfieldID buffer;
 } PangoRectangle_FID_CACHE;
 
 PangoRectangle_FID_CACHE PangoRectangleFc;
@@ -757,30 +757,23 @@ void cachePangoRectangleFields(JNIEnv *env, jobject lpObject)
 {
 	if (PangoRectangleFc.cached) return;
 	PangoRectangleFc.clazz = (*env)->GetObjectClass(env, lpObject);
-	PangoRectangleFc.x = (*env)->GetFieldID(env, PangoRectangleFc.clazz, "x", "I");
-	PangoRectangleFc.y = (*env)->GetFieldID(env, PangoRectangleFc.clazz, "y", "I");
-	PangoRectangleFc.width = (*env)->GetFieldID(env, PangoRectangleFc.clazz, "width", "I");
-	PangoRectangleFc.height = (*env)->GetFieldID(env, PangoRectangleFc.clazz, "height", "I");
+	PangoRectangleFc.buffer = (*env)->GetFieldID(env, PangoRectangleFc.clazz, "buffer", "Ljava/nio/ByteBuffer;");
 	PangoRectangleFc.cached = 1;
 }
 
 PangoRectangle *getPangoRectangleFields(JNIEnv *env, jobject lpObject, PangoRectangle *lpStruct)
 {
 	if (!PangoRectangleFc.cached) cachePangoRectangleFields(env, lpObject);
-	lpStruct->x = (*env)->GetIntField(env, lpObject, PangoRectangleFc.x);
-	lpStruct->y = (*env)->GetIntField(env, lpObject, PangoRectangleFc.y);
-	lpStruct->width = (*env)->GetIntField(env, lpObject, PangoRectangleFc.width);
-	lpStruct->height = (*env)->GetIntField(env, lpObject, PangoRectangleFc.height);
-	return lpStruct;
+	return (PangoRectangle *)(*env)->GetDirectBufferAddress(env, (*env)->GetObjectField(env, lpObject, PangoRectangleFc.buffer));
 }
 
 void setPangoRectangleFields(JNIEnv *env, jobject lpObject, PangoRectangle *lpStruct)
 {
 	if (!PangoRectangleFc.cached) cachePangoRectangleFields(env, lpObject);
-	(*env)->SetIntField(env, lpObject, PangoRectangleFc.x, (jint)lpStruct->x);
-	(*env)->SetIntField(env, lpObject, PangoRectangleFc.y, (jint)lpStruct->y);
-	(*env)->SetIntField(env, lpObject, PangoRectangleFc.width, (jint)lpStruct->width);
-	(*env)->SetIntField(env, lpObject, PangoRectangleFc.height, (jint)lpStruct->height);
+	{
+	PangoRectangle *lpBuffer = (PangoRectangle *)(*env)->GetDirectBufferAddress(env, (*env)->GetObjectField(env, lpObject, PangoRectangleFc.buffer));
+	if (lpBuffer != lpStruct) *lpBuffer = *lpStruct;
+	}
 }
 #endif
 
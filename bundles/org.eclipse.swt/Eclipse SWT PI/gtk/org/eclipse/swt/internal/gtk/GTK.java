@@ -994,29 +994,39 @@ public class GTK extends OS {
 	 */
 	public static final native void gtk_list_store_remove(long list_store, long iter);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_list_store_set(long store, long iter, int column, byte[] value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_list_store_set(long store, long iter, int column, int value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_list_store_set(long store, long iter, int column, long value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 * @param value flags=no_out
 	 */
 	public static final native void gtk_list_store_set(long store, long iter, int column, GdkRGBA value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkListStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_list_store_set(long store, long iter, int column, boolean value, int terminator);
 	/**
@@ -1908,29 +1918,39 @@ public class GTK extends OS {
 	 */
 	public static final native void gtk_tree_store_remove(long store, long iter);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_tree_store_set(long store, long iter, int column, byte[] value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_tree_store_set(long store, long iter, int column, int value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_tree_store_set(long store, long iter, int column, long value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 * @param value flags=no_out
 	 */
 	public static final native void gtk_tree_store_set(long store, long iter, int column, GdkRGBA value, int terminator);
 	/**
+	 * @method flags=varargs
 	 * @param store cast=(GtkTreeStore *)
 	 * @param iter cast=(GtkTreeIter *)
+	 * @param column flags=varargs
 	 */
 	public static final native void gtk_tree_store_set(long store, long iter, int column, boolean value, int terminator);
 	/**
@@ -1262,6 +1262,7 @@ public static final native void g_object_get(long object, byte[] first_property_
  */
 public static final native long g_object_get_qdata(long object, int quark);
 /**
+ * @method flags=varargs,return_type=gpointer
  * @param type cast=(GType)
  * @param first_property_name cast=(const gchar *)
  */
@@ -1360,28 +1361,37 @@ public static final native int g_signal_connect_closure(long instance, byte[] de
  */
 public static final native int g_signal_connect_closure_by_id(long instance, int signal_id, int detail, long closure, boolean after);
 /**
+ * @method flags=varargs
  * @param instance cast=(gpointer)
  * @param detailed_signal cast=(const gchar *),flags=no_out
  */
 public static final native void g_signal_emit_by_name(long instance, byte[] detailed_signal);
 /**
+ * @method flags=varargs
  * @param instance cast=(gpointer)
  * @param detailed_signal cast=(const gchar *),flags=no_out
+ * @param data flags=varargs
  */
 public static final native void g_signal_emit_by_name(long instance, byte[] detailed_signal, long data);
 /**
+ * @method flags=varargs
  * @param instance cast=(gpointer)
  * @param detailed_signal cast=(const gchar *),flags=no_out
+ * @param data flags=varargs
  */
 public static final native void g_signal_emit_by_name(long instance, byte[] detailed_signal, GdkRectangle data);
 /**
+ * @method flags=varargs
  * @param instance cast=(gpointer)
  * @param detailed_signal cast=(const gchar *),flags=no_out
+ * @param data1 flags=varargs
  */
 public static final native void g_signal_emit_by_name(long instance, byte[] detailed_signal, long data1, long data2);
 /**
+ * @method flags=varargs
  * @param instance cast=(gpointer)
  * @param detailed_signal cast=(const gchar *),flags=no_out
+ * @param data flags=varargs
  */
 public static final native void g_signal_emit_by_name(long instance, byte[] detailed_signal, byte [] data);
 /**
@@ -2457,6 +2467,17 @@ public static final native int g_list_model_get_n_items(long list);
  */
 public static final native long g_list_model_get_item(long list, int position);
 
+/* GInputStream */
+/**
+ * @param stream cast=(GInputStream *)
+ * @param buffer cast=(void *),flags=no_in
+ * @param count cast=(gsize)
+ * @param bytes_read cast=(gsize *)
+ * @param cancellable cast=(GCancellable *)
+ * @param error cast=(GError **)
+ */
+public static final native boolean g_input_stream_read_all(long stream, byte[] buffer, long count, long[] bytes_read, long cancellable, long[] error);
+
 /* GMemoryInputStream */
 /**
  * @param data cast=(const void *)
@@ -14,11 +14,50 @@
  *******************************************************************************/
 package org.eclipse.swt.internal.gtk;
 
+import java.nio.*;
 
+import org.eclipse.swt.internal.*;
+
+/**
+ * The fields are read and written in the memory of the struct, the natives
+ * use that memory in place.
+ *
+ * @jniclass flags=direct
+ */
 public class PangoRectangle {
-	public int x;
-	public int y;
-	public int width;
-	public int height;
 	public static final int sizeof = OS.PangoRectangle_sizeof();
+	static final int X = 0, Y = 4, WIDTH = 8, HEIGHT = 12;
+	public final ByteBuffer buffer = StructBuffer.allocate(sizeof);
+
+	public int getX() {
+		return buffer.getInt(X);
+	}
+
+	public void setX(int x) {
+		buffer.putInt(X, x);
+	}
+
+	public int getY() {
+		return buffer.getInt(Y);
+	}
+
+	public void setY(int y) {
+		buffer.putInt(Y, y);
+	}
+
+	public int getWidth() {
+		return buffer.getInt(WIDTH);
+	}
+
+	public void setWidth(int width) {
+		buffer.putInt(WIDTH, width);
+	}
+
+	public int getHeight() {
+		return buffer.getInt(HEIGHT);
+	}
+
+	public void setHeight(int height) {
+		buffer.putInt(HEIGHT, height);
+	}
 }
@@ -15,11 +15,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define COM_PROFILE_ENTER(func) jlong COM_nativeProfileStart = COM_nativeProfile ? swt_profile_time() : 0;
+#define COM_PROFILE_EXIT(func) if (COM_nativeProfile) { COM_nativeFunctionCallCount[func]++; COM_nativeFunctionTime[func] += swt_profile_time() - COM_nativeProfileStart; }
 #ifndef COM_NATIVE_ENTER
-#define COM_NATIVE_ENTER(env, that, func) 
+#define COM_NATIVE_ENTER(env, that, func) COM_PROFILE_ENTER(func)
 #endif
 #ifndef COM_NATIVE_EXIT
-#define COM_NATIVE_EXIT(env, that, func) 
+#define COM_NATIVE_EXIT(env, that, func) COM_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -170,3 +172,8 @@ typedef enum {
 	VtblCall_1put_1Bounds_FUNC,
 	WriteClassStg_FUNC,
 } COM_FUNCS;
+
+extern int COM_nativeProfile;
+extern jlong COM_nativeFunctionCallCount[];
+extern jlong COM_nativeFunctionTime[];
+
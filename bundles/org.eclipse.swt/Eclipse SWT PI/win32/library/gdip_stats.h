@@ -15,11 +15,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define Gdip_PROFILE_ENTER(func) jlong Gdip_nativeProfileStart = Gdip_nativeProfile ? swt_profile_time() : 0;
+#define Gdip_PROFILE_EXIT(func) if (Gdip_nativeProfile) { Gdip_nativeFunctionCallCount[func]++; Gdip_nativeFunctionTime[func] += swt_profile_time() - Gdip_nativeProfileStart; }
 #ifndef Gdip_NATIVE_ENTER
-#define Gdip_NATIVE_ENTER(env, that, func) 
+#define Gdip_NATIVE_ENTER(env, that, func) Gdip_PROFILE_ENTER(func)
 #endif
 #ifndef Gdip_NATIVE_EXIT
-#define Gdip_NATIVE_EXIT(env, that, func) 
+#define Gdip_NATIVE_EXIT(env, that, func) Gdip_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -212,3 +214,8 @@ typedef enum {
 	TextureBrush_1new__JIFFFF_FUNC,
 	TextureBrush_1new__JLorg_eclipse_swt_internal_gdip_Rect_2J_FUNC,
 } Gdip_FUNCS;
+
+extern int Gdip_nativeProfile;
+extern jlong Gdip_nativeFunctionCallCount[];
+extern jlong Gdip_nativeFunctionTime[];
+
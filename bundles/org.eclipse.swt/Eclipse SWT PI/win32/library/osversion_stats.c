@@ -14,4 +14,58 @@
 
 #include "swt.h"
 #include "osversion_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int OsVersion_nativeProfile = 0;
+int OsVersion_nativeFunctionCount = 2;
+jlong OsVersion_nativeFunctionCallCount[2];
+jlong OsVersion_nativeFunctionTime[2];
+const char* OsVersion_nativeFunctionNames[] = {
+	"OSVERSIONINFOEX_1sizeof",
+	"RtlGetVersion",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(OsVersion_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return OsVersion_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(OsVersion_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, OsVersion_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(OsVersion_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return OsVersion_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(OsVersion_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return OsVersion_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(OsVersion_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	OsVersion_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(OsVersion_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(OsVersion_nativeFunctionCallCount, 0, sizeof(OsVersion_nativeFunctionCallCount));
+	memset(OsVersion_nativeFunctionTime, 0, sizeof(OsVersion_nativeFunctionTime));
+}
 
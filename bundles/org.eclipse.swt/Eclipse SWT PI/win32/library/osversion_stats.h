@@ -12,14 +12,21 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define OsVersion_PROFILE_ENTER(func) jlong OsVersion_nativeProfileStart = OsVersion_nativeProfile ? swt_profile_time() : 0;
+#define OsVersion_PROFILE_EXIT(func) if (OsVersion_nativeProfile) { OsVersion_nativeFunctionCallCount[func]++; OsVersion_nativeFunctionTime[func] += swt_profile_time() - OsVersion_nativeProfileStart; }
 #ifndef OsVersion_NATIVE_ENTER
-#define OsVersion_NATIVE_ENTER(env, that, func) 
+#define OsVersion_NATIVE_ENTER(env, that, func) OsVersion_PROFILE_ENTER(func)
 #endif
 #ifndef OsVersion_NATIVE_EXIT
-#define OsVersion_NATIVE_EXIT(env, that, func) 
+#define OsVersion_NATIVE_EXIT(env, that, func) OsVersion_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
 	OSVERSIONINFOEX_1sizeof_FUNC,
 	RtlGetVersion_FUNC,
 } OsVersion_FUNCS;
+
+extern int OsVersion_nativeProfile;
+extern jlong OsVersion_nativeFunctionCallCount[];
+extern jlong OsVersion_nativeFunctionTime[];
+
@@ -1875,6 +1875,26 @@ fail:
 }
 #endif
 
+#ifndef NO_webkit_1uri_1scheme_1request_1get_1http_1body
+JNIEXPORT jlong JNICALL WebKitGTK_NATIVE(webkit_1uri_1scheme_1request_1get_1http_1body)
+	(JNIEnv *env, jclass that, jlong arg0)
+{
+	jlong rc = 0;
+	WebKitGTK_NATIVE_ENTER(env, that, webkit_1uri_1scheme_1request_1get_1http_1body_FUNC);
+/*
+	rc = (jlong)webkit_uri_scheme_request_get_http_body(arg0);
+*/
+	{
+		WebKitGTK_LOAD_FUNCTION(fp, webkit_uri_scheme_request_get_http_body)
+		if (fp) {
+			rc = (jlong)((jlong (CALLING_CONVENTION*)(jlong))fp)(arg0);
+		}
+	}
+	WebKitGTK_NATIVE_EXIT(env, that, webkit_1uri_1scheme_1request_1get_1http_1body_FUNC);
+	return rc;
+}
+#endif
+
 #ifndef NO_webkit_1uri_1scheme_1request_1get_1uri
 JNIEXPORT jlong JNICALL WebKitGTK_NATIVE(webkit_1uri_1scheme_1request_1get_1uri)
 	(JNIEnv *env, jclass that, jlong arg0)
@@ -18,4 +18,193 @@
 
 #include "swt.h"
 #include "webkitgtk_stats.h"
+#include <string.h>
+
+#define STATS_NATIVE(func) Java_org_eclipse_swt_internal_NativeProfiler_##func
+
+#ifdef _WIN32
+  /* Many methods don't use their 'env' and 'that' arguments */
+  #pragma warning (disable: 4100)
+#endif
+
+int WebKitGTK_nativeProfile = 0;
+int WebKitGTK_nativeFunctionCount = 137;
+jlong WebKitGTK_nativeFunctionCallCount[137];
+jlong WebKitGTK_nativeFunctionTime[137];
+const char* WebKitGTK_nativeFunctionNames[] = {
+	"GdkRectangle_1sizeof",
+	"JSObjectGetProperty",
+	"JSObjectGetPropertyAtIndex",
+	"JSStringCreateWithUTF8CString",
+	"JSStringGetMaximumUTF8CStringSize",
+	"JSStringGetUTF8CString",
+	"JSStringRelease",
+	"JSValueGetType",
+	"JSValueToNumber",
+	"JSValueToStringCopy",
+	"jsc_1value_1is_1boolean",
+	"jsc_1value_1is_1null",
+	"jsc_1value_1is_1number",
+	"jsc_1value_1is_1object",
+	"jsc_1value_1is_1string",
+	"jsc_1value_1is_1typed_1array",
+	"jsc_1value_1is_1undefined",
+	"jsc_1value_1object_1get_1property",
+	"jsc_1value_1object_1get_1property_1at_1index",
+	"jsc_1value_1to_1boolean",
+	"jsc_1value_1to_1double",
+	"jsc_1value_1to_1int32",
+	"jsc_1value_1to_1string",
+	"soup_1cookie_1get_1name",
+	"soup_1cookie_1get_1value",
+	"soup_1cookie_1parse",
+	"soup_1get_1major_1version",
+	"soup_1message_1headers_1append",
+	"soup_1uri_1free",
+	"soup_1uri_1new",
+	"webkit_1authentication_1request_1authenticate",
+	"webkit_1authentication_1request_1cancel",
+	"webkit_1authentication_1request_1is_1retry",
+	"webkit_1cookie_1manager_1add_1cookie",
+	"webkit_1cookie_1manager_1add_1cookie_1finish",
+	"webkit_1cookie_1manager_1get_1cookies",
+	"webkit_1cookie_1manager_1get_1cookies_1finish",
+	"webkit_1credential_1free",
+	"webkit_1credential_1new",
+	"webkit_1dom_1event_1target_1add_1event_1listener",
+	"webkit_1dom_1mouse_1event_1get_1alt_1key",
+	"webkit_1dom_1mouse_1event_1get_1button",
+	"webkit_1dom_1mouse_1event_1get_1ctrl_1key",
+	"webkit_1dom_1mouse_1event_1get_1meta_1key",
+	"webkit_1dom_1mouse_1event_1get_1screen_1x",
+	"webkit_1dom_1mouse_1event_1get_1screen_1y",
+	"webkit_1dom_1mouse_1event_1get_1shift_1key",
+	"webkit_1dom_1ui_1event_1get_1char_1code",
+	"webkit_1dom_1ui_1event_1get_1detail",
+	"webkit_1dom_1ui_1event_1get_1key_1code",
+	"webkit_1download_1cancel",
+	"webkit_1download_1get_1received_1data_1length",
+	"webkit_1download_1get_1request",
+	"webkit_1download_1get_1response",
+	"webkit_1download_1get_1type",
+	"webkit_1download_1get_1web_1view",
+	"webkit_1download_1set_1allow_1overwrite",
+	"webkit_1download_1set_1destination",
+	"webkit_1find_1controller_1search",
+	"webkit_1find_1controller_1search_1finish",
+	"webkit_1find_1controller_1search_1next",
+	"webkit_1find_1controller_1search_1previous",
+	"webkit_1get_1major_1version",
+	"webkit_1get_1micro_1version",
+	"webkit_1get_1minor_1version",
+	"webkit_1hit_1test_1result_1context_1is_1link",
+	"webkit_1hit_1test_1result_1get_1link_1title",
+	"webkit_1hit_1test_1result_1get_1link_1uri",
+	"webkit_1javascript_1result_1get_1global_1context",
+	"webkit_1javascript_1result_1get_1value",
+	"webkit_1javascript_1result_1unref",
+	"webkit_1navigation_1action_1get_1request",
+	"webkit_1navigation_1policy_1decision_1get_1navigation_1action",
+	"webkit_1navigation_1policy_1decision_1get_1request",
+	"webkit_1network_1session_1allow_1tls_1certificate_1for_1host",
+	"webkit_1network_1session_1get_1cookie_1manager",
+	"webkit_1network_1session_1get_1default",
+	"webkit_1network_1session_1get_1website_1data_1manager",
+	"webkit_1network_1session_1set_1tls_1errors_1policy",
+	"webkit_1policy_1decision_1download",
+	"webkit_1policy_1decision_1ignore",
+	"webkit_1response_1policy_1decision_1get_1request",
+	"webkit_1response_1policy_1decision_1get_1response",
+	"webkit_1security_1manager_1register_1uri_1scheme_1as_1secure",
+	"webkit_1uri_1request_1get_1http_1headers",
+	"webkit_1uri_1request_1get_1uri",
+	"webkit_1uri_1request_1new",
+	"webkit_1uri_1response_1get_1content_1length",
+	"webkit_1uri_1response_1get_1mime_1type",
+	"webkit_1uri_1scheme_1request_1finish",
+	"webkit_1uri_1scheme_1request_1get_1http_1body",
+	"webkit_1uri_1scheme_1request_1get_1uri",
+	"webkit_1uri_1scheme_1request_1get_1web_1view",
+	"webkit_1user_1content_1manager_1add_1script",
+	"webkit_1user_1content_1manager_1remove_1all_1scripts",
+	"webkit_1user_1script_1new",
+	"webkit_1user_1script_1unref",
+	"webkit_1web_1context_1add_1path_1to_1sandbox",
+	"webkit_1web_1context_1allow_1tls_1certificate_1for_1host",
+	"webkit_1web_1context_1get_1cookie_1manager",
+	"webkit_1web_1context_1get_1default",
+	"webkit_1web_1context_1get_1security_1manager",
+	"webkit_1web_1context_1get_1type",
+	"webkit_1web_1context_1get_1website_1data_1manager",
+	"webkit_1web_1context_1register_1uri_1scheme",
+	"webkit_1web_1context_1set_1tls_1errors_1policy",
+	"webkit_1web_1resource_1get_1data",
+	"webkit_1web_1resource_1get_1data_1finish",
+	"webkit_1web_1view_1can_1go_1back",
+	"webkit_1web_1view_1can_1go_1forward",
+	"webkit_1web_1view_1can_1show_1mime_1type",
+	"webkit_1web_1view_1evaluate_1javascript",
+	"webkit_1web_1view_1evaluate_1javascript_1finish",
+	"webkit_1web_1view_1get_1context",
+	"webkit_1web_1view_1get_1estimated_1load_1progress",
+	"webkit_1web_1view_1get_1find_1controller",
+	"webkit_1web_1view_1get_1main_1resource",
+	"webkit_1web_1view_1get_1page_1id",
+	"webkit_1web_1view_1get_1settings",
+	"webkit_1web_1view_1get_1title",
+	"webkit_1web_1view_1get_1uri",
+	"webkit_1web_1view_1get_1user_1content_1manager",
+	"webkit_1web_1view_1get_1window_1properties",
+	"webkit_1web_1view_1go_1back",
+	"webkit_1web_1view_1go_1forward",
+	"webkit_1web_1view_1load_1bytes",
+	"webkit_1web_1view_1load_1html",
+	"webkit_1web_1view_1load_1request",
+	"webkit_1web_1view_1load_1uri",
+	"webkit_1web_1view_1new",
+	"webkit_1web_1view_1new_1with_1related_1view",
+	"webkit_1web_1view_1reload",
+	"webkit_1web_1view_1run_1javascript",
+	"webkit_1web_1view_1run_1javascript_1finish",
+	"webkit_1web_1view_1stop_1loading",
+	"webkit_1website_1data_1manager_1clear",
+	"webkit_1window_1properties_1get_1geometry",
+};
+
+JNIEXPORT jint JNICALL STATS_NATIVE(WebKitGTK_1GetFunctionCount)
+	(JNIEnv *env, jclass that)
+{
+	return WebKitGTK_nativeFunctionCount;
+}
+
+JNIEXPORT jstring JNICALL STATS_NATIVE(WebKitGTK_1GetFunctionName)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return (*env)->NewStringUTF(env, WebKitGTK_nativeFunctionNames[index]);
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(WebKitGTK_1GetFunctionCallCount)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return WebKitGTK_nativeFunctionCallCount[index];
+}
+
+JNIEXPORT jlong JNICALL STATS_NATIVE(WebKitGTK_1GetFunctionTime)
+	(JNIEnv *env, jclass that, jint index)
+{
+	return WebKitGTK_nativeFunctionTime[index];
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(WebKitGTK_1SetProfiling)
+	(JNIEnv *env, jclass that, jboolean enabled)
+{
+	WebKitGTK_nativeProfile = enabled;
+}
+
+JNIEXPORT void JNICALL STATS_NATIVE(WebKitGTK_1Reset)
+	(JNIEnv *env, jclass that)
+{
+	memset(WebKitGTK_nativeFunctionCallCount, 0, sizeof(WebKitGTK_nativeFunctionCallCount));
+	memset(WebKitGTK_nativeFunctionTime, 0, sizeof(WebKitGTK_nativeFunctionTime));
+}
 
@@ -16,11 +16,13 @@
 /* Note: This file was auto-generated by org.eclipse.swt.tools.internal.JNIGenerator */
 /* DO NOT EDIT - your changes will be lost. */
 
+#define WebKitGTK_PROFILE_ENTER(func) jlong WebKitGTK_nativeProfileStart = WebKitGTK_nativeProfile ? swt_profile_time() : 0;
+#define WebKitGTK_PROFILE_EXIT(func) if (WebKitGTK_nativeProfile) { WebKitGTK_nativeFunctionCallCount[func]++; WebKitGTK_nativeFunctionTime[func] += swt_profile_time() - WebKitGTK_nativeProfileStart; }
 #ifndef WebKitGTK_NATIVE_ENTER
-#define WebKitGTK_NATIVE_ENTER(env, that, func) 
+#define WebKitGTK_NATIVE_ENTER(env, that, func) WebKitGTK_PROFILE_ENTER(func)
 #endif
 #ifndef WebKitGTK_NATIVE_EXIT
-#define WebKitGTK_NATIVE_EXIT(env, that, func) 
+#define WebKitGTK_NATIVE_EXIT(env, that, func) WebKitGTK_PROFILE_EXIT(func)
 #endif
 
 typedef enum {
@@ -114,6 +116,7 @@ typedef enum {
 	webkit_1uri_1response_1get_1content_1length_FUNC,
 	webkit_1uri_1response_1get_1mime_1type_FUNC,
 	webkit_1uri_1scheme_1request_1finish_FUNC,
+	webkit_1uri_1scheme_1request_1get_1http_1body_FUNC,
 	webkit_1uri_1scheme_1request_1get_1uri_FUNC,
 	webkit_1uri_1scheme_1request_1get_1web_1view_FUNC,
 	webkit_1user_1content_1manager_1add_1script_FUNC,
@@ -161,3 +164,8 @@ typedef enum {
 	webkit_1website_1data_1manager_1clear_FUNC,
 	webkit_1window_1properties_1get_1geometry_FUNC,
 } WebKitGTK_FUNCS;
+
+extern int WebKitGTK_nativeProfile;
+extern jlong WebKitGTK_nativeFunctionCallCount[];
+extern jlong WebKitGTK_nativeFunctionTime[];
+
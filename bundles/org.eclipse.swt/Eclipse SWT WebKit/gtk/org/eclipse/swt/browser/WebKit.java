@@ -18,9 +18,11 @@ package org.eclipse.swt.browser;
 import java.io.*;
 import java.lang.reflect.*;
 import java.net.*;
+import java.nio.*;
 import java.nio.charset.*;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
@@ -189,6 +191,8 @@ class WebKit extends WebBrowser {
 
 	static final byte[] SWT_PROTOCOL = Converter.wcsToMbcs("swt", true); // $NON-NLS-1$
 	static final byte[] JSON_MIME_TYPE = Converter.wcsToMbcs("application/json", true); // $NON-NLS-1$
+	static final String BATCH_URI = "swt://browserfunction/batch"; // $NON-NLS-1$
+	static final int BATCH_CHUNK_SIZE = 64 * 1024;
 
 	/* WebKit signal data */
 	static final int NOTIFY_PROGRESS = 1;
@@ -333,6 +337,66 @@ class WebKit extends WebBrowser {
 			""";
 	}
 
+	@Override
+	String getJavaCallAsyncDeclaration() {
+		// Reading the body of a request needs WebKitGTK 2.40.
+		if (WebKitGTK.webkit_get_minor_version() < 40) return super.getJavaCallAsyncDeclaration();
+		// callJavaAsync queues the call and sends all calls made until the next microtask
+		// in one asynchronous request, which is handled by RequestProc. Typed arrays are
+		// appended to the request as raw bytes, see BrowserFunctionBatch for the format.
+		return """
+			if (!window.callJavaAsync) { (function() {
+			var calls = [], binaries = [], scheduled = false;
+			function encode(value, path) {
+				if (value instanceof ArrayBuffer) value = new Uint8Array(value);
+				if (ArrayBuffer.isView(value)) {
+					binaries.push({data: value, path: path});
+					return null;
+				}
+				return Array.isArray(value) ? value.map(function(item, i) {return encode(item, path.concat(i));}) : value;
+			}
+			function flush() {
+				var batch = calls, parts = binaries;
+				calls = []; binaries = []; scheduled = false;
+				var header = new TextEncoder().encode(JSON.stringify([
+					batch.map(function(call) {return call.message;}),
+					parts.map(function(part) {return [part.data.constructor.name, part.data.byteLength].concat(part.path);})]));
+				var size = 4 + header.length;
+				parts.forEach(function(part) {size = ((size + 7) & ~7) + part.data.byteLength;});
+				var body = new Uint8Array(size);
+				new DataView(body.buffer).setUint32(0, header.length, true);
+				body.set(header, 4);
+				var offset = 4 + header.length;
+				parts.forEach(function(part) {
+					offset = (offset + 7) & ~7;
+					body.set(new Uint8Array(part.data.buffer, part.data.byteOffset, part.data.byteLength), offset);
+					offset += part.data.byteLength;
+				});
+				var xhr = new XMLHttpRequest();
+				xhr.open('POST', 'swt://browserfunction/batch', true);
+				xhr.onerror = function() {
+					batch.forEach(function(call) {call.reject(new Error('BrowserFunction call failed'));});
+				};
+				xhr.onload = function() {
+					var results = JSON.parse(xhr.responseText);
+					if (!Array.isArray(results)) return xhr.onerror();
+					batch.forEach(function(call, i) {call.resolve(results[i]);});
+				};
+				xhr.send(body);
+			}
+			window.callJavaAsync = function(index, token, args) {
+				return new Promise(function(resolve, reject) {
+					calls.push({message: [index, token, encode(args, [calls.length])], resolve: resolve, reject: reject});
+					if (!scheduled) {
+						scheduled = true;
+						queueMicrotask(flush);
+					}
+				});
+			};
+			})(); }
+			""";
+	}
+
 	/**
 	 * Gets the webkit version, within an <code>int[3]</code> array with
 	 * <code>{major, minor, micro}</code> version
@@ -459,6 +523,10 @@ static long RequestProc (long request, long user_data) {
 
 		long uriPtr = WebKitGTK.webkit_uri_scheme_request_get_uri(request);
 		String uriStr = Converter.cCharPtrToJavaString(uriPtr, false);
+		if (uriStr.startsWith(BATCH_URI)) {
+			RequestBatch(request, browser);
+			return 0;
+		}
 		try {
 			URI uri = new URI(uriStr);
 			String[] parts = uri.getPath().split("/");
@@ -494,6 +562,53 @@ static long RequestProc (long request, long user_data) {
 	return 0;
 }
 
+/**
+ * Dispatches the calls sent by callJavaAsync. The message is read from the body of the request
+ * and the results are encoded straight to UTF-8, neither is converted to a String.
+ */
+static void RequestBatch (long request, Browser browser) {
+	ByteBuffer response = null;
+	long stream = WebKitGTK.webkit_uri_scheme_request_get_http_body(request);
+	if (stream != 0) {
+		try {
+			// The body is read to its end in chunks, its length is not taken from the page.
+			byte[] chunk = new byte[BATCH_CHUNK_SIZE];
+			byte[] message = new byte[BATCH_CHUNK_SIZE];
+			int length = 0;
+			long[] bytesRead = new long[1];
+			boolean read;
+			while ((read = OS.g_input_stream_read_all(stream, chunk, chunk.length, bytesRead, 0, null)) && bytesRead[0] > 0) {
+				int count = (int) bytesRead[0];
+				if (length + count > message.length) {
+					message = Arrays.copyOf(message, Math.max(message.length * 2, length + count));
+				}
+				System.arraycopy(chunk, 0, message, length, count);
+				length += count;
+				if (count < chunk.length) break;
+			}
+			if (read && length >= 4) {
+				WebKit webkit = (WebKit)browser.webBrowser;
+				response = BrowserFunctionBatch.call(webkit.functions, message, length);
+			}
+		} catch (RuntimeException | OutOfMemoryError e) {
+			// A malformed or too large message fails the whole batch, see below.
+		} finally {
+			OS.g_object_unref(stream);
+		}
+	}
+	if (response == null) {
+		// A response must be sent regardless of any errors, otherwise the promises never settle.
+		response = ByteBuffer.wrap(new byte[] {'n', 'u', 'l', 'l'});
+	}
+
+	int length = response.remaining();
+	long dataPtr = OS.g_malloc(Math.max(length, 1));
+	C.memmove(dataPtr, response.array(), length);
+	long dataStream = OS.g_memory_input_stream_new_from_data(dataPtr, length, OS.addressof_g_free());
+	WebKitGTK.webkit_uri_scheme_request_finish(request, dataStream, length, JSON_MIME_TYPE);
+	OS.g_object_unref(dataStream);
+}
+
 static long Proc (long handle, long user_data) {
 	long webView  = handle;
 
@@ -1009,6 +1124,11 @@ private static class Webkit2AsyncToSync {
 
 		/** Set to true if call timed out. Not set by javascript execution itself */
 		boolean swtAsyncTimeout;
+
+		/** Set for evaluateAsync(), completed by the callback instead of waiting for it. */
+		CompletableFuture<Object> future;
+		Browser browser;
+		String script;
 	}
 
 	/**
@@ -1039,6 +1159,18 @@ private static class Webkit2AsyncToSync {
 			callbackMap.remove(id);
 			removeId(id);
 		}
+		static void disposeBrowser(Browser browser) {
+			Iterator<Map.Entry<Integer, Webkit2AsyncReturnObj>> iterator = callbackMap.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Integer, Webkit2AsyncReturnObj> entry = iterator.next();
+				Webkit2AsyncReturnObj retObj = entry.getValue();
+				if (retObj.future != null && retObj.browser == browser) {
+					iterator.remove();
+					removeId(entry.getKey());
+					retObj.future.completeExceptionally(new SWTException(SWT.ERROR_WIDGET_DISPOSED));
+				}
+			}
+		}
 
 		// Mechanism to generate unique ID's
 		private static int nextCallbackId = 1;
@@ -1076,6 +1208,43 @@ private static class Webkit2AsyncToSync {
 
 	}
 
+	/**
+	 * Start the script and return at once. The callback completes the future, no event loop is spun here,
+	 * so this is safe to call from synchronous webkit callbacks and any number of calls can overlap.
+	 */
+	static CompletableFuture<Object> evaluateAsync(String script, Browser browser, long webView) {
+		Webkit2AsyncReturnObj retObj = new Webkit2AsyncReturnObj();
+		retObj.future = new CompletableFuture<>();
+		retObj.browser = browser;
+		retObj.script = script;
+		int callbackId = CallBackMap.putObject(retObj);
+		String swtUniqueExecFunc = "SWTWebkit2TempFunc" + callbackId + "()";
+		String wrappedScript = "function " + swtUniqueExecFunc +"{" + script + "}; " + swtUniqueExecFunc;
+		startjavascript(wrappedScript, webView, callbackId);
+		return retObj.future;
+	}
+
+	private static void startjavascript(String script, long webView, int callbackId) {
+		if (GTK.GTK4) {
+			byte[] wcsToMbcs = Converter.wcsToMbcs(script, false);
+			WebKitGTK.webkit_web_view_evaluate_javascript(webView, wcsToMbcs, wcsToMbcs.length, 0, 0, 0,
+					runjavascript_callback.getAddress(), callbackId);
+		} else {
+			WebKitGTK.webkit_web_view_run_javascript(webView, Converter.wcsToMbcs(script, true), 0, runjavascript_callback.getAddress(),
+					callbackId);
+		}
+	}
+
+	/** Hand the result of an evaluateAsync() call to its future. */
+	private static void completeAsync(int callbackId, Webkit2AsyncReturnObj retObj) {
+		CallBackMap.removeObject(callbackId);
+		if (retObj.errorNum != 0) {
+			retObj.future.completeExceptionally(new SWTException(retObj.errorNum, retObj.errorMsg +"\nScript that was evaluated:\n" + retObj.script));
+		} else {
+			retObj.future.complete(retObj.returnValue);
+		}
+	}
+
 	/**
 	 * Run javascript, wait for a return value.
 	 *
@@ -1104,16 +1273,7 @@ private static class Webkit2AsyncToSync {
 		} else {
 			// Callback logic: Initiate an async callback and wait for it to finish.
 			// The callback comes back in runjavascript_callback(..) below.
-			Consumer<Integer> asyncFunc = callbackId -> {
-				if (GTK.GTK4) {
-					byte[] wcsToMbcs = Converter.wcsToMbcs(script, false);
-					WebKitGTK.webkit_web_view_evaluate_javascript(webView, wcsToMbcs, wcsToMbcs.length, 0, 0, 0,
-							runjavascript_callback.getAddress(), callbackId);
-				} else {
-					WebKitGTK.webkit_web_view_run_javascript(webView, Converter.wcsToMbcs(script, true), 0, runjavascript_callback.getAddress(),
-							callbackId);
-				}
-			};
+			Consumer<Integer> asyncFunc = callbackId -> startjavascript(script, webView, callbackId);
 
 			Webkit2AsyncReturnObj retObj = execAsyncAndWaitForReturn(browser, asyncFunc, " The following javascript was executed:\n" + script +"\n\n");
 
@@ -1153,6 +1313,7 @@ private static class Webkit2AsyncToSync {
 				OS.g_object_unref (jsc_value);
 			}
 			retObj.callbackFinished = true;
+			if (retObj.future != null) completeAsync(callbackId, retObj);
 		}
 		Display.getCurrent().wake();
 	}
@@ -1185,6 +1346,7 @@ private static class Webkit2AsyncToSync {
 				WebKitGTK.webkit_javascript_result_unref (js_result);
 			}
 			retObj.callbackFinished = true;
+			if (retObj.future != null) completeAsync(callbackId, retObj);
 		}
 		Display.getCurrent().wake();
 	}
@@ -1447,6 +1609,14 @@ public Object evaluate (String script) throws SWTException {
 	return Webkit2AsyncToSync.evaluate(script, this.browser, webView);
 }
 
+@Override
+public CompletableFuture<Object> evaluateAsync (String script) {
+	if ("".equals(script) || !isJavascriptEnabled()) {
+		return CompletableFuture.completedFuture(null);
+	}
+	return Webkit2AsyncToSync.evaluateAsync(script, this.browser, webView);
+}
+
 @Override
 public boolean forward () {
 	if (webView == 0) {
@@ -1946,6 +2116,8 @@ void onDispose (Event e) {
 	}
 	functions = null;
 
+	Webkit2AsyncToSync.CallBackMap.disposeBrowser(browser);
+
 	if (WebKitGTK.webkit_get_minor_version() >= 18) {
 		// Bug 530678.
 		// * As of Webkit 2.18, (it seems) webkitGtk auto-disposes itself when the parent is disposed.
@@ -610,6 +610,9 @@ public static final native long webkit_uri_response_get_mime_type(long responce)
  */
 public static final native void webkit_uri_scheme_request_finish(long request, long stream, long stream_length, byte[] content_type);
 
+/** @method flags=dynamic */
+public static final native long webkit_uri_scheme_request_get_http_body(long request);
+
 /** @method flags=dynamic */
 public static final native long webkit_uri_scheme_request_get_uri (long request);
 
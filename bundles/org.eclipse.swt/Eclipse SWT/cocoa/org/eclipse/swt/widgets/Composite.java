@@ -54,6 +54,11 @@ public class Composite extends Scrollable {
 	Layout layout;
 	Control[] tabList;
 	int layoutCount, backgroundMode;
+	/* The sizes last answered by the layout (wHint, hHint, width, height) */
+	int [] sizeCache;
+	int sizeCacheCount;
+	/* sizeCacheOverflow: an entry was dropped, sizeCacheValid: the entries were just recomputed */
+	boolean sizeCacheOverflow, sizeCacheValid;
 	private boolean isStyledText; // This field is set to true if Object is StyledText
 
 Composite () {
@@ -229,7 +234,7 @@ public Point computeSize (int wHint, int hHint, boolean changed) {
 	if (layout != null) {
 		if ((wHint == SWT.DEFAULT) || (hHint == SWT.DEFAULT)) {
 			changed |= (state & LAYOUT_CHANGED) != 0;
-			size = layout.computeSize (this, wHint, hHint, changed);
+			size = computeLayoutSize (wHint, hHint, changed);
 			state &= ~LAYOUT_CHANGED;
 		} else {
 			size = new Point (wHint, hHint);
@@ -245,6 +250,44 @@ public Point computeSize (int wHint, int hHint, boolean changed) {
 	return new Point (trim.width, trim.height);
 }
 
+/*
+ * Answers the preferred size of the layout for the hints and remembers it,
+ * so that isSizeChanged() can tell whether the size changed. Right after
+ * isSizeChanged() recomputed the remembered sizes, they are answered
+ * without asking the layout again.
+ */
+Point computeLayoutSize (int wHint, int hHint, boolean changed) {
+	if (!changed && sizeCacheValid) {
+		for (int i = 0; i < sizeCacheCount * 4; i += 4) {
+			if (sizeCache [i] == wHint && sizeCache [i + 1] == hHint) {
+				return new Point (sizeCache [i + 2], sizeCache [i + 3]);
+			}
+		}
+	}
+	Point size = layout.computeSize (this, wHint, hHint, changed);
+	cacheSize (wHint, hHint, size.x, size.y);
+	return size;
+}
+
+void cacheSize (int wHint, int hHint, int width, int height) {
+	if (sizeCache == null) sizeCache = new int [4 * 4];
+	int index = 0, length = sizeCacheCount * 4;
+	while (index < length && (sizeCache [index] != wHint || sizeCache [index + 1] != hHint)) index += 4;
+	if (index == length) {
+		if (length == sizeCache.length) {
+			sizeCacheOverflow = true;
+			index -= 4;
+		} else {
+			sizeCacheCount++;
+		}
+	}
+	System.arraycopy (sizeCache, 0, sizeCache, 4, index);
+	sizeCache [0] = wHint;
+	sizeCache [1] = hHint;
+	sizeCache [2] = width;
+	sizeCache [3] = height;
+}
+
 @Override
 protected void checkSubclass () {
 	/* Do nothing - Subclassing is allowed */
@@ -544,6 +587,42 @@ void invalidateChildrenVisibleRegion () {
 	}
 }
 
+/*
+ * Returns true if a child below which a layout was requested now answers
+ * a different size for any of the hints it was last asked about.
+ */
+boolean isChildSizeChanged () {
+	for (Control child : _getChildren ()) {
+		if ((child.state & LAYOUT_DESCENDANT) != 0) {
+			if (!(child instanceof Composite) || ((Composite) child).isSizeChanged ()) return true;
+		}
+	}
+	return false;
+}
+
+/*
+ * Recomputes the remembered sizes. When a size was dropped from the cache,
+ * the receiver cannot tell which hints its parent uses and answers true.
+ */
+boolean isSizeChanged () {
+	if (layout == null || sizeCacheCount == 0 || sizeCacheOverflow || (state & LAYOUT_CHANGED) != 0) {
+		sizeCacheCount = 0;
+		sizeCacheOverflow = false;
+		return true;
+	}
+	boolean result = false;
+	for (int i = 0; i < sizeCacheCount * 4; i += 4) {
+		Point size = layout.computeSize (this, sizeCache [i], sizeCache [i + 1], false);
+		if (size.x != sizeCache [i + 2] || size.y != sizeCache [i + 3]) {
+			sizeCache [i + 2] = size.x;
+			sizeCache [i + 3] = size.y;
+			result = true;
+		}
+	}
+	sizeCacheValid = true;
+	return result;
+}
+
 /**
  * Returns <code>true</code> if the receiver or any ancestor
  * up to and including the receiver's nearest ancestor shell
@@ -868,10 +947,16 @@ public void layout (Control [] changed, int flags) {
 			// See bug 497812.
 			child.markLayout(false, false);
 			while (child != this) {
+				/*
+				* Only the parent of a changed control always needs a layout.
+				* Ancestors above it are laid out by updateLayout() only when
+				* the size of their child in this chain has changed.
+				*/
+				composite.state |= LAYOUT_DESCENDANT;
 				if (composite.layout != null) {
-					composite.state |= LAYOUT_NEEDED;
+					if (child == changed [i]) composite.state |= LAYOUT_NEEDED;
 					if (!composite.layout.flushCache (child)) {
-						composite.state |= LAYOUT_CHANGED;
+						composite.state |= LAYOUT_NEEDED | LAYOUT_CHANGED;
 					}
 				}
 				if (updateCount == update.length) {
@@ -890,6 +975,9 @@ public void layout (Control [] changed, int flags) {
 		for (int i=updateCount-1; i>=0; i--) {
 			update [i].updateLayout (false);
 		}
+		for (int i=0; i<updateCount; i++) {
+			update [i].sizeCacheValid = false;
+		}
 	} else {
 		if (layout == null && (flags & SWT.ALL) == 0) return;
 		markLayout ((flags & SWT.CHANGED) != 0, (flags & SWT.ALL) != 0);
@@ -1148,6 +1236,8 @@ void setIsStyledText() {
 public void setLayout (Layout layout) {
 	checkWidget();
 	this.layout = layout;
+	sizeCacheCount = 0;
+	sizeCacheOverflow = sizeCacheValid = false;
 }
 
 /**
@@ -1301,6 +1391,13 @@ void updateLayout (boolean all) {
 		parent.state |= LAYOUT_CHILD;
 		return;
 	}
+	sizeCacheValid = false;
+	if ((state & LAYOUT_DESCENDANT) != 0) {
+		if (layout != null && (state & LAYOUT_NEEDED) == 0 && isChildSizeChanged ()) {
+			state |= LAYOUT_NEEDED;
+		}
+		state &= ~LAYOUT_DESCENDANT;
+	}
 	if ((state & LAYOUT_NEEDED) != 0) {
 		boolean changed = (state & LAYOUT_CHANGED) != 0;
 		state &= ~(LAYOUT_NEEDED | LAYOUT_CHANGED);
@@ -97,6 +97,9 @@ public abstract class Widget {
 	/* Notify of the opportunity to skin this widget */
 	static final int SKIN_NEEDED = 1<<21;
 
+	/* A layout was requested below this widget, lay out only if the size of a child changed */
+	static final int LAYOUT_DESCENDANT = 1<<22;
+
 	/* Bidi "auto" text direction */
 	static final int HAS_AUTO_DIRECTION = 0;
 
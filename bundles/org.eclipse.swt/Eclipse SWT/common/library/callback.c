@@ -28,7 +28,8 @@
 /* --------------- callback globals ----------------- */
 
 static CALLBACK_DATA callbackData[MAX_CALLBACKS];
-static int callbackEnabled = 1;
+/* Written by setEnabled() without a lock, read by every callback */
+static volatile int callbackEnabled = 1;
 #ifdef ATOMIC
 #include <stdatomic.h>
 static _Atomic int callbackEntryCount = 0;
@@ -1959,7 +1960,8 @@ jlong callback(int index, ...)
 	 *    can throw as well.
 	 * Here, option (3) is implemented.
 	 */
-	oldException = (*env)->ExceptionOccurred(env);
+	/* ExceptionCheck() does not create a local reference, only ask for the exception when there is one */
+	if ((*env)->ExceptionCheck(env)) oldException = (*env)->ExceptionOccurred(env);
 	if (oldException) {
 #ifdef DEBUG_CALL_PRINTS
 		fprintf(stderr, "SWT-JNI:%*s ERROR(%d): (*env)->ExceptionOccurred()\n", counter, "", __LINE__);
@@ -1973,19 +1975,18 @@ jlong callback(int index, ...)
 
 	if (isArrayBased) {
 		int i;
+		jlong elements[MAX_ARGS];
 		jlongArray argsArray = (*env)->NewLongArray(env, argCount);
 		if (argsArray != NULL) {
-			jlong *elements = (*env)->GetLongArrayElements(env, argsArray, NULL);
-			if (elements != NULL) {
-				for (i=0; i<argCount; i++) {
-					elements[i] = va_arg(vl, jlong);
-				}
-				(*env)->ReleaseLongArrayElements(env, argsArray, elements, 0);
-				if (isStatic) {
-					result = (*env)->CallStaticLongMethod(env, object, mid, argsArray);
-				} else {
-					result = (*env)->CallLongMethod(env, object, mid, argsArray);
-				}
+			/* Fill the new array with a single copy instead of pinning and releasing it */
+			for (i=0; i<argCount; i++) {
+				elements[i] = va_arg(vl, jlong);
+			}
+			(*env)->SetLongArrayRegion(env, argsArray, 0, argCount, elements);
+			if (isStatic) {
+				result = (*env)->CallStaticLongMethod(env, object, mid, argsArray);
+			} else {
+				result = (*env)->CallLongMethod(env, object, mid, argsArray);
 			}
 			/*
 			* This function may be called many times before returning to Java,
@@ -2005,7 +2006,7 @@ jlong callback(int index, ...)
 	va_end(vl);
 
 	/* Handle exceptions in Java side of the callback */
-	curException = (*env)->ExceptionOccurred(env);
+	if ((*env)->ExceptionCheck(env)) curException = (*env)->ExceptionOccurred(env);
 	if (curException) {
 		if (oldException && mid_Throwable_addSuppressed) {
 			/*
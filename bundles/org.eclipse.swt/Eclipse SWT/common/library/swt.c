@@ -14,6 +14,12 @@
  
 #include "swt.h"
 
+#if defined (_WIN32) || defined (_WIN32_WCE)
+#include <windows.h>
+#else
+#include <time.h>
+#endif
+
 JavaVM *JVM = NULL;
 
 JNIEXPORT jint JNICALL JNI_OnLoad(JavaVM *vm, void *reserved) {
@@ -30,3 +36,17 @@ void throwOutOfMemory(JNIEnv *env) {
 		(*env)->ThrowNew(env, clazz, "");
 	}
 }
+
+jlong swt_profile_time(void) {
+#if defined (_WIN32) || defined (_WIN32_WCE)
+	static LARGE_INTEGER frequency;
+	LARGE_INTEGER counter;
+	if (frequency.QuadPart == 0) QueryPerformanceFrequency(&frequency);
+	QueryPerformanceCounter(&counter);
+	return (jlong)(counter.QuadPart / frequency.QuadPart * 1000000000 + counter.QuadPart % frequency.QuadPart * 1000000000 / frequency.QuadPart);
+#else
+	struct timespec now;
+	clock_gettime(CLOCK_MONOTONIC, &now);
+	return (jlong)now.tv_sec * 1000000000 + now.tv_nsec;
+#endif
+}
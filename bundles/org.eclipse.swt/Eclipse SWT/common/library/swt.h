@@ -96,6 +96,9 @@ extern JavaVM *JVM;
 
 void throwOutOfMemory(JNIEnv *env);
 
+/* Monotonic time in nanoseconds, used to profile the natives, see *_stats.h */
+jlong swt_profile_time(void);
+
 #define CHECK_NULL_VOID(ptr) \
 	if ((ptr) == NULL) { \
 		throwOutOfMemory(env); \
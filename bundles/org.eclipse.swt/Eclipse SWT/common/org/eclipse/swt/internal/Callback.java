@@ -310,12 +310,16 @@ static String getSignature(int argCount) {
  * to safely shut down SWT when it is run within environments
  * which can generate spurious events.
  * <p>
+ * The flag is a single word read by every callback, so this method
+ * does not lock the callback table and is cheap enough to be called
+ * around individual native calls.
+ * </p><p>
  * Note: This should not be called by application code.
  * </p>
  *
  * @param enable true if callbacks should be invoked
  */
-public static final native synchronized void setEnabled (boolean enable);
+public static final native void setEnabled (boolean enable);
 
 /**
  * Returns whether or not callbacks which are triggered at the
@@ -329,7 +333,7 @@ public static final native synchronized void setEnabled (boolean enable);
  *
  * @return true if callbacks should not be invoked
  */
-public static final native synchronized boolean getEnabled ();
+public static final native boolean getEnabled ();
 
 /**
  * This might be called directly from native code in environments
@@ -15,7 +15,6 @@ package org.eclipse.swt.layout;
 
 
 import org.eclipse.swt.*;
-import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -88,10 +87,10 @@ public final class FormData {
 	public FormAttachment bottom;
 
 	int cacheWidth = -1, cacheHeight = -1;
-	int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
-	int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
+	SizeCache sizeCache;
 	FormAttachment cacheLeft, cacheRight, cacheTop, cacheBottom;
-	boolean isVisited, needed;
+	boolean isVisited, needed, resolved;
+	int index;
 
 /**
  * Constructs a new instance of FormData using
@@ -115,33 +114,15 @@ public FormData (int width, int height) {
 
 void computeSize (Control control, int wHint, int hHint, boolean flushCache) {
 	if (cacheWidth != -1 && cacheHeight != -1) return;
-	if (wHint == this.width && hHint == this.height) {
-		if (defaultWidth == -1 || defaultHeight == -1 || wHint != defaultWhint || hHint != defaultHhint) {
-			Point size =  control.computeSize (wHint, hHint, flushCache);
-			defaultWhint = wHint;
-			defaultHhint = hHint;
-			defaultWidth = size.x;
-			defaultHeight = size.y;
-		}
-		cacheWidth = defaultWidth;
-		cacheHeight = defaultHeight;
-		return;
-	}
-	if (currentWidth == -1 || currentHeight == -1 || wHint != currentWhint || hHint != currentHhint) {
-		Point size =  control.computeSize (wHint, hHint, flushCache);
-		currentWhint = wHint;
-		currentHhint = hHint;
-		currentWidth = size.x;
-		currentHeight = size.y;
-	}
-	cacheWidth = currentWidth;
-	cacheHeight = currentHeight;
+	if (sizeCache == null) sizeCache = new SizeCache ();
+	sizeCache.computeSize (control, wHint, hHint, flushCache);
+	cacheWidth = sizeCache.width;
+	cacheHeight = sizeCache.height;
 }
 
 void flushCache () {
 	cacheWidth = cacheHeight = -1;
-	defaultHeight = defaultWidth = -1;
-	currentHeight = currentWidth = -1;
+	if (sizeCache != null) sizeCache.flush ();
 }
 
 int getWidth (Control control, boolean flushCache) {
@@ -155,6 +136,18 @@ int getHeight (Control control, boolean flushCache) {
 	return cacheHeight;
 }
 
+/*
+ * Returns the sibling the attachment refers to, or null if the
+ * attachment does not refer to a valid sibling of the control.
+ */
+Control getAttachedControl (Control control, FormAttachment attachment) {
+	if (attachment == null) return null;
+	Control attachedControl = attachment.control;
+	if (attachedControl == null || attachedControl.isDisposed ()) return null;
+	if (attachedControl.getParent () != control.getParent ()) return null;
+	return attachedControl;
+}
+
 FormAttachment getBottomAttachment (Control control, int spacing, boolean flushCache) {
 	if (cacheBottom != null) return cacheBottom;
 	if (isVisited) return cacheBottom = new FormAttachment (0, getHeight (control, flushCache));
@@ -294,12 +294,16 @@ protected void layout (Composite composite, boolean flushCache) {
 
 Point layout (Composite composite, boolean move, int x, int y, int width, int height, boolean flushCache) {
 	Control [] children = composite.getChildren ();
-	for (Control child : children) {
+	for (int i=0; i<children.length; i++) {
+		Control child = children [i];
 		FormData data = (FormData) child.getLayoutData ();
 		if (data == null) child.setLayoutData (data = new FormData ());
 		if (flushCache) data.flushCache ();
 		data.cacheLeft = data.cacheRight = data.cacheTop = data.cacheBottom = null;
+		data.resolved = false;
+		data.index = i;
 	}
+	resolveAttachments (children, true, flushCache);
 	boolean [] flush = null;
 	Rectangle [] bounds = null;
 	int w = 0, h = 0;
@@ -307,7 +311,7 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 		Control child = children [i];
 		FormData data = (FormData) child.getLayoutData ();
 		if (width != SWT.DEFAULT) {
-			data.needed = false;
+			if (!data.resolved) data.needed = false;
 			FormAttachment left = data.getLeftAttachment (child, spacing, flushCache);
 			FormAttachment right = data.getRightAttachment (child, spacing, flushCache);
 			int x1 = left.solveX (width), x2 = right.solveX (width);
@@ -337,6 +341,11 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 			w = Math.max (computeWidth (child, data, flushCache), w);
 		}
 	}
+	/*
+	* Resolve the vertical attachments after the width pass, which
+	* recomputes the height of wrapping controls for their final width.
+	*/
+	resolveAttachments (children, false, flushCache);
 	for (int i=0; i<children.length; i++) {
 		Control child = children [i];
 		FormData data = (FormData) child.getLayoutData ();
@@ -357,6 +366,7 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 		FormData data = (FormData) child.getLayoutData ();
 		if (flush != null && flush [i]) data.cacheWidth = data.cacheHeight = -1;
 		data.cacheLeft = data.cacheRight = data.cacheTop = data.cacheBottom = null;
+		data.resolved = false;
 	}
 	if (move) {
 		for (int i=0; i<children.length; i++) {
@@ -368,6 +378,60 @@ Point layout (Composite composite, boolean move, int x, int y, int width, int he
 	return new Point (w, h);
 }
 
+/*
+ * Resolves the attachments of the children along one axis in dependency
+ * order. A control is resolved after the controls it is attached to, so
+ * the getters in FormData find those attachments cached and long chains
+ * of attachments are resolved without recursing through the whole chain.
+ * Controls on an attachment cycle, or attached to one, are not resolved
+ * here and are left to the recursive getters, which break the cycle.
+ */
+void resolveAttachments (Control [] children, boolean horizontal, boolean flushCache) {
+	int count = children.length;
+	int [] pending = new int [count], first = new int [count];
+	int [] next = new int [count * 2], dependents = new int [count * 2];
+	int edges = 0;
+	for (int i=0; i<count; i++) first [i] = -1;
+	for (int i=0; i<count; i++) {
+		Control child = children [i];
+		FormData data = (FormData) child.getLayoutData ();
+		Control control1 = data.getAttachedControl (child, horizontal ? data.left : data.top);
+		Control control2 = data.getAttachedControl (child, horizontal ? data.right : data.bottom);
+		if (control2 == control1) control2 = null;
+		for (int j=0; j<2; j++) {
+			Control control = j == 0 ? control1 : control2;
+			if (control == null) continue;
+			int index = ((FormData) control.getLayoutData ()).index;
+			pending [i]++;
+			dependents [edges] = i;
+			next [edges] = first [index];
+			first [index] = edges++;
+		}
+	}
+	int [] queue = new int [count];
+	int head = 0, tail = 0;
+	for (int i=0; i<count; i++) {
+		if (pending [i] == 0) queue [tail++] = i;
+	}
+	while (head < tail) {
+		int i = queue [head++];
+		Control child = children [i];
+		FormData data = (FormData) child.getLayoutData ();
+		if (horizontal) {
+			data.needed = false;
+			data.getLeftAttachment (child, spacing, flushCache);
+			data.getRightAttachment (child, spacing, flushCache);
+			data.resolved = true;
+		} else {
+			data.getTopAttachment (child, spacing, flushCache);
+			data.getBottomAttachment (child, spacing, flushCache);
+		}
+		for (int edge = first [i]; edge != -1; edge = next [edge]) {
+			if (--pending [dependents [edge]] == 0) queue [tail++] = dependents [edge];
+		}
+	}
+}
+
 /**
  * Returns a string containing a concise, human-readable
  * description of the receiver.
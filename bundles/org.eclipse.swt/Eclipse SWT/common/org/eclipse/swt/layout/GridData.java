@@ -14,7 +14,6 @@
 package org.eclipse.swt.layout;
 
 import org.eclipse.swt.*;
-import org.eclipse.swt.graphics.*;
 import org.eclipse.swt.widgets.*;
 
 /**
@@ -399,8 +398,7 @@ public final class GridData {
 	public static final int FILL_BOTH = FILL_VERTICAL | FILL_HORIZONTAL;
 
 	int cacheWidth = -1, cacheHeight = -1;
-	int defaultWhint, defaultHhint, defaultWidth = -1, defaultHeight = -1;
-	int currentWhint, currentHhint, currentWidth = -1, currentHeight = -1;
+	SizeCache sizeCache;
 
 /**
  * Constructs a new instance of GridData using
@@ -488,33 +486,15 @@ public GridData (int width, int height) {
 
 void computeSize (Control control, int wHint, int hHint, boolean flushCache) {
 	if (cacheWidth != -1 && cacheHeight != -1) return;
-	if (wHint == this.widthHint && hHint == this.heightHint) {
-		if (defaultWidth == -1 || defaultHeight == -1 || wHint != defaultWhint || hHint != defaultHhint) {
-			Point size = control.computeSize (wHint, hHint, flushCache);
-			defaultWhint = wHint;
-			defaultHhint = hHint;
-			defaultWidth = size.x;
-			defaultHeight = size.y;
-		}
-		cacheWidth = defaultWidth;
-		cacheHeight = defaultHeight;
-		return;
-	}
-	if (currentWidth == -1 || currentHeight == -1 || wHint != currentWhint || hHint != currentHhint) {
-		Point size = control.computeSize (wHint, hHint, flushCache);
-		currentWhint = wHint;
-		currentHhint = hHint;
-		currentWidth = size.x;
-		currentHeight = size.y;
-	}
-	cacheWidth = currentWidth;
-	cacheHeight = currentHeight;
+	if (sizeCache == null) sizeCache = new SizeCache ();
+	sizeCache.computeSize (control, wHint, hHint, flushCache);
+	cacheWidth = sizeCache.width;
+	cacheHeight = sizeCache.height;
 }
 
 void flushCache () {
 	cacheWidth = cacheHeight = -1;
-	defaultWidth = defaultHeight = -1;
-	currentWidth = currentHeight = -1;
+	if (sizeCache != null) sizeCache.flush ();
 }
 
 String getName () {
@@ -15,6 +15,7 @@ package org.eclipse.swt.layout;
 
 import org.eclipse.swt.*;
 import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.widgets.*;
 
 /**
  * Each control controlled by a <code>RowLayout</code> can have its initial
@@ -71,6 +72,8 @@ public final class RowData {
 	 */
 	public boolean exclude = false;
 
+	SizeCache sizeCache;
+
 /**
  * Constructs a new instance of RowData using
  * default values.
@@ -103,6 +106,17 @@ public RowData (Point point) {
 	this (point.x, point.y);
 }
 
+Point computeSize (Control control, int wHint, int hHint, boolean flushCache) {
+	if (flushCache) flushCache ();
+	if (sizeCache == null) sizeCache = new SizeCache ();
+	sizeCache.computeSize (control, wHint, hHint, flushCache);
+	return new Point (sizeCache.width, sizeCache.height);
+}
+
+void flushCache () {
+	if (sizeCache != null) sizeCache.flush ();
+}
+
 String getName () {
 	String string = getClass ().getName ();
 	int index = string.lastIndexOf ('.');
@@ -220,11 +220,19 @@ Point computeSize (Control control, boolean flushCache) {
 		wHint = data.width;
 		hHint = data.height;
 	}
-	return control.computeSize (wHint, hHint, flushCache);
+	return computeChildSize (control, wHint, hHint, flushCache);
+}
+
+Point computeChildSize (Control control, int wHint, int hHint, boolean flushCache) {
+	RowData data = (RowData) control.getLayoutData ();
+	if (data == null) return control.computeSize (wHint, hHint, flushCache);
+	return data.computeSize (control, wHint, hHint, flushCache);
 }
 
 @Override
 protected boolean flushCache (Control control) {
+	Object data = control.getLayoutData ();
+	if (data instanceof RowData) ((RowData) data).flushCache ();
 	return true;
 }
 
@@ -264,7 +272,7 @@ Point layoutHorizontal (Composite composite, boolean move, boolean wrap, int wid
 			Control child = children [i];
 			Point size = computeSize (child, flushCache);
 			if (width > SWT.DEFAULT && width < size.x && wrap) {
-				size = child.computeSize (width, child.getLayoutData() == null ? SWT.DEFAULT : ((RowData) child.getLayoutData()).height, flushCache);
+				size = computeChildSize (child, width, child.getLayoutData() == null ? SWT.DEFAULT : ((RowData) child.getLayoutData()).height, flushCache);
 			}
 			childWidth = Math.max (childWidth, size.x);
 			childHeight = Math.max (childHeight, size.y);
@@ -290,7 +298,7 @@ Point layoutHorizontal (Composite composite, boolean move, boolean wrap, int wid
 		if (pack) {
 			Point size = computeSize (child, flushCache);
 			if (width > SWT.DEFAULT && width < size.x && wrap) {
-				size = child.computeSize (width, child.getLayoutData() == null ? SWT.DEFAULT : ((RowData) child.getLayoutData()).height, flushCache);
+				size = computeChildSize (child, width, child.getLayoutData() == null ? SWT.DEFAULT : ((RowData) child.getLayoutData()).height, flushCache);
 			}
 			childWidth = size.x;
 			childHeight = size.y;
@@ -389,7 +397,7 @@ Point layoutVertical (Composite composite, boolean move, boolean wrap, int heigh
 			Control child = children [i];
 			Point size = computeSize (child, flushCache);
 			if(height>SWT.DEFAULT && height<size.y && wrap)
-				size=child.computeSize(child.getLayoutData()==null?SWT.DEFAULT:((RowData)child.getLayoutData()).width,height,flushCache);
+				size=computeChildSize(child,child.getLayoutData()==null?SWT.DEFAULT:((RowData)child.getLayoutData()).width,height,flushCache);
 			childWidth = Math.max (childWidth, size.x);
 			childHeight = Math.max (childHeight, size.y);
 		}
@@ -414,7 +422,7 @@ Point layoutVertical (Composite composite, boolean move, boolean wrap, int heigh
 		if (pack) {
 			Point size = computeSize (child, flushCache);
 			if(height>SWT.DEFAULT && height<size.y && wrap)
-				size=child.computeSize(child.getLayoutData()==null?SWT.DEFAULT:((RowData)child.getLayoutData()).width,height,flushCache);
+				size=computeChildSize(child,child.getLayoutData()==null?SWT.DEFAULT:((RowData)child.getLayoutData()).width,height,flushCache);
 			childWidth = size.x;
 			childHeight = size.y;
 		}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.layout;
+
+import org.eclipse.swt.graphics.*;
+import org.eclipse.swt.widgets.*;
+
+/**
+ * Remembers the last few results of <code>Control.computeSize(int, int, boolean)</code>,
+ * keyed by the control and the width and height hints. Layouts ask the same
+ * control for its size with several different hints during one pass (wrapping
+ * controls, spans, minimum sizes), so keeping more than one entry avoids most
+ * of the native size requests. The control is part of the key because one
+ * layout data instance may be shared by several controls.
+ * <p>
+ * The most recently used entry is kept first. The cache is cleared by
+ * <code>flush()</code>, which the layout data classes call from their own
+ * <code>flushCache()</code>.
+ * </p>
+ */
+final class SizeCache {
+	static final int SIZE = 4;
+
+	/* control of each entry */
+	final Control [] controls = new Control [SIZE];
+
+	/* wHint, hHint, width, height for each entry */
+	final int [] entries = new int [SIZE * 4];
+	int count;
+
+	/* size of the last lookup */
+	int width = -1, height = -1;
+
+void computeSize (Control control, int wHint, int hHint, boolean flushCache) {
+	for (int i = 0; i < count; i++) {
+		int index = i * 4;
+		if (controls [i] == control && entries [index] == wHint && entries [index + 1] == hHint) {
+			width = entries [index + 2];
+			height = entries [index + 3];
+			if (i != 0) {
+				System.arraycopy (controls, 0, controls, 1, i);
+				System.arraycopy (entries, 0, entries, 4, index);
+				controls [0] = control;
+				entries [0] = wHint;
+				entries [1] = hHint;
+				entries [2] = width;
+				entries [3] = height;
+			}
+			return;
+		}
+	}
+	Point size = control.computeSize (wHint, hHint, flushCache);
+	width = size.x;
+	height = size.y;
+	if (count < SIZE) count++;
+	System.arraycopy (controls, 0, controls, 1, count - 1);
+	System.arraycopy (entries, 0, entries, 4, (count - 1) * 4);
+	controls [0] = control;
+	entries [0] = wHint;
+	entries [1] = hHint;
+	entries [2] = width;
+	entries [3] = height;
+}
+
+void flush () {
+	for (int i = 0; i < count; i++) controls [i] = null;
+	count = 0;
+	width = height = -1;
+}
+
+@Override
+public String toString () {
+	return "SizeCache {entries=" + count + "}";
+}
+}
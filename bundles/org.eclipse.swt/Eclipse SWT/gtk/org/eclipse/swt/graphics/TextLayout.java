@@ -64,6 +64,8 @@ public final class TextLayout extends Resource {
 	int[] invalidOffsets;
 	int verticalIndentInPoints;
 	MetricsAdapter metricsAdapter = new MetricsAdapter();
+	/* Reused by the pango calls, the struct memory is not allocated per call */
+	final PangoRectangle extents = new PangoRectangle();
 	static final char LTR_MARK = '\u200E', RTL_MARK = '\u200F', ZWS = '\u200B', ZWNBS = '\uFEFF';
 
 /**
@@ -71,6 +73,7 @@ public final class TextLayout extends Resource {
  */
 private static class MetricsAdapter {
 	private FontMetrics lineMetricsInPixels;
+	private final PangoRectangle lineExtents = new PangoRectangle();
 
 	/**
 	 * Calculates Y offset from line metrics configured in
@@ -78,7 +81,7 @@ private static class MetricsAdapter {
 	 */
 	private int wantToRealInPango(PangoRectangle realMetrics) {
 		int wantHeightInPixels = lineMetricsInPixels.getHeight();
-		int realHeightInPixels = OS.PANGO_PIXELS(realMetrics.height);
+		int realHeightInPixels = OS.PANGO_PIXELS(realMetrics.getHeight());
 		if (realHeightInPixels == wantHeightInPixels) {
 			return 0;
 		}
@@ -86,15 +89,14 @@ private static class MetricsAdapter {
 		// The idea is to preserve baseline location, this looks best.
 		// This is the behavior documented in `TextLayout#setFixedLineMetrics()`.
 		int wantAboveInPango = OS.PANGO_SCALE * lineMetricsInPixels.getAscent();
-		int realAboveInPango = -realMetrics.y;
+		int realAboveInPango = -realMetrics.getY();
 		return wantAboveInPango - realAboveInPango;
 	}
 
 	private int wantToRealInPango(long line) {
-		PangoRectangle rect = new PangoRectangle();
 		// Pango caches result, so the API is very cheap to call multiple times
-		OS.pango_layout_line_get_extents(line, null, rect);
-		return wantToRealInPango(rect);
+		OS.pango_layout_line_get_extents(line, null, lineExtents);
+		return wantToRealInPango(lineExtents);
 	}
 
 	public boolean isFixedMetrics() {
@@ -196,7 +198,7 @@ private static class MetricsAdapter {
 			}
 
 			if (logical_rect != null) {
-				logical_rect.height = OS.PANGO_SCALE * lineMetricsInPixels.getHeight();
+				logical_rect.setHeight(OS.PANGO_SCALE * lineMetricsInPixels.getHeight());
 			}
 		}
 	}
@@ -211,7 +213,7 @@ private static class MetricsAdapter {
 			}
 
 			if (logical_rect != null) {
-				logical_rect.height = OS.PANGO_SCALE * lineMetricsInPixels.getHeight();
+				logical_rect.setHeight(OS.PANGO_SCALE * lineMetricsInPixels.getHeight());
 			}
 		}
 	}
@@ -295,9 +297,11 @@ void computeRuns () {
 	// additional control characters and shape these instead.
 	boolean useMinAscentDescent = !metricsAdapter.isFixedMetrics() && (ascentInPoints != -1 || descentInPoints != -1);
 	if (useMinAscentDescent && segementsLength > 0) {
-		PangoRectangle rect = new PangoRectangle();
-		if (ascentInPoints != -1) rect.y =  -(ascentInPoints * OS.PANGO_SCALE);
-		rect.height = (Math.max(0, ascentInPoints) + Math.max(0, descentInPoints)) * OS.PANGO_SCALE;
+		PangoRectangle rect = extents;
+		rect.setX(0);
+		rect.setY(ascentInPoints != -1 ? -(ascentInPoints * OS.PANGO_SCALE) : 0);
+		rect.setWidth(0);
+		rect.setHeight((Math.max(0, ascentInPoints) + Math.max(0, descentInPoints)) * OS.PANGO_SCALE);
 		int lineCount = OS.pango_layout_get_line_count(layout);
 		chars = new char[segementsLength + lineCount * 2];
 		lineOffsets = new int [lineCount];
@@ -480,10 +484,11 @@ void computeRuns () {
 		}
 		GlyphMetrics metrics = style.metrics;
 		if (metrics != null) {
-			PangoRectangle rect = new PangoRectangle();
-			rect.y =  -(metrics.ascent * OS.PANGO_SCALE);
-			rect.height = (metrics.ascent + metrics.descent) * OS.PANGO_SCALE;
-			rect.width = metrics.width * OS.PANGO_SCALE;
+			PangoRectangle rect = extents;
+			rect.setX(0);
+			rect.setY(-(metrics.ascent * OS.PANGO_SCALE));
+			rect.setHeight((metrics.ascent + metrics.descent) * OS.PANGO_SCALE);
+			rect.setWidth(metrics.width * OS.PANGO_SCALE);
 			long attr = OS.pango_attr_shape_new (rect, rect);
 			OS.memmove (attribute, attr, PangoAttribute.sizeof);
 			attribute.start_index = byteStart;
@@ -636,7 +641,7 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 		long [] attrs = new long [1];
 		int[] nAttrs = new int[1];
 		PangoLogAttr logAttr = new PangoLogAttr();
-		PangoRectangle rect = new PangoRectangle();
+		PangoRectangle rect = extents;
 		int lineCount = OS.pango_layout_get_line_count(layout);
 		long ptr = OS.pango_layout_get_text(layout);
 		long iter = OS.pango_layout_get_iter(layout);
@@ -668,9 +673,9 @@ void drawInPixels(GC gc, int x, int y, int selectionStart, int selectionEnd, Col
 				}
 			}
 			if (extent) {
-				int lineX = x + OS.PANGO_PIXELS(rect.x) + OS.PANGO_PIXELS(rect.width);
-				int lineY = y + OS.PANGO_PIXELS(rect.y);
-				int height = OS.PANGO_PIXELS(rect.height);
+				int lineX = x + OS.PANGO_PIXELS(rect.getX()) + OS.PANGO_PIXELS(rect.getWidth());
+				int lineY = y + OS.PANGO_PIXELS(rect.getY());
+				int height = OS.PANGO_PIXELS(rect.getHeight());
 				if (ascentInPoints != -1 && descentInPoints != -1) {
 					height = Math.max (height, ascentInPoints + descentInPoints);
 				}
@@ -960,7 +965,7 @@ public Rectangle getBounds(int start, int end) {
 	* includes areas from lines outside of the requested range.  The fix
 	* is to subtract these areas from the clip region.
 	*/
-	PangoRectangle pangoRect = new PangoRectangle();
+	PangoRectangle pangoRect = extents;
 	long iter = OS.pango_layout_get_iter(layout);
 	if (iter == 0) SWT.error(SWT.ERROR_NO_HANDLES);
 	long linesRegion = Cairo.cairo_region_create();
@@ -974,10 +979,10 @@ public Rectangle getBounds(int start, int end) {
 			lineEnd = strlen;
 		}
 		if (byteStart > lineEnd) continue;
-		rect.x = OS.PANGO_PIXELS(pangoRect.x);
-		rect.y = OS.PANGO_PIXELS(pangoRect.y);
-		rect.width = OS.PANGO_PIXELS(pangoRect.width);
-		rect.height = OS.PANGO_PIXELS(pangoRect.height);
+		rect.x = OS.PANGO_PIXELS(pangoRect.getX());
+		rect.y = OS.PANGO_PIXELS(pangoRect.getY());
+		rect.width = OS.PANGO_PIXELS(pangoRect.getWidth());
+		rect.height = OS.PANGO_PIXELS(pangoRect.getHeight());
 		Cairo.cairo_region_union_rectangle(linesRegion, rect);
 	} while (lineEnd + 1 <= byteEnd);
 	Cairo.cairo_region_intersect(clipRegion, linesRegion);
@@ -1129,12 +1134,12 @@ public Rectangle getLineBounds(int lineIndex) {
 
 private Rectangle getLineBoundsInPixels(int lineIndex, long iter) {
 	if (iter == 0) SWT.error(SWT.ERROR_NO_HANDLES);
-	PangoRectangle rect = new PangoRectangle();
+	PangoRectangle rect = extents;
 	metricsAdapter.pango_layout_iter_get_line_extents(iter, null, rect);
-	int x = OS.PANGO_PIXELS(rect.x);
-	int y = OS.PANGO_PIXELS(rect.y);
-	int width = OS.PANGO_PIXELS(rect.width);
-	int height = OS.PANGO_PIXELS(rect.height);
+	int x = OS.PANGO_PIXELS(rect.getX());
+	int y = OS.PANGO_PIXELS(rect.getY());
+	int width = OS.PANGO_PIXELS(rect.getWidth());
+	int height = OS.PANGO_PIXELS(rect.getHeight());
 	if (ascentInPoints != -1 && descentInPoints != -1) {
 		height = Math.max (height, ascentInPoints + descentInPoints);
 	}
@@ -1229,10 +1234,10 @@ public FontMetrics getLineMetrics (int lineIndex) {
 		heightInPoints = OS.PANGO_PIXELS(ascent + descent);
 		OS.pango_font_metrics_unref(metrics);
 	} else {
-		PangoRectangle rect = new PangoRectangle();
+		PangoRectangle rect = extents;
 		metricsAdapter.pango_layout_line_get_extents(OS.pango_layout_get_line(layout, lineIndex), null, rect);
-		ascentInPoints = OS.PANGO_PIXELS(-rect.y);
-		heightInPoints = OS.PANGO_PIXELS(rect.height);
+		ascentInPoints = OS.PANGO_PIXELS(-rect.getY());
+		heightInPoints = OS.PANGO_PIXELS(rect.getHeight());
 	}
 	heightInPoints = Math.max(this.ascentInPoints + this.descentInPoints, heightInPoints);
 	ascentInPoints = Math.max(this.ascentInPoints, ascentInPoints);
@@ -1298,10 +1303,10 @@ public Point getLocation(int offset, boolean trailing) {
 	int byteOffset = (int)(OS.g_utf16_offset_to_pointer(ptr, offset) - ptr);
 	int strlen = C.strlen(ptr);
 	byteOffset = Math.min(byteOffset, strlen);
-	PangoRectangle pos = new PangoRectangle();
+	PangoRectangle pos = extents;
 	OS.pango_layout_index_to_pos(layout, byteOffset, pos);
-	int x = trailing ? pos.x + pos.width : pos.x;
-	int y = pos.y;
+	int x = trailing ? pos.getX() + pos.getWidth() : pos.getX();
+	int y = pos.getY();
 	x = OS.PANGO_PIXELS(x);
 	if (OS.pango_context_get_base_dir(context) == OS.PANGO_DIRECTION_RTL) {
 		x = width() - x;
@@ -1468,16 +1473,16 @@ public int getOffset(int x, int y, int[] trailing) {
 	*/
 	long iter = OS.pango_layout_get_iter(layout);
 	if (iter == 0) SWT.error(SWT.ERROR_NO_HANDLES);
-	PangoRectangle rect = new PangoRectangle();
+	PangoRectangle rect = extents;
 	do {
 		metricsAdapter.pango_layout_iter_get_line_extents(iter, null, rect);
-		rect.y = OS.PANGO_PIXELS(rect.y);
-		rect.height = OS.PANGO_PIXELS(rect.height);
-		if (rect.y <= y && y < rect.y + rect.height) {
-			rect.x = OS.PANGO_PIXELS(rect.x);
-			rect.width = OS.PANGO_PIXELS(rect.width);
-			if (x >= rect.x + rect.width) x = rect.x + rect.width - 1;
-			if (x < rect.x) x = rect.x;
+		int lineY = OS.PANGO_PIXELS(rect.getY());
+		int lineHeight = OS.PANGO_PIXELS(rect.getHeight());
+		if (lineY <= y && y < lineY + lineHeight) {
+			int lineX = OS.PANGO_PIXELS(rect.getX());
+			int lineWidth = OS.PANGO_PIXELS(rect.getWidth());
+			if (x >= lineX + lineWidth) x = lineX + lineWidth - 1;
+			if (x < lineX) x = lineX;
 			break;
 		}
 	} while (OS.pango_layout_iter_next_line(iter));
@@ -1095,8 +1095,8 @@ public Point getCaretLocation () {
 		PangoRectangle pos = new PangoRectangle ();
 		OS.pango_layout_index_to_pos (layout, index, pos);
 		Point thickness = getThickness (entryHandle);
-		int x = offset_x [0] + OS.PANGO_PIXELS (pos.x) - getBorderWidthInPixels () - thickness.x;
-		int y = offset_y [0] + OS.PANGO_PIXELS (pos.y) - thickness.y;
+		int x = offset_x [0] + OS.PANGO_PIXELS (pos.getX ()) - getBorderWidthInPixels () - thickness.x;
+		int y = offset_y [0] + OS.PANGO_PIXELS (pos.getY ()) - thickness.y;
 		return new Point (x, y);
 	}
 }
@@ -227,6 +227,17 @@ public class Display extends Device implements Executor {
 	Composite[] layoutDeferred;
 	int layoutDeferredCount;
 
+	/* Deferred updates, see setUpdatesDeferred(boolean) */
+	int updateDeferCount;
+	Shell [] updateDeferShells;
+	Widget [] pendingUpdates;
+	int pendingUpdateCount;
+	boolean runningUpdates;
+
+	/* Deferred update statistics */
+	int updatesRecorded, updatesApplied, layoutsRequested, layoutsRun;
+	static final boolean DEBUG_UPDATES = Boolean.getBoolean ("org.eclipse.swt.internal.debugDeferredUpdates"); //$NON-NLS-1$
+
 	/* System Tray */
 	Tray tray;
 	TrayItem currentTrayItem;
@@ -678,6 +689,16 @@ public void addFilter (int eventType, Listener listener) {
 	filterTable.hook (eventType, listener);
 }
 
+void addPendingUpdate (Widget widget) {
+	if (pendingUpdates == null) pendingUpdates = new Widget [64];
+	if (pendingUpdateCount == pendingUpdates.length) {
+		Widget [] temp = new Widget [pendingUpdates.length + 64];
+		System.arraycopy (pendingUpdates, 0, temp, 0, pendingUpdates.length);
+		pendingUpdates = temp;
+	}
+	pendingUpdates [pendingUpdateCount++] = widget;
+}
+
 void addLayoutDeferred (Composite comp) {
 	if (layoutDeferred == null) layoutDeferred = new Composite [64];
 	if (layoutDeferredCount == layoutDeferred.length) {
@@ -3483,6 +3504,26 @@ public boolean getTouchEnabled() {
 	return false;
 }
 
+/**
+ * Returns <code>true</code> if the receiver defers the updates
+ * of its widgets, and <code>false</code> otherwise.
+ *
+ * @return the receiver's deferred update state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #setUpdatesDeferred(boolean)
+ *
+ * @since 3.134
+ */
+public boolean getUpdatesDeferred () {
+	checkDevice ();
+	return updateDeferCount > 0;
+}
+
 Widget getWidget (long handle) {
 	if (handle == 0) return null;
 	if (lastWidget != null && lastHandle == handle) return lastWidget;
@@ -5485,6 +5526,81 @@ public void setSynchronizer (Synchronizer synchronizer) {
 	}
 }
 
+/**
+ * If the argument is <code>true</code>, defers the updates of the
+ * widgets of the receiver until the flag is set to <code>false</code>.
+ * Nested calls to this method are stacked, the updates are performed
+ * when the last deferral ends. Use this to update many widgets at once,
+ * and end the deferral in a <code>finally</code> block.
+ * <p>
+ * While updates are deferred, the layouts of all shells that exist
+ * when the deferral starts are deferred as described in
+ * <code>Composite.setLayoutDeferred(boolean)</code>, so that bounds
+ * changes are coalesced into one layout per composite. On GTK, labels
+ * and groups also keep a new text in the widget and pass only the last
+ * one to the platform, so that they are resized and redrawn once.
+ * Getters answer the new values, and computing the size of such a
+ * control applies its text early.
+ * </p>
+ *
+ * @param defer the new defer state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see Composite#setLayoutDeferred(boolean)
+ *
+ * @since 3.134
+ */
+public void setUpdatesDeferred (boolean defer) {
+	checkDevice ();
+	if (defer) {
+		if (updateDeferCount++ == 0) {
+			updateDeferShells = getShells ();
+			for (Shell shell : updateDeferShells) shell.setLayoutDeferred (true);
+		}
+		return;
+	}
+	if (updateDeferCount == 0 || --updateDeferCount > 0) return;
+	Widget [] widgets = pendingUpdates;
+	int count = pendingUpdateCount;
+	Shell [] shells = updateDeferShells;
+	pendingUpdates = null;
+	pendingUpdateCount = 0;
+	updateDeferShells = null;
+	/*
+	* Apply every update and end the deferral of every shell even if one
+	* of them throws, the first exception is thrown at the end.
+	*/
+	try (ExceptionStash exceptions = new ExceptionStash ()) {
+		runningUpdates = true;
+		for (int i = 0; i < count; i++) {
+			if (widgets [i].isDisposed ()) continue;
+			try {
+				widgets [i].applyDeferredUpdate ();
+			} catch (Error | RuntimeException ex) {
+				exceptions.stash (ex);
+			}
+		}
+		for (Shell shell : shells) {
+			if (shell.isDisposed ()) continue;
+			try {
+				shell.setLayoutDeferred (false);
+			} catch (Error | RuntimeException ex) {
+				exceptions.stash (ex);
+			}
+		}
+		runningUpdates = false;
+		if (DEBUG_UPDATES) {
+			System.err.println ("SWT deferred updates: " + updatesApplied + " of " + updatesRecorded + " property writes applied, " //$NON-NLS-1$ //$NON-NLS-2$
+				+ layoutsRun + " layouts for " + layoutsRequested + " requests"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		updatesRecorded = updatesApplied = layoutsRequested = layoutsRun = 0;
+	}
+}
+
 /**
  * Sets a callback that will be invoked whenever an exception is thrown by a listener or external
  * callback function. The application may use this to set a global exception handling policy:
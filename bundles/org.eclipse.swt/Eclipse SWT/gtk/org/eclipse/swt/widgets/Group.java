@@ -48,6 +48,7 @@ import org.eclipse.swt.internal.gtk4.*;
 public class Group extends Composite {
 	long clientHandle, labelHandle;
 	String text = "";
+	boolean textPending;
 	// We use this to keep track of the foreground color
 	GdkRGBA foreground;
 
@@ -109,8 +110,17 @@ long clientHandle () {
 	return clientHandle;
 }
 
+@Override
+void applyDeferredUpdate () {
+	if (textPending) {
+		display.updatesApplied++;
+		updateText ();
+	}
+}
+
 @Override
 Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
+	applyDeferredUpdate ();
 	Point size = super.computeSizeInPixels(wHint, hHint, changed);
 	int width = computeNativeSize (handle, SWT.DEFAULT, SWT.DEFAULT, false).x;
 	size.x = Math.max (size.x, width);
@@ -119,6 +129,7 @@ Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
 @Override
 Rectangle computeTrimInPixels (int x, int y, int width, int height) {
 	checkWidget();
+	applyDeferredUpdate ();
 	forceResize ();
 	GtkAllocation allocation = new GtkAllocation();
 	GTK.gtk_widget_get_allocation (clientHandle, allocation);
@@ -133,6 +144,7 @@ Rectangle computeTrimInPixels (int x, int y, int width, int height) {
 
 @Override
 Rectangle getClientAreaInPixels () {
+	applyDeferredUpdate ();
 	Rectangle clientRectangle = super.getClientAreaInPixels ();
 	/*
 	* Bug 453827 Child position fix.
@@ -276,6 +288,7 @@ void hookEvents () {
 @Override
 boolean mnemonicHit (char key) {
 	if (labelHandle == 0) return false;
+	applyDeferredUpdate ();
 	boolean result = super.mnemonicHit (labelHandle, key);
 	if (result) setFocus ();
 	return result;
@@ -284,6 +297,7 @@ boolean mnemonicHit (char key) {
 @Override
 boolean mnemonicMatch (char key) {
 	if (labelHandle == 0) return false;
+	applyDeferredUpdate ();
 	return mnemonicMatch (labelHandle, key);
 }
 
@@ -381,11 +395,25 @@ void setOrientation (boolean create) {
 public void setText (String string) {
 	checkWidget();
 	if (string == null) error (SWT.ERROR_NULL_ARGUMENT);
+	if (string.equals (text)) return;
 	text = string;
-	char [] chars = fixMnemonic (string);
+	if (display.updateDeferCount > 0) {
+		display.updatesRecorded++;
+		if (!textPending) {
+			textPending = true;
+			display.addPendingUpdate (this);
+		}
+		return;
+	}
+	updateText ();
+}
+
+void updateText () {
+	textPending = false;
+	char [] chars = fixMnemonic (text);
 	byte [] buffer = Converter.wcsToMbcs (chars, true);
 	GTK.gtk_label_set_text_with_mnemonic (labelHandle, buffer);
-	if (string.length () != 0) {
+	if (text.length () != 0) {
 		if (GTK.gtk_frame_get_label_widget (handle) == 0) {
 			GTK.gtk_frame_set_label_widget (handle, labelHandle);
 		}
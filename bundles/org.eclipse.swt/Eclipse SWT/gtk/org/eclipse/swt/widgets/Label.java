@@ -58,6 +58,7 @@ public class Label extends Control {
 	long frameHandle, labelHandle, imageHandle, boxHandle;
 	Image image;
 	String text;
+	boolean textPending;
 
 /**
  * Constructs a new instance of this class given its parent
@@ -109,6 +110,14 @@ static int checkStyle (int style) {
 	return checkBits (style, SWT.LEFT, SWT.CENTER, SWT.RIGHT, 0, 0, 0);
 }
 
+@Override
+void applyDeferredUpdate () {
+	if (textPending) {
+		display.updatesApplied++;
+		updateText ();
+	}
+}
+
 @Override
 void addRelation (Control control) {
 	if (!control.isDescribedByLabel ()) return;
@@ -141,6 +150,7 @@ Point computeNativeSize (long h, int wHint, int hHint, boolean changed) {
 @Override
 Point computeSizeInPixels (int wHint, int hHint, boolean changed) {
 	checkWidget ();
+	applyDeferredUpdate ();
 	if (wHint != SWT.DEFAULT && wHint < 0) wHint = 0;
 	if (hHint != SWT.DEFAULT && hHint < 0) hHint = 0;
 	if ((style & SWT.SEPARATOR) != 0) {
@@ -432,6 +442,7 @@ boolean isDescribedByLabel () {
 @Override
 boolean mnemonicHit (char key) {
 	if (labelHandle == 0) return false;
+	applyDeferredUpdate ();
 	boolean result = super.mnemonicHit (labelHandle, key);
 	if (result) {
 		Control control = this;
@@ -455,6 +466,7 @@ boolean mnemonicHit (char key) {
 @Override
 boolean mnemonicMatch (char key) {
 	if (labelHandle == 0) return false;
+	applyDeferredUpdate ();
 	return mnemonicMatch (labelHandle, key);
 }
 
@@ -644,6 +656,7 @@ public void setImage (Image image) {
 		error(SWT.ERROR_INVALID_ARGUMENT);
 	}
 	if ((style & SWT.SEPARATOR) != 0) return;
+	applyDeferredUpdate ();
 	this.image = image;
 	if (image != null) {
 		if (GTK.GTK4) {
@@ -702,8 +715,27 @@ public void setText (String string) {
 	checkWidget ();
 	if (string == null) error (SWT.ERROR_NULL_ARGUMENT);
 	if ((style & SWT.SEPARATOR) != 0) return;
+	/*
+	* Setting the same text again still makes GTK reparse the mnemonic,
+	* queue a resize and redraw the label. Avoid this when the text is
+	* already shown.
+	*/
+	if (string.equals (text) && (textPending || GTK.gtk_widget_get_visible (labelHandle))) return;
 	text = string;
-	char [] chars = fixMnemonic (string);
+	if (display.updateDeferCount > 0) {
+		display.updatesRecorded++;
+		if (!textPending) {
+			textPending = true;
+			display.addPendingUpdate (this);
+		}
+		return;
+	}
+	updateText ();
+}
+
+void updateText () {
+	textPending = false;
+	char [] chars = fixMnemonic (text);
 	byte [] buffer = Converter.wcsToMbcs (chars, true);
 	GTK.gtk_label_set_text_with_mnemonic (labelHandle, buffer);
 	gtk_widget_hide (imageHandle);
@@ -968,8 +968,8 @@ public Point getCaretLocation () {
 		long layout = GTK3.gtk_entry_get_layout (handle);
 		PangoRectangle pos = new PangoRectangle ();
 		OS.pango_layout_index_to_pos (layout, index, pos);
-		int x = offset_x [0] + OS.PANGO_PIXELS (pos.x) - getBorderWidthInPixels ();
-		int y = offset_y [0] + OS.PANGO_PIXELS (pos.y);
+		int x = offset_x [0] + OS.PANGO_PIXELS (pos.getX ()) - getBorderWidthInPixels ();
+		int y = offset_y [0] + OS.PANGO_PIXELS (pos.getY ());
 		return new Point (x, y);
 	} else {
 		byte[] position = new byte[ITER_SIZEOF];
@@ -125,6 +125,9 @@ public abstract class Widget {
 	/* Should sub-windows be checked when EnterNotify received */
 	static final int CHECK_SUBWINDOW = 1<<25;
 
+	/* A layout was requested below this widget, lay out only if the size of a child changed */
+	static final int LAYOUT_DESCENDANT = 1<<26;
+
 	/* Bidi "auto" text direction */
 	static final int HAS_AUTO_DIRECTION = 0;
 
@@ -415,6 +418,10 @@ static int checkBits (int style, int int0, int int1, int int2, int int3, int int
 	return style;
 }
 
+void applyDeferredUpdate () {
+	/* Do nothing */
+}
+
 long cellDataProc (long tree_column, long cell, long tree_model, long iter, long data) {
 	return 0;
 }
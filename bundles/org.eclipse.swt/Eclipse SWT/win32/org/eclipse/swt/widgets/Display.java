@@ -342,6 +342,10 @@ public class Display extends Device implements Executor {
 	Composite[] layoutDeferred;
 	int layoutDeferredCount;
 
+	/* Deferred updates, see setUpdatesDeferred(boolean) */
+	int updateDeferCount;
+	Shell [] updateDeferShells;
+
 	/* System Tray */
 	Tray tray;
 	int nextTrayId;
@@ -2718,6 +2722,26 @@ public boolean getTouchEnabled () {
 	return (value & (OS.NID_READY | OS.NID_MULTI_INPUT)) == (OS.NID_READY | OS.NID_MULTI_INPUT);
 }
 
+/**
+ * Returns <code>true</code> if the receiver defers the updates
+ * of its widgets, and <code>false</code> otherwise.
+ *
+ * @return the receiver's deferred update state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see #setUpdatesDeferred(boolean)
+ *
+ * @since 3.134
+ */
+public boolean getUpdatesDeferred () {
+	checkDevice ();
+	return updateDeferCount > 0;
+}
+
 long hButtonTheme (int dpi) {
 	return getOrCreateThemeData(dpi).hButtonTheme();
 }
@@ -4772,6 +4796,59 @@ public void setSynchronizer (Synchronizer synchronizer) {
 	}
 }
 
+/**
+ * If the argument is <code>true</code>, defers the updates of the
+ * widgets of the receiver until the flag is set to <code>false</code>.
+ * Nested calls to this method are stacked, the updates are performed
+ * when the last deferral ends. Use this to update many widgets at once,
+ * and end the deferral in a <code>finally</code> block.
+ * <p>
+ * While updates are deferred, the layouts of all shells that exist
+ * when the deferral starts are deferred as described in
+ * <code>Composite.setLayoutDeferred(boolean)</code>, so that bounds
+ * changes are coalesced into one layout per composite. On GTK, labels
+ * and groups also keep a new text in the widget and pass only the last
+ * one to the platform, so that they are resized and redrawn once.
+ * Getters answer the new values, and computing the size of such a
+ * control applies its text early.
+ * </p>
+ *
+ * @param defer the new defer state
+ *
+ * @exception SWTException <ul>
+ *    <li>ERROR_THREAD_INVALID_ACCESS - if not called from the thread that created the receiver</li>
+ *    <li>ERROR_DEVICE_DISPOSED - if the receiver has been disposed</li>
+ * </ul>
+ *
+ * @see Composite#setLayoutDeferred(boolean)
+ *
+ * @since 3.134
+ */
+public void setUpdatesDeferred (boolean defer) {
+	checkDevice ();
+	if (defer) {
+		if (updateDeferCount++ == 0) {
+			updateDeferShells = getShells ();
+			for (Shell shell : updateDeferShells) shell.setLayoutDeferred (true);
+		}
+		return;
+	}
+	if (updateDeferCount == 0 || --updateDeferCount > 0) return;
+	Shell [] shells = updateDeferShells;
+	updateDeferShells = null;
+	/* End the deferral of every shell even if a layout throws */
+	try (ExceptionStash exceptions = new ExceptionStash ()) {
+		for (Shell shell : shells) {
+			if (shell.isDisposed ()) continue;
+			try {
+				shell.setLayoutDeferred (false);
+			} catch (Error | RuntimeException ex) {
+				exceptions.stash (ex);
+			}
+		}
+	}
+}
+
 /**
  * Sets a callback that will be invoked whenever an exception is thrown by a listener or external
  * callback function. The application may use this to set a global exception handling policy:
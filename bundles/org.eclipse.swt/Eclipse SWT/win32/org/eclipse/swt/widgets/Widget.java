@@ -121,6 +121,9 @@ public abstract class Widget {
 	/* Child item requires custom draw */
 	static final int CUSTOM_DRAW_ITEM = 1<<24;
 
+	/* A layout was requested below this widget, lay out only if the size of a child changed */
+	static final int LAYOUT_DESCENDANT = 1<<25;
+
 	/* Default size for widgets */
 	static final int DEFAULT_WIDTH	= 64;
 	static final int DEFAULT_HEIGHT	= 64;
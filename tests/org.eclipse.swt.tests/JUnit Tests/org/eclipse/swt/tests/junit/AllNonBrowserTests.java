@@ -53,6 +53,7 @@ public class AllNonBrowserTests {
 			Test_org_eclipse_swt_accessibility_AccessibleControlEvent.class, //
 			Test_org_eclipse_swt_accessibility_AccessibleEvent.class, //
 			Test_org_eclipse_swt_accessibility_AccessibleTextEvent.class, //
+			Test_org_eclipse_swt_browser_JSON.class, //
 			Test_org_eclipse_swt_dnd_ByteArrayTransfer.class, //
 			Test_org_eclipse_swt_dnd_Clipboard.class, //
 			Test_org_eclipse_swt_dnd_FileTransfer.class, //
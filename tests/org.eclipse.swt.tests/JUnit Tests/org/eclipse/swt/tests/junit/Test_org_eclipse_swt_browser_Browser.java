@@ -2281,6 +2281,56 @@ public void test_evaluate_evaluation_failed_exception() {
 	assertTrue(passed, message);
 }
 
+/**
+ * Test that several evaluateAsync() calls can be in flight at once and that each
+ * result is delivered to its own future on the UI thread.
+ */
+@Test
+public void test_evaluateAsync_overlapping() {
+	final int count = 10;
+	final AtomicReferenceArray<Object> results = new AtomicReferenceArray<>(count);
+	final AtomicInteger wrongThread = new AtomicInteger();
+	browser.addProgressListener(completedAdapter(event -> {
+		for (int i = 0; i < count; i++) {
+			final int index = i;
+			browser.evaluateAsync("return " + i + " * 2").thenAccept(result -> {
+				if (Display.getCurrent() == null) wrongThread.incrementAndGet();
+				results.set(index, result);
+			});
+		}
+	}));
+
+	browser.setText("<html><body>HelloWorld</body></html>");
+	shell.open();
+	boolean passed = waitForPassCondition(() -> {
+		for (int i = 0; i < count; i++) {
+			if (!Double.valueOf(i * 2).equals(results.get(i))) return false;
+		}
+		return true;
+	});
+	assertTrue(passed, "Not all asynchronous evaluations returned their result: " + results);
+	assertEquals(0, wrongThread.get(), "Results must be delivered on the UI thread");
+}
+
+/**
+ * Test that evaluateAsync() completes its future exceptionally when the script throws.
+ */
+@Test
+public void test_evaluateAsync_evaluation_failed_exception() {
+	final AtomicInteger exception = new AtomicInteger(-1);
+	browser.addProgressListener(completedAdapter(event -> {
+		browser.evaluateAsync("return runSomeUndefinedFunctionInJavaScriptWhichCausesUndefinedError()").whenComplete((result, e) -> {
+			exception.set(e instanceof SWTException swtException ? swtException.code : 0);
+		});
+	}));
+
+	browser.setText("<html><body>HelloWorld</body></html>");
+	shell.open();
+	boolean passed = waitForPassCondition(() -> exception.get() != -1);
+	assertTrue(passed, "Javascript did not throw an error. Test timed out");
+	assertEquals(SWT.ERROR_FAILED_EVALUATE, exception.get());
+}
+
 /**
  * Test the evaluate() api that returns an array of numbers. Functionality based on Snippet308.
  * Only wait till success. Otherwise timeout after 3 seconds.
@@ -2854,6 +2904,69 @@ public void test_BrowserFunction_callback_with_javaReturningString () {
 }
 
 
+/**
+ * Test the async variant of a BrowserFunction. The calls made in one go may be sent
+ * to java in a single message, and a typed array arrives either as a double[]
+ * (where typed arrays are passed as bytes) or as an array of Doubles.
+ */
+@Test
+public void test_BrowserFunction_callback_async() {
+	AtomicReference<String> results = new AtomicReference<>();
+
+	class JavascriptCallback extends BrowserFunction { // Note: Local class defined inside method.
+		JavascriptCallback(Browser browser, String name) {
+			super(browser, name);
+		}
+
+		@Override
+		public Object function(Object[] arguments) {
+			double sum = 0;
+			if (arguments[0] instanceof double[] values) {
+				for (double value : values) sum += value;
+			} else if (arguments[0] instanceof Object[] values) {
+				for (Object value : values) sum += (Double) value;
+			} else {
+				sum = (Double) arguments[0];
+			}
+			return sum;
+		}
+	}
+
+	class JavascriptCallback_javascriptReceivedResults extends BrowserFunction { // Note: Local class defined inside method.
+		JavascriptCallback_javascriptReceivedResults(Browser browser, String name) {
+			super(browser, name);
+		}
+
+		@Override
+		public Object function(Object[] arguments) {
+			results.set(arguments[0] + " " + arguments[1]);
+			return null;
+		}
+	}
+
+	String htmlWithScript = """
+		<html><head>
+		<script language="JavaScript">
+		function callCustomFunction() {
+		     Promise.all([jsCallbackToJava.async(1), jsCallbackToJava.async(new Float64Array([1.5, 2.5]))])
+		          .then(function(retVal) { jsSuccess(retVal[0], retVal[1]); });
+		}
+		</script>
+		</head>
+		<body> Test page </body>
+		</html>
+		""";
+	browser.setText(htmlWithScript);
+	new JavascriptCallback(browser, "jsCallbackToJava");
+	new JavascriptCallback_javascriptReceivedResults(browser, "jsSuccess");
+
+	browser.addProgressListener(callCustomFunctionUponLoad);
+
+	shell.open();
+	boolean passed = waitForPassCondition(() -> "1.0 4.0".equals(results.get()));
+	assertTrue(passed, "The async calls did not return their results to javascript: " + results.get());
+}
+
 /**
  * Test that a callback works even after a new page is loaded.
  * I.e, BrowserFunctions should have to be re-initialized after a page load.
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Automated Test Suite for the JSON codec of the browser, which converts the
+ * results of <code>Browser.evaluate</code> and the arguments of browser
+ * functions. The codec is internal to the browser package.
+ */
+public class Test_org_eclipse_swt_browser_JSON {
+	/* The size of the buffer of the pull parser over a java.io.Reader */
+	static final int BUFFER_SIZE = 4096;
+
+	static Method parseChars, parseText, parseReader, stringify, stringifyTo, readDoubleArray;
+	static Constructor<?> newParser;
+
+/** Reads one character at a time, so that every token is split by a refill. */
+static class SlowReader extends Reader {
+	final String text;
+	int pos;
+
+	SlowReader(String text) {
+		this.text = text;
+	}
+
+	@Override
+	public int read(char[] buffer, int offset, int length) throws IOException {
+		if (pos == text.length()) return -1;
+		buffer[offset] = text.charAt(pos++);
+		return 1;
+	}
+
+	@Override
+	public void close() {
+	}
+}
+
+@BeforeAll
+public static void setUpClass() throws Exception {
+	Class<?> json = Class.forName("org.eclipse.swt.browser.JSON");
+	parseChars = accessible(json.getDeclaredMethod("parse", char[].class));
+	parseText = accessible(json.getDeclaredMethod("parse", CharSequence.class));
+	parseReader = accessible(json.getDeclaredMethod("parse", Reader.class));
+	stringify = accessible(json.getDeclaredMethod("stringify", Object.class));
+	stringifyTo = accessible(json.getDeclaredMethod("stringify", Object.class, Appendable.class));
+	Class<?> parser = Class.forName("org.eclipse.swt.browser.JSON$Parser");
+	newParser = accessible(parser.getDeclaredConstructor(CharSequence.class));
+	readDoubleArray = accessible(parser.getDeclaredMethod("readDoubleArray"));
+}
+
+static <T extends java.lang.reflect.AccessibleObject> T accessible(T object) {
+	object.setAccessible(true);
+	return object;
+}
+
+static Object invoke(Method method, Object target, Object... args) throws Throwable {
+	try {
+		return method.invoke(target, args);
+	} catch (InvocationTargetException e) {
+		throw e.getCause();
+	}
+}
+
+/** Parses the text with every reader of the codec and checks that they agree. */
+static Object parse(String text) throws Throwable {
+	Object value = invoke(parseText, null, text);
+	assertArrayEquals(new Object[] {value}, new Object[] {invoke(parseChars, null, (Object) text.toCharArray())}, text);
+	assertArrayEquals(new Object[] {value}, new Object[] {invoke(parseReader, null, new StringReader(text))}, text);
+	assertArrayEquals(new Object[] {value}, new Object[] {invoke(parseReader, null, new SlowReader(text))}, text);
+	return value;
+}
+
+@Test
+public void test_parseValues() throws Throwable {
+	assertNull(parse("null"));
+	assertEquals(true, parse(" true "));
+	assertEquals(false, parse("false"));
+	assertEquals(-12.5, parse("-12.5"));
+	assertEquals("a\"b\\c/\b\f\n\r\t\u00e9", parse("\"a\\\"b\\\\c\\/\\b\\f\\n\\r\\t\\u00e9\""));
+	assertArrayEquals(new Object[0], (Object[]) parse("[ ]"));
+	assertArrayEquals(new Object[] {1.0, "two", new Object[] {null, true}}, (Object[]) parse("[1,\"two\",[null,true]]"));
+}
+
+@Test
+public void test_parseReaderBufferBoundaries() throws Throwable {
+	String value = "[123.456,\"text\",true,null,[-7e-3]]";
+	Object[] expected = {123.456, "text", true, null, new Object[] {-7e-3}};
+	for (int padding = BUFFER_SIZE - value.length() - 2; padding <= BUFFER_SIZE + 2; padding++) {
+		String text = " ".repeat(padding) + value;
+		assertArrayEquals(expected, (Object[]) parse(text), "padding " + padding);
+	}
+	/* a string longer than the buffer */
+	String longText = "x".repeat(3 * BUFFER_SIZE + 5);
+	assertEquals(longText, parse("\"" + longText + "\""));
+}
+
+@Test
+public void test_parseEscapesAcrossRefill() throws Throwable {
+	String value = "\"a\\u00e9\\n\\\"b\"";
+	for (int padding = BUFFER_SIZE - value.length(); padding <= BUFFER_SIZE; padding++) {
+		String text = " ".repeat(padding) + value;
+		assertEquals("a\u00e9\n\"b", parse(text), "padding " + padding);
+	}
+}
+
+@Test
+public void test_parseNumbers() throws Throwable {
+	String[] numbers = {"0", "-0", "0.0", "1", "-1", "0.1", "0.3", "123456789012345", "1234567890123456",
+			"12345678901234567890", "9007199254740993", "1e22", "1e23", "1e-22", "1e-23", "12.5E+3", "12.5e-3",
+			"1.7976931348623157e308", "4.9e-324", "2.2250738585072014E-308", "1e400", "123.456e-300"};
+	for (String number : numbers) {
+		assertEquals(Double.valueOf(number), parse(number), number);
+	}
+	Random random = new Random(0);
+	for (int i = 0; i < 10000; i++) {
+		String number;
+		switch (i % 3) {
+		case 0: number = Double.toString(random.nextDouble()); break;
+		case 1: number = Double.toString(Math.round(random.nextGaussian() * 1e6) / 1e3); break;
+		default: number = Long.toString(random.nextLong() >> random.nextInt(64)); break;
+		}
+		assertEquals(Double.valueOf(number), parse(number), number);
+	}
+}
+
+@Test
+public void test_readDoubleArray() throws Throwable {
+	String text = "[1, -2.5, 1e22, 0.1, 12345678901234567]";
+	double[] expected = {1, -2.5, 1e22, 0.1, 12345678901234567d};
+	assertArrayEquals(expected, (double[]) invoke(readDoubleArray, newParser.newInstance(text)));
+	assertArrayEquals(new double[0], (double[]) invoke(readDoubleArray, newParser.newInstance(" [ ] ")));
+	assertThrows(IllegalArgumentException.class, () -> invoke(readDoubleArray, newParser.newInstance("[1,\"2\"]")));
+	assertThrows(IllegalArgumentException.class, () -> invoke(readDoubleArray, newParser.newInstance("1")));
+}
+
+@Test
+public void test_parseMalformed() throws Throwable {
+	String[] inputs = {"", " ", "[", "]", "[1,]", "[,1]", "[1 2]", "1 2", "\"abc", "\"a\\x\"", "\"\\u12\"", "\"a\nb\"",
+			"tru", "nul", "-", "1e", "--1", "{}", "1\u0000x", "[1]\u0000", "\u0000", "\"a\"\u0000"};
+	for (String input : inputs) {
+		assertThrows(IllegalArgumentException.class, () -> invoke(parseText, null, input), input);
+		assertThrows(IllegalArgumentException.class, () -> invoke(parseChars, null, (Object) input.toCharArray()), input);
+		assertThrows(IllegalArgumentException.class, () -> invoke(parseReader, null, new StringReader(input)), input);
+		assertThrows(IllegalArgumentException.class, () -> invoke(parseReader, null, new SlowReader(input)), input);
+	}
+}
+
+@Test
+public void test_stringify() throws Throwable {
+	Object value = new Object[] {1.5, 2, "a\"\u0001\n", null, false, new Object[0]};
+	String text = (String) invoke(stringify, null, value);
+	assertEquals("[1.5,2,\"a\\\"\\u0001\\n\",null,false,[]]", text);
+	StringBuilder sb = new StringBuilder();
+	invoke(stringifyTo, null, value, sb);
+	assertEquals(text, sb.toString());
+	StringWriter out = new StringWriter();
+	invoke(stringifyTo, null, value, out);
+	assertEquals(text, out.toString());
+}
+}
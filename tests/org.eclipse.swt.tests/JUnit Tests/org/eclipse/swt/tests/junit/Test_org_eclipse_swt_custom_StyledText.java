@@ -22,19 +22,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
 import org.eclipse.swt.custom.BidiSegmentListener;
 import org.eclipse.swt.custom.CaretListener;
 import org.eclipse.swt.custom.ExtendedModifyListener;
@@ -47,6 +55,7 @@ import org.eclipse.swt.custom.ST;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.StyledTextStyleProvider;
 import org.eclipse.swt.custom.TextChangeListener;
 import org.eclipse.swt.custom.VerifyKeyListener;
 import org.eclipse.swt.dnd.Clipboard;
@@ -67,6 +76,8 @@ import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.GlyphMetrics;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.graphics.TextLayout;
+import org.eclipse.swt.graphics.TextStyle;
 import org.eclipse.swt.internal.BidiUtil;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.layout.GridData;
@@ -661,6 +672,64 @@ public void test_appendLjava_lang_String() {
 	assertEquals(text2 + text3, text.getText());
 }
 
+@Test
+public void test_beginCompoundChange() {
+	int[] modifyCount = new int[1];
+	List<String> replaced = new ArrayList<>();
+	text.addModifyListener(e -> modifyCount[0]++);
+	text.addExtendedModifyListener(e -> replaced.add(e.replacedText));
+	text.setText("one\ntwo\nthree");
+	modifyCount[0] = 0;
+	text.setSelection(8, 13);
+
+	text.beginCompoundChange();
+	text.replaceTextRange(0, 3, "1");
+	text.beginCompoundChange();
+	text.replaceTextRange(2, 3, "2\n2");
+	text.endCompoundChange();
+	assertEquals(0, modifyCount[0]);
+	text.append("!");
+	assertEquals("1\n2\n2\nthree!", text.getText());
+	assertEquals(new Point(6, 11), text.getSelection());
+	assertEquals(0, modifyCount[0]);
+	text.endCompoundChange();
+
+	assertEquals(1, modifyCount[0]);
+	assertEquals(List.of("one", "two", ""), replaced);
+	assertEquals(4, text.getLineCount());
+	assertEquals(new Point(6, 11), text.getSelection());
+
+	// unbalanced calls are ignored
+	text.endCompoundChange();
+	text.replaceTextRange(0, 1, "one");
+	assertEquals(2, modifyCount[0]);
+}
+
+@Test
+public void test_beginCompoundChangeScrollAndSelection() {
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 100; i++) {
+		buffer.append("line ").append(i).append('\n');
+	}
+	text.setText(buffer.toString());
+	text.setSize(200, text.getLineHeight() * 10);
+	text.setTopIndex(50);
+	int offset = text.getOffsetAtLine(60);
+	text.setSelection(offset, offset + 4);
+	int[] selectionCount = new int[1];
+	text.addSelectionListener(SelectionListener.widgetSelectedAdapter(e -> selectionCount[0]++));
+
+	// lines inserted above the visible lines keep them in place, like single changes
+	text.beginCompoundChange();
+	text.replaceTextRange(0, 0, "new\n");
+	text.replaceTextRange(text.getOffsetAtLine(10), 0, "new\nnew\n");
+	text.endCompoundChange();
+	assertEquals(53, text.getTopIndex());
+	assertEquals("line 50", text.getLine(text.getTopIndex()));
+	assertEquals(new Point(offset + 12, offset + 16), text.getSelection());
+	assertEquals(1, selectionCount[0]);
+}
+
 @Override
 @Test
 public void test_computeSizeIIZ() {
@@ -1310,6 +1379,91 @@ void test_getLinePixel(StyledText text) {
 	assertEquals(lineHeight, text.getLinePixel(10));
 }
 
+@Tag("gtk4-todo")
+@Test
+public void test_getLinePixelVariableLineHeight() {
+	int lineHeight = text.getLineHeight();
+	int lineCount = 500;
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < lineCount; i++) {
+		if (i > 0) buffer.append('\n');
+		buffer.append("Line").append(i);
+	}
+	text.setText(buffer.toString());
+	text.setSize(400, lineHeight * 10);
+	for (int i = 0; i < lineCount; i++) {
+		text.setLineVerticalIndent(i, i % 3);
+	}
+	int y = 0;
+	for (int i = 0; i < lineCount; i++) {
+		y += i % 3;
+		assertEquals(y, text.getLinePixel(i), "line " + i);
+		assertEquals(i, text.getLineIndex(y), "pixel " + y);
+		assertEquals(i, text.getLineIndex(y + lineHeight - 1), "pixel " + (y + lineHeight - 1));
+		y += lineHeight;
+	}
+	assertEquals(y, text.getLinePixel(lineCount));
+
+	// changing the height of one line moves every line below it
+	int before = text.getLinePixel(400);
+	text.setLineVerticalIndent(10, 10 % 3 + 20);
+	assertEquals(before + 20, text.getLinePixel(400));
+	assertEquals(400, text.getLineIndex(before + 20));
+
+	text.setTopIndex(200);
+	int top = text.getLinePixel(200);
+	for (int i = 0; i < lineCount; i += 7) {
+		assertEquals(i, text.getLineIndex(text.getLinePixel(i)), "line " + i);
+	}
+	assertEquals(top, text.getLinePixel(200));
+	assertEquals(0, text.getLineIndex(-1000000));
+	assertEquals(lineCount - 1, text.getLineIndex(1000000));
+
+	// text changes update the heights of the changed lines and shift the lines below
+	text.replaceTextRange(text.getOffsetAtLine(300), 0, "x");
+	text.replaceTextRange(text.getOffsetAtLine(100), 0, "new\nlines\n");
+	text.replaceTextRange(text.getOffsetAtLine(50), text.getOffsetAtLine(53) - text.getOffsetAtLine(50), "");
+	text.setLineVerticalIndent(250, 7);
+	y = 0;
+	for (int i = 0; i < text.getLineCount(); i++) {
+		y += text.getLineVerticalIndent(i);
+		assertEquals(y, text.getLinePixel(i) + text.getTopPixel(), "line " + i);
+		y += lineHeight;
+	}
+}
+
+@Test
+public void test_getLinePixelAfterWrapWidthChange() {
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 100; i++) {
+		if (i > 0) buffer.append('\n');
+		buffer.append(i % 4 == 0 ? "Short" : "A long line that is wrapped when the widget is narrow " + i);
+	}
+	int lineHeight = text.getLineHeight();
+	text.setWordWrap(true);
+	text.setText(buffer.toString());
+	text.setSize(2000, lineHeight * 10);
+	assertEquals(100 * lineHeight, text.getLinePixel(100));
+
+	// lines that still fit keep their height, all others are measured again
+	text.setSize(150, lineHeight * 10);
+	StyledText expected = new StyledText(shell, SWT.NONE);
+	try {
+		expected.setWordWrap(true);
+		expected.setText(buffer.toString());
+		expected.setSize(150, lineHeight * 10);
+		for (int i = 0; i <= 100; i++) {
+			assertEquals(expected.getLinePixel(i), text.getLinePixel(i), "line " + i);
+		}
+		assertTrue(text.getLinePixel(100) > 100 * lineHeight);
+	} finally {
+		expected.dispose();
+	}
+
+	text.setSize(2000, lineHeight * 10);
+	assertEquals(100 * lineHeight, text.getLinePixel(100));
+}
+
 @Test
 public void test_getLocationAtOffsetI(){
 	// copy from StyledText, has to match value used by StyledText
@@ -1917,6 +2071,35 @@ public void test_getStyleRanges_Bug549110() {
 	text.selectAll();
 }
 @Test
+public void test_getStyleRangesSharesSimilarStyles() {
+	text.setText("aa bb cc dd");
+	StyleRange[] styles = new StyleRange[4];
+	for (int i = 0; i < styles.length; i++) {
+		styles[i] = new StyleRange(i * 3, 2, i % 2 == 0 ? RED : BLUE, null);
+	}
+	text.setStyleRanges(styles);
+	StyleRange[] shared = text.getStyleRanges(false);
+	assertEquals(4, shared.length);
+	assertSame(shared[0], shared[2]);
+	assertSame(shared[1], shared[3]);
+	assertNotSame(shared[0], shared[1]);
+	StyleRange[] result = text.getStyleRanges();
+	for (int i = 0; i < styles.length; i++) {
+		assertEquals(styles[i], result[i]);
+	}
+
+	int[] ranges = {0, 2, 3, 2, 6, 2, 9, 2};
+	styles = new StyleRange[4];
+	for (int i = 0; i < styles.length; i++) {
+		styles[i] = new StyleRange(0, 0, i % 2 == 0 ? BLUE : RED, null, SWT.BOLD);
+	}
+	text.setStyleRanges(ranges, styles);
+	shared = text.getStyleRanges(false);
+	assertSame(shared[0], shared[2]);
+	assertSame(shared[1], shared[3]);
+	assertArrayEquals(ranges, text.getRanges());
+}
+@Test
 public void test_getTabs() {
 	text.setTabs(1);
 	assertEquals(1, text.getTabs());
@@ -5426,6 +5609,193 @@ public void test_setStyleRanges_render() throws InterruptedException {
 	assertTrue(hasPixel(text, text.getDisplay().getSystemColor(SWT.COLOR_RED)));
 }
 
+@Tag("gtk4-todo")
+@Test
+public void test_setStyleRanges_renderWithLineImageCache() throws InterruptedException {
+	assumeFalse(SwtTestUtil.isCocoa, "Bug 553090 prevents test to work on Mac");
+	Color red = text.getDisplay().getSystemColor(SWT.COLOR_RED);
+	assertFalse(text.getLineImageCacheEnabled());
+	text.setLineImageCacheEnabled(true);
+	assertTrue(text.getLineImageCacheEnabled());
+	shell.setVisible(true);
+	text.setText("abc\ndef");
+	text.setMargins(0, 0, 0, 0);
+	text.pack();
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, text.getBackground()) && !hasPixel(text, red));
+	assertFalse(hasPixel(text, red));
+	// a cached line must be rendered again once its styles change
+	text.setStyleRange(new StyleRange(4, 3, null, red));
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, red));
+	assertTrue(hasPixel(text, red));
+	text.replaceStyleRanges(4, 3, new StyleRange[0]);
+	SwtTestUtil.processEvents(1000, () -> !hasPixel(text, red));
+	assertFalse(hasPixel(text, red));
+	text.setLineBackground(0, 1, red);
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, red));
+	assertTrue(hasPixel(text, red));
+	text.setLineImageCacheEnabled(false);
+	assertFalse(text.getLineImageCacheEnabled());
+}
+
+@Test
+public void test_setStyleProvider() throws InterruptedException {
+	assumeFalse(SwtTestUtil.isCocoa, "Bug 553090 prevents test to work on Mac");
+	Color red = text.getDisplay().getSystemColor(SWT.COLOR_RED);
+	StyleRange style = new StyleRange();
+	style.background = red;
+	int[] revision = {0};
+	List<Integer> queries = new ArrayList<>();
+	StyledTextStyleProvider provider = new StyledTextStyleProvider() {
+		@Override
+		public int getRevision() {
+			return revision[0];
+		}
+		@Override
+		public int getStyleRanges(int lineOffset, String line, int[] ranges, StyleRange[] styles) {
+			queries.add(lineOffset);
+			if (revision[0] == 0) return 0;
+			if (styles.length < 1) return 1;
+			ranges[0] = lineOffset;
+			ranges[1] = line.length();
+			styles[0] = style;
+			return 1;
+		}
+	};
+	assertNull(text.getStyleProvider());
+	text.setStyleProvider(provider);
+	assertSame(provider, text.getStyleProvider());
+	shell.setVisible(true);
+	text.setText("abc\ndef");
+	text.setMargins(0, 0, 0, 0);
+	text.pack();
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, text.getBackground()) && !hasPixel(text, red));
+	assertFalse(hasPixel(text, red));
+	assertTrue(queries.contains(0));
+	assertTrue(queries.contains(4));
+	// the styles are cached until the revision changes
+	queries.clear();
+	text.redraw();
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, text.getBackground()));
+	assertTrue(queries.isEmpty());
+	assertFalse(hasPixel(text, red));
+	revision[0]++;
+	text.redraw();
+	SwtTestUtil.processEvents(1000, () -> hasPixel(text, red));
+	assertTrue(hasPixel(text, red));
+	assertEquals(0, text.getStyleRanges().length);
+	text.setStyleProvider(null);
+	assertNull(text.getStyleProvider());
+	SwtTestUtil.processEvents(1000, () -> !hasPixel(text, red));
+	assertFalse(hasPixel(text, red));
+}
+
+/**
+ * A new revision of the style provider also discards the layouts and line
+ * heights cached for the lines outside of the visible area.
+ */
+@Test
+public void test_setStyleProviderRevisionOffscreenLine() throws Exception {
+	text.dispose();
+	text = new StyledText(shell, SWT.V_SCROLL);
+	setWidget(text);
+	shell.setVisible(true);
+	StringBuilder str = new StringBuilder();
+	for (int i = 0; i < 300; i++) {
+		str.append("line ").append(i).append('\n');
+	}
+	text.setText(str.toString());
+	text.setSize(500, 200);
+	Font font = new Font(text.getDisplay(), text.getFont().getFontData()[0].getName(), 40, SWT.NORMAL);
+	StyleRange style = new StyleRange();
+	style.font = font;
+	int[] revision = {0};
+	int line = 250;
+	text.setStyleProvider(new StyledTextStyleProvider() {
+		@Override
+		public int getRevision() {
+			return revision[0];
+		}
+		@Override
+		public int getStyleRanges(int lineOffset, String lineText, int[] ranges, StyleRange[] styles) {
+			if (revision[0] == 0 || lineOffset != text.getOffsetAtLine(line)) return 0;
+			ranges[0] = lineOffset;
+			ranges[1] = lineText.length();
+			styles[0] = style;
+			return 1;
+		}
+	});
+	try {
+		text.setTopIndex(100);
+		SwtTestUtil.processEvents();
+
+		Field field = StyledText.class.getDeclaredField("renderer");
+		field.setAccessible(true);
+		Object renderer = field.get(text);
+		Method getTextLayout = renderer.getClass().getDeclaredMethod("getTextLayout", int.class);
+		getTextLayout.setAccessible(true);
+		Method disposeTextLayout = renderer.getClass().getDeclaredMethod("disposeTextLayout", TextLayout.class);
+		disposeTextLayout.setAccessible(true);
+		Method getLineHeight = renderer.getClass().getDeclaredMethod("getLineHeight", int.class);
+		getLineHeight.setAccessible(true);
+
+		// the line is below the visible lines, but its layout is cached
+		TextLayout layout = (TextLayout) getTextLayout.invoke(renderer, line);
+		assertEquals(0, layout.getStyles().length);
+		disposeTextLayout.invoke(renderer, layout);
+		int height = (int) getLineHeight.invoke(renderer, line);
+
+		revision[0]++;
+		text.redraw();
+		SwtTestUtil.processEvents();
+		layout = (TextLayout) getTextLayout.invoke(renderer, line);
+		TextStyle[] styles = layout.getStyles();
+		disposeTextLayout.invoke(renderer, layout);
+		assertEquals(1, styles.length);
+		assertSame(font, styles[0].font);
+		assertTrue((int) getLineHeight.invoke(renderer, line) > height);
+	} finally {
+		text.setStyleProvider(null);
+		font.dispose();
+	}
+}
+
+/**
+ * The styles of a style provider are written to the RTF and HTML that is
+ * copied, like the styles set on the widget.
+ */
+@Test
+public void test_setStyleProviderWriteRTF() {
+	StyleRange style = new StyleRange();
+	style.foreground = text.getDisplay().getSystemColor(SWT.COLOR_RED);
+	style.fontStyle = SWT.BOLD;
+	text.setStyleProvider(new StyledTextStyleProvider() {
+		@Override
+		public int getRevision() {
+			return 0;
+		}
+		@Override
+		public int getStyleRanges(int lineOffset, String line, int[] ranges, StyleRange[] styles) {
+			if (lineOffset == 0) return 0;
+			ranges[0] = lineOffset;
+			ranges[1] = line.length();
+			styles[0] = style;
+			return 1;
+		}
+	});
+	text.setText("plain\nstyled");
+
+	StringBuilder rtf = new StringBuilder();
+	text.writeRTF(rtf, 0, text.getCharCount());
+	String rtfText = rtf.toString();
+	assertTrue(rtfText.contains("\\red255\\green0\\blue0;"), rtfText);
+	assertTrue(rtfText.contains("\\b styled"), rtfText);
+	assertFalse(rtfText.contains("\\b plain"), rtfText);
+
+	StringBuilder html = new StringBuilder();
+	text.writeHTML(html, 0, text.getCharCount());
+	assertTrue(html.toString().contains("font-weight:bold"), html.toString());
+}
+
 /**
  * Test LineStyleListener which provides styles but no ranges.
  */
@@ -5627,8 +5997,8 @@ protected void rtfCopy() {
 	linesCalled[0] = 0;
 	text.copy();
 
-	// The listener is invoked twice for each line, once for RTF and once for HTML.
-	assertEquals(2 * text.getLineCount(), linesCalled[0]);
+	// The listener is invoked once for each line, the styles are shared by RTF and HTML.
+	assertEquals(text.getLineCount(), linesCalled[0]);
 
 	Clipboard clipboard = new Clipboard(text.getDisplay());
 	RTFTransfer rtfTranfer = RTFTransfer.getInstance();
@@ -5639,6 +6009,9 @@ protected void rtfCopy() {
 	clipboardText = (String) clipboard.getContents(htmlTranfer);
 	assertTrue(clipboardText.length() > 0);
 
+	// The rich formats are generated on request from the styles of the copy.
+	assertEquals(text.getLineCount(), linesCalled[0]);
+
 	clipboard.dispose();
 	text.removeLineStyleListener(listener);
 }
@@ -5855,6 +6228,119 @@ public void test_clipboardCarryover() {
 	assertTrue(clipboardText.length() > 0);
 }
 
+/**
+ * The rich clipboard formats are generated when requested, but must still
+ * show the text that was copied after the widget content changed.
+ */
+@Tag("clipboard")
+@Test
+public void test_copyRichTextAfterModify() {
+	assumeFalse(SwtTestUtil.isCocoa, "Disabled on Mac because similar clipboard tests are also disabled.");
+
+	Clipboard clipboard = new Clipboard(text.getDisplay());
+	HTMLTransfer htmlTransfer = HTMLTransfer.getInstance();
+	text.setText("first second third");
+	text.setSelectionRange(6, 6);
+	text.copy();
+	// changes before and after the copied text
+	text.replaceTextRange(0, 5, "1st");
+	text.replaceTextRange(text.getCharCount(), 0, " fourth");
+	String clipboardText = (String) clipboard.getContents(htmlTransfer);
+	assertTrue(clipboardText.contains("second"), clipboardText);
+	assertFalse(clipboardText.contains("1st"), clipboardText);
+	assertFalse(clipboardText.contains("fourth"), clipboardText);
+
+	text.setSelectionRange(4, 6);
+	text.copy();
+	// change of the copied text
+	text.replaceTextRange(4, 6, "2nd");
+	clipboardText = (String) clipboard.getContents(htmlTransfer);
+	assertTrue(clipboardText.contains("second"), clipboardText);
+	assertFalse(clipboardText.contains("2nd"), clipboardText);
+
+	text.setSelectionRange(0, 3);
+	text.copy();
+	// replacing all of the text
+	text.setText("other");
+	clipboardText = (String) clipboard.getContents(htmlTransfer);
+	assertTrue(clipboardText.contains("1st"), clipboardText);
+	assertFalse(clipboardText.contains("other"), clipboardText);
+	clipboard.dispose();
+}
+
+/**
+ * The rich clipboard formats are generated when requested, but must show the
+ * styles and the properties of the widget at the time of the copy.
+ */
+@Tag("clipboard")
+@Test
+public void test_copyRichTextAfterStyleChange() {
+	assumeFalse(SwtTestUtil.isCocoa, "Disabled on Mac because similar clipboard tests are also disabled.");
+
+	Clipboard clipboard = new Clipboard(text.getDisplay());
+	HTMLTransfer htmlTransfer = HTMLTransfer.getInstance();
+	text.setText("first second third");
+	text.setWordWrap(false);
+	text.setSelectionRange(6, 6);
+	text.copy();
+	// changes of the styles, of the properties and of the listeners
+	text.setStyleRange(new StyleRange(6, 6, null, null, SWT.BOLD));
+	text.setWordWrap(true);
+	LineStyleListener listener = event -> event.styles = new StyleRange[] {
+			new StyleRange(event.lineOffset, event.lineText.length(), null, null, SWT.ITALIC)};
+	text.addLineStyleListener(listener);
+	String clipboardText = (String) clipboard.getContents(htmlTransfer);
+	assertTrue(clipboardText.contains("second"), clipboardText);
+	assertFalse(clipboardText.contains("font-weight:bold"), clipboardText);
+	assertFalse(clipboardText.contains("font-style:italic"), clipboardText);
+	assertFalse(clipboardText.contains("pre-wrap"), clipboardText);
+	text.removeLineStyleListener(listener);
+	clipboard.dispose();
+}
+
+@Test
+public void test_writeHTMLAndRTF() {
+	text.setText("plain <b> & {braces} \\ \u00e9\nsecond line");
+	text.setStyleRange(new StyleRange(0, 5, text.getDisplay().getSystemColor(SWT.COLOR_RED), null, SWT.BOLD));
+
+	StringWriter html = new StringWriter();
+	text.writeHTML(html, 0, text.getCharCount());
+	assertEquals(text.getData("StyledText.htmlText"), html.toString());
+	assertTrue(html.toString().contains("&lt;b&gt; &amp; {braces}"), html.toString());
+
+	StringBuilder rtf = new StringBuilder();
+	text.writeRTF(rtf, 0, text.getCharCount());
+	String rtfText = rtf.toString();
+	assertTrue(rtfText.startsWith("{\\rtf1"), rtfText);
+	assertTrue(rtfText.contains("\\{braces\\} \\\\ \\u233?"), rtfText);
+	assertTrue(rtfText.contains("\\red255\\green0\\blue0;"), rtfText);
+	assertTrue(rtfText.indexOf("\\colortbl") < rtfText.indexOf("plain"), rtfText);
+	assertTrue(rtfText.endsWith("}}"), rtfText);
+
+	StringBuilder range = new StringBuilder();
+	text.writeRTF(range, 6, 3);
+	assertTrue(range.toString().contains("<b>"), range.toString());
+	assertFalse(range.toString().contains("plain"), range.toString());
+
+	assertThrows(IllegalArgumentException.class, () -> text.writeHTML(null, 0, 1));
+	assertThrows(IllegalArgumentException.class, () -> text.writeRTF(new StringBuilder(), 0, text.getCharCount() + 1));
+	SWTException exception = assertThrows(SWTException.class, () -> text.writeHTML(new Appendable() {
+		@Override
+		public Appendable append(CharSequence csq) throws IOException {
+			throw new IOException();
+		}
+		@Override
+		public Appendable append(CharSequence csq, int start, int end) throws IOException {
+			throw new IOException();
+		}
+		@Override
+		public Appendable append(char c) throws IOException {
+			throw new IOException();
+		}
+	}, 0, 5));
+	assertEquals(SWT.ERROR_IO, exception.code);
+}
+
 /**
  * Bug 563531 - [regression][StyledText] Scrolling with arrow down key does not update caret painting
  */
@@ -5910,6 +6396,42 @@ public void test_arrowDownKeepsPositionAfterNewLine() {
 }
 
 
+@Test
+public void test_arrowDownWithManyCarets() {
+	StringBuilder buffer = new StringBuilder();
+	for (int i = 0; i < 3; i++) {
+		buffer.append("0123456789\n");
+	}
+	text.setText(buffer.toString());
+	shell.open();
+	text.setSize(400, 200);
+	// ten carets on the first line, they share one layout per line
+	int[] ranges = new int[20];
+	for (int i = 0; i < 10; i++) {
+		ranges[i * 2] = i;
+	}
+	text.setSelectionRanges(ranges);
+	Point[] before = new Point[10];
+	for (int i = 0; i < 10; i++) {
+		before[i] = text.getLocationAtOffset(i);
+	}
+
+	text.invokeAction(ST.LINE_DOWN);
+	int[] result = text.getSelectionRanges();
+	assertEquals(20, result.length);
+	for (int i = 0; i < 10; i++) {
+		assertEquals(11 + i, result[i * 2]);
+		assertEquals(0, result[i * 2 + 1]);
+		assertEquals(before[i].x, text.getLocationAtOffset(11 + i).x);
+	}
+
+	text.invokeAction(ST.LINE_UP);
+	result = text.getSelectionRanges();
+	for (int i = 0; i < 10; i++) {
+		assertEquals(i, result[i * 2]);
+	}
+}
+
 /**
  * Bug 565164 - SWT.BS event no longer working
  */
@@ -15,11 +15,18 @@
 package org.eclipse.swt.tests.junit;
 
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FormAttachment;
+import org.eclipse.swt.layout.FormData;
+import org.eclipse.swt.layout.FormLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Shell;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -79,6 +86,61 @@ public void test_ConstructorLorg_eclipse_swt_widgets_ControlII() {
 	assertNotNull(attachment);
 }
 
+@Test
+public void test_layoutLongAttachmentChain() {
+	shell.setLayout(new FormLayout());
+	Control previous = null;
+	for (int i = 0; i < 1000; i++) {
+		Composite child = new Composite(shell, SWT.NONE);
+		FormData data = new FormData(10, 10);
+		data.left = previous == null ? new FormAttachment(0, 0) : new FormAttachment(previous, 0);
+		data.top = previous == null ? new FormAttachment(0, 0) : new FormAttachment(previous, 0, SWT.TOP);
+		child.setLayoutData(data);
+		previous = child;
+	}
+	shell.layout();
+	assertEquals(new Rectangle(9990, 0, 10, 10), previous.getBounds());
+}
+
+@Test
+public void test_layoutAttachmentCycle() {
+	shell.setLayout(new FormLayout());
+	Composite first = new Composite(shell, SWT.NONE);
+	Composite second = new Composite(shell, SWT.NONE);
+	FormData firstData = new FormData(10, 10);
+	firstData.left = new FormAttachment(second, 0);
+	first.setLayoutData(firstData);
+	FormData secondData = new FormData(10, 10);
+	secondData.left = new FormAttachment(first, 0);
+	second.setLayoutData(secondData);
+	shell.layout();
+	assertEquals(10, first.getBounds().width);
+	assertEquals(10, second.getBounds().width);
+}
+
+@Test
+public void test_layoutBelowWrappingLabel() {
+	shell.setLayout(new FormLayout());
+	shell.setSize(200, 400);
+	Label label = new Label(shell, SWT.WRAP);
+	label.setText("The quick brown fox jumps over the lazy dog. ".repeat(10));
+	FormData labelData = new FormData();
+	labelData.left = new FormAttachment(0, 0);
+	labelData.right = new FormAttachment(100, 0);
+	labelData.top = new FormAttachment(0, 0);
+	label.setLayoutData(labelData);
+	Composite below = new Composite(shell, SWT.NONE);
+	FormData belowData = new FormData(10, 10);
+	belowData.top = new FormAttachment(label, 0);
+	below.setLayoutData(belowData);
+	shell.layout();
+	Rectangle bounds = label.getBounds();
+	int height = label.computeSize(bounds.width, SWT.DEFAULT).y;
+	assertTrue(height > label.computeSize(SWT.DEFAULT, SWT.DEFAULT).y, "label wraps");
+	assertEquals(height, bounds.height);
+	assertEquals(bounds.y + height, below.getBounds().y);
+}
+
 @Test
 public void test_toString() {
 	FormAttachment attachment = new FormAttachment(50);
@@ -14,6 +14,7 @@
 package org.eclipse.swt.tests.junit;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -23,9 +24,12 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.layout.RowData;
+import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Layout;
 import org.eclipse.swt.widgets.List;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
@@ -213,6 +217,89 @@ public void test_bug2162_transparentStyle() {
 	shell.open();
 }
 
+@Test
+public void test_layout$Lorg_eclipse_swt_widgets_ControlI_stopsAtUnchangedAncestor() {
+	class CountingLayout extends Layout {
+		int count;
+		@Override
+		protected Point computeSize(Composite c, int wHint, int hHint, boolean flushCache) {
+			return c.getChildren()[0].computeSize(wHint, hHint, flushCache);
+		}
+		@Override
+		protected boolean flushCache(Control control) {
+			return true;
+		}
+		@Override
+		protected void layout(Composite c, boolean flushCache) {
+			count++;
+			Control child = c.getChildren()[0];
+			Point size = child.computeSize(SWT.DEFAULT, SWT.DEFAULT, flushCache);
+			child.setBounds(0, 0, size.x, size.y);
+		}
+	}
+	CountingLayout outerLayout = new CountingLayout();
+	composite.setLayout(outerLayout);
+	Composite inner = new Composite(composite, SWT.NONE);
+	inner.setLayout(new RowLayout());
+	Button button = new Button(inner, SWT.PUSH);
+	button.setLayoutData(new RowData(50, 20));
+	composite.layout();
+	assertEquals(1, outerLayout.count);
+
+	button.setText("a longer text");
+	composite.layout(new Control[] {button});
+	assertEquals(1, outerLayout.count, "size of inner composite did not change");
+
+	button.setLayoutData(new RowData(80, 20));
+	composite.layout(new Control[] {button});
+	assertEquals(2, outerLayout.count, "size of inner composite changed");
+}
+
+@Test
+public void test_layout$Lorg_eclipse_swt_widgets_ControlI_propagatesWhenSizeNotCached() {
+	class HintsLayout extends Layout {
+		int count;
+		@Override
+		protected Point computeSize(Composite c, int wHint, int hHint, boolean flushCache) {
+			return c.getChildren()[0].computeSize(wHint, hHint, flushCache);
+		}
+		@Override
+		protected boolean flushCache(Control control) {
+			return true;
+		}
+		@Override
+		protected void layout(Composite c, boolean flushCache) {
+			count++;
+			Control child = c.getChildren()[0];
+			Point size = child.computeSize(SWT.DEFAULT, SWT.DEFAULT, flushCache);
+			/* more hints than a composite remembers, the default size is dropped */
+			for (int wHint : new int[] {30, 35, 100, 200}) {
+				child.computeSize(wHint, SWT.DEFAULT, flushCache);
+			}
+			child.setBounds(0, 0, size.x, size.y);
+		}
+	}
+	HintsLayout outerLayout = new HintsLayout();
+	composite.setLayout(outerLayout);
+	Composite inner = new Composite(composite, SWT.NONE);
+	RowLayout rowLayout = new RowLayout();
+	rowLayout.marginLeft = rowLayout.marginTop = rowLayout.marginRight = rowLayout.marginBottom = rowLayout.spacing = 0;
+	inner.setLayout(rowLayout);
+	Button button1 = new Button(inner, SWT.PUSH);
+	button1.setLayoutData(new RowData(20, 20));
+	Button button2 = new Button(inner, SWT.PUSH);
+	button2.setLayoutData(new RowData(20, 20));
+	composite.layout();
+	assertEquals(1, outerLayout.count);
+	assertEquals(new Point(40, 20), inner.getSize());
+
+	/* only the size for the default hints changes */
+	button1.setLayoutData(new RowData(25, 20));
+	composite.layout(new Control[] {button1});
+	assertEquals(2, outerLayout.count);
+	assertEquals(new Point(45, 20), inner.getSize());
+}
+
 protected Composite getElementExpectedToHaveFocusAfterSetFocusOnParent(Composite visibleChild) {
 	return visibleChild;
 }
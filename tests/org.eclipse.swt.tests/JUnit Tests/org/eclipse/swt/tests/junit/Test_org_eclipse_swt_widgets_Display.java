@@ -40,9 +40,14 @@ import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Layout;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Monitor;
 import org.eclipse.swt.widgets.Shell;
@@ -1348,6 +1353,73 @@ public void test_setSynchronizerLorg_eclipse_swt_widgets_Synchronizer() {
 	}
 }
 
+@Test
+public void test_setUpdatesDeferredZ() {
+	final Display display = new Display();
+	try {
+		Shell shell = new Shell(display);
+		shell.setLayout(new FillLayout());
+		Label label = new Label(shell, SWT.NONE);
+		label.setText("a");
+		shell.pack();
+		Point size = label.getSize();
+
+		display.setUpdatesDeferred(true);
+		display.setUpdatesDeferred(true);
+		assertTrue(display.getUpdatesDeferred());
+		label.setText("a much longer text");
+		shell.layout(new Control[] {label});
+		shell.setSize(shell.computeSize(SWT.DEFAULT, SWT.DEFAULT));
+		assertEquals("a much longer text", label.getText());
+		assertEquals(size, label.getSize(), "layout is deferred");
+		display.setUpdatesDeferred(false);
+		assertTrue(display.getUpdatesDeferred());
+		assertEquals(size, label.getSize(), "layout is deferred until the last call");
+
+		display.setUpdatesDeferred(false);
+		assertFalse(display.getUpdatesDeferred());
+		assertEquals(label.computeSize(SWT.DEFAULT, SWT.DEFAULT), label.getSize());
+		assertTrue(label.getSize().x > size.x);
+	} finally {
+		display.dispose();
+	}
+}
+
+@Test
+public void test_setUpdatesDeferredZ_layoutThrows() {
+	final Display display = new Display();
+	try {
+		AtomicBoolean fail = new AtomicBoolean();
+		Layout layout = new Layout() {
+			@Override
+			protected Point computeSize(Composite composite, int wHint, int hHint, boolean flushCache) {
+				return new Point(10, 10);
+			}
+
+			@Override
+			protected void layout(Composite composite, boolean flushCache) {
+				if (fail.get()) throw new IllegalStateException();
+			}
+		};
+		Shell shell1 = new Shell(display);
+		shell1.setLayout(layout);
+		Shell shell2 = new Shell(display);
+		shell2.setLayout(layout);
+
+		display.setUpdatesDeferred(true);
+		shell1.layout();
+		shell2.layout();
+		fail.set(true);
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> display.setUpdatesDeferred(false));
+		assertEquals(1, e.getSuppressed().length, "every layout runs");
+		assertFalse(display.getUpdatesDeferred());
+		assertFalse(shell1.isLayoutDeferred());
+		assertFalse(shell2.isLayoutDeferred());
+	} finally {
+		display.dispose();
+	}
+}
+
 /*
  * this test false passes on GTK4 when not run in isolation. The test probably
  * needs some work to ensure it is a valid test, such as making sure that it is
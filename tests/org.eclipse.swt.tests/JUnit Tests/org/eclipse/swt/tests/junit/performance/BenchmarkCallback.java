@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+import org.eclipse.swt.internal.Callback;
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Measures how many callbacks per second the native code can dispatch
+ * into Java.
+ * <p>
+ * The callbacks have the shape of <code>windowProc</code> (4 arguments)
+ * and of the GTK <code>cellDataProc</code> (5 arguments) and are invoked
+ * through the call natives of the platform, so every call is one JNI
+ * downcall followed by one upcall. The second line also disables and
+ * enables the callbacks for every call, as the GTK tree does around
+ * <code>gtk_tree_view_column_cell_get_position</code>.
+ * </p>
+ */
+public class BenchmarkCallback {
+	private static final int RUNS = 5;
+	private static final int CALLS = 2_000_000;
+
+	static long sum;
+
+	static long windowProc(long handle, long arg0, long arg1, long user_data) {
+		return sum += handle + arg0 + arg1 + user_data;
+	}
+
+	static long cellDataProc(long tree_column, long cell, long tree_model, long iter, long data) {
+		return sum += tree_column + cell + tree_model + iter + data;
+	}
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) throws Throwable {
+		Display display = new Display();
+		try {
+			MethodHandle call4 = findCall(4);
+			MethodHandle call5 = findCall(5);
+			Callback windowProc = new Callback(BenchmarkCallback.class, "windowProc", 4);
+			Callback cellDataProc = new Callback(BenchmarkCallback.class, "cellDataProc", 5);
+			for (int run = 0; run < RUNS; run++) {
+				if (call4 != null) {
+					benchmark("windowProc", call4, windowProc.getAddress(), false);
+					benchmark("windowProc with setEnabled", call4, windowProc.getAddress(), true);
+				}
+				if (call5 != null) {
+					benchmark("cellDataProc", call5, cellDataProc.getAddress(), false);
+				}
+				System.out.println();
+			}
+			windowProc.dispose();
+			cellDataProc.dispose();
+		} finally {
+			display.dispose();
+		}
+	}
+
+	static void benchmark(String name, MethodHandle call, long address, boolean toggle) throws Throwable {
+		long nanoTime = System.nanoTime();
+		for (int i = 0; i < CALLS; i++) {
+			if (toggle) {
+				Callback.setEnabled(false);
+				Callback.setEnabled(true);
+			}
+			long unused = (long) call.invokeExact(address, (long) i);
+		}
+		long durationNanos = System.nanoTime() - nanoTime;
+		System.out.println(String.format("%-40s %,10d ns/call %,12d calls/s", name, durationNanos / CALLS,
+				CALLS * 1_000_000_000L / durationNanos));
+	}
+
+	/*
+	 * Returns a handle (long function, long arg) -> long which calls the
+	 * function with the given number of arguments, or null when the
+	 * platform has no suitable call native.
+	 */
+	static MethodHandle findCall(int argCount) {
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		Class<?>[] params = new Class<?>[argCount + 1];
+		Arrays.fill(params, long.class);
+		for (String name : new String[] {"org.eclipse.swt.internal.gtk.OS", "org.eclipse.swt.internal.accessibility.gtk.ATK"}) {
+			try {
+				MethodHandle handle = lookup.findStatic(Class.forName(name), "call", MethodType.methodType(long.class, params));
+				return spread(handle, argCount);
+			} catch (ReflectiveOperationException e) {
+			}
+		}
+		if (argCount != 4) return null;
+		try {
+			Class<?> os = Class.forName("org.eclipse.swt.internal.win32.OS");
+			MethodHandle handle = lookup.findStatic(os, "CallWindowProc",
+					MethodType.methodType(long.class, long.class, long.class, int.class, long.class, long.class));
+			handle = MethodHandles.explicitCastArguments(handle, MethodType.methodType(long.class, long.class,
+					long.class, long.class, long.class, long.class));
+			return spread(handle, argCount);
+		} catch (ReflectiveOperationException e) {
+		}
+		return null;
+	}
+
+	/* passes the same argument for all the arguments of the callback */
+	static MethodHandle spread(MethodHandle handle, int argCount) {
+		int[] reorder = new int[argCount + 1];
+		for (int i = 1; i < reorder.length; i++) reorder[i] = 1;
+		return MethodHandles.permuteArguments(handle, MethodType.methodType(long.class, long.class, long.class),
+				reorder);
+	}
+}
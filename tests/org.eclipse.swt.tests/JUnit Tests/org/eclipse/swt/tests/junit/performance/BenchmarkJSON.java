@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * Compares the JSON codec of the browser, which converts the results of
+ * <code>Browser.evaluate</code> and the arguments of browser functions.
+ * <p>
+ * Reads a chart series of numbers and a table of mixed rows with the
+ * tree reader over a <code>char[]</code> and with the pull parser over a
+ * <code>CharSequence</code>, and the series also with the
+ * <code>double[]</code> fast path of the pull parser. Writes the table to
+ * a <code>String</code> and streamed to an <code>Appendable</code>.
+ * </p>
+ */
+public class BenchmarkJSON {
+	private static final int RUNS = 5;
+	private static final int ITERATIONS = 50;
+	private static final int SERIES_LENGTH = 200_000;
+	private static final int TABLE_ROWS = 20_000;
+
+	static Object sink;
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args ignored
+	 */
+	public static void main(String[] args) throws Exception {
+		/* the codec is internal to the browser package */
+		Class<?> json = Class.forName("org.eclipse.swt.browser.JSON");
+		Method parseChars = accessible(json.getDeclaredMethod("parse", char[].class));
+		Method parseText = accessible(json.getDeclaredMethod("parse", CharSequence.class));
+		Method stringify = accessible(json.getDeclaredMethod("stringify", Object.class));
+		Method stringifyTo = accessible(json.getDeclaredMethod("stringify", Object.class, Appendable.class));
+		Class<?> parser = Class.forName("org.eclipse.swt.browser.JSON$Parser");
+		Constructor<?> newParser = accessible(parser.getDeclaredConstructor(CharSequence.class));
+		Method readDoubleArray = accessible(parser.getDeclaredMethod("readDoubleArray"));
+
+		String series = createSeries();
+		String table = createTable();
+		char[] seriesChars = series.toCharArray();
+		char[] tableChars = table.toCharArray();
+		Object tableValue = parseText.invoke(null, table);
+		Writer discard = Writer.nullWriter();
+
+		for (int run = 0; run < RUNS; run++) {
+			benchmark("series, char[] reader", series.length(), () -> parseChars.invoke(null, seriesChars));
+			benchmark("series, pull parser", series.length(), () -> parseText.invoke(null, series));
+			benchmark("series, pull parser double[]", series.length(), () -> readDoubleArray.invoke(newParser.newInstance(series)));
+			benchmark("table, char[] reader", table.length(), () -> parseChars.invoke(null, tableChars));
+			benchmark("table, pull parser", table.length(), () -> parseText.invoke(null, table));
+			benchmark("table, write String", table.length(), () -> stringify.invoke(null, tableValue));
+			benchmark("table, write Appendable", table.length(), () -> stringifyTo.invoke(null, tableValue, discard));
+			System.out.println();
+		}
+	}
+
+	static <T extends java.lang.reflect.AccessibleObject> T accessible(T object) {
+		object.setAccessible(true);
+		return object;
+	}
+
+	static void benchmark(String name, int chars, Callable<Object> task) throws Exception {
+		sink = task.call();
+		long nanoTime = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink = task.call();
+		}
+		long durationNanos = System.nanoTime() - nanoTime;
+		System.out.println(String.format("%-40s %,10d us/op %,8d MB/s", name, durationNanos / ITERATIONS / 1000,
+				(long) chars * ITERATIONS * 2 * 1000 / durationNanos));
+	}
+
+	static String createSeries() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < SERIES_LENGTH; i++) {
+			if (i != 0) sb.append(',');
+			sb.append(Math.round(random.nextGaussian() * 1e6) / 1e3);
+		}
+		return sb.append(']').toString();
+	}
+
+	static String createTable() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < TABLE_ROWS; i++) {
+			if (i != 0) sb.append(',');
+			sb.append('[').append(i).append(",\"row ").append(i).append("\",");
+			sb.append(random.nextBoolean()).append(',').append(random.nextDouble()).append(",null]");
+		}
+		return sb.append(']').toString();
+	}
+}
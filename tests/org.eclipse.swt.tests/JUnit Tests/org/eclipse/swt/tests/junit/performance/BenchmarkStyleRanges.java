@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.junit.performance;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures the heap retained by the style ranges of a highlighted document.
+ * <p>
+ * Every token gets its own <code>StyleRange</code> object, as a syntax
+ * highlighter would create them, but there are only a few distinct styles.
+ * The widget shares one instance between all ranges with a similar style,
+ * so the retained heap should grow with the number of ranges by the size
+ * of the range offsets only. The number of distinct instances returned by
+ * <code>getStyleRanges(false)</code> is printed next to the memory.
+ * </p>
+ */
+public class BenchmarkStyleRanges {
+	private static final int RUNS = 5;
+	private static final int STYLES = 40;
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args optional number of tokens, defaults to 1000000
+	 */
+	public static void main(String[] args) {
+		int tokens = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+		Display display = new Display();
+		try {
+			Shell shell = new Shell(display);
+			StringBuilder buffer = new StringBuilder(tokens * 5);
+			for (int i = 0; i < tokens; i++) {
+				buffer.append(i % 20 == 19 ? "tok\n" : "tok ");
+			}
+			String string = buffer.toString();
+			Color[] colors = new Color[STYLES];
+			for (int i = 0; i < STYLES; i++) {
+				colors[i] = new Color(i * 6, 255 - i * 6, i * 3);
+			}
+			for (int run = 0; run < RUNS; run++) {
+				StyledText text = new StyledText(shell, SWT.MULTI);
+				text.setText(string);
+				benchmark("setStyleRanges(StyleRange[]) " + tokens, text, colors, tokens, false);
+				benchmark("setStyleRanges(int[], StyleRange[]) " + tokens, text, colors, tokens, true);
+				text.dispose();
+				System.out.println();
+			}
+		} finally {
+			display.dispose();
+		}
+	}
+
+	static void benchmark(String name, StyledText text, Color[] colors, int tokens, boolean useRanges) {
+		text.setStyleRanges(new StyleRange[0]);
+		long before = usedMemory();
+		long nanoTime = System.nanoTime();
+		StyleRange[] styles = new StyleRange[tokens];
+		int[] ranges = useRanges ? new int[tokens * 2] : null;
+		for (int i = 0; i < tokens; i++) {
+			StyleRange style = new StyleRange();
+			style.foreground = colors[i % colors.length];
+			style.fontStyle = i % 3 == 0 ? SWT.BOLD : SWT.NORMAL;
+			if (useRanges) {
+				ranges[i * 2] = i * 4;
+				ranges[i * 2 + 1] = 3;
+			} else {
+				style.start = i * 4;
+				style.length = 3;
+			}
+			styles[i] = style;
+		}
+		if (useRanges) {
+			text.setStyleRanges(ranges, styles);
+		} else {
+			text.setStyleRanges(styles);
+		}
+		long durationMillis = (System.nanoTime() - nanoTime) / 1000000;
+		styles = null;
+		ranges = null;
+		long retained = usedMemory() - before;
+		Set<StyleRange> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		Collections.addAll(distinct, text.getStyleRanges(false));
+		System.out.println(String.format("%-45s %,8d ms %,12d bytes retained %,6d bytes/range %,8d distinct styles",
+				name, durationMillis, retained, retained / tokens, distinct.size()));
+	}
+
+	static long usedMemory() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
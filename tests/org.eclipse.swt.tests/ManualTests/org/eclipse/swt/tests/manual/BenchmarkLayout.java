@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Platform Contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Platform Contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swt.tests.manual;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.layout.FormAttachment;
+import org.eclipse.swt.layout.FormData;
+import org.eclipse.swt.layout.FormLayout;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Layout;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Measures GridLayout and FormLayout on large synthetic forms.
+ * <p>
+ * Every child is a composite whose preferred size is answered by a
+ * {@link SyntheticLayout}, so the time is spent in the layout algorithms
+ * and their size caches instead of native size requests. The number of
+ * size requests that reached the children is printed next to the time.
+ * </p><p>
+ * The layouts still run against real composites, so the benchmark needs
+ * a display and is run by hand rather than by the build.
+ * </p>
+ */
+public class BenchmarkLayout {
+	private static final int RUNS = 10;
+	private static final int ITERATIONS = 20;
+
+	/**
+	 * Answers a fixed preferred size. When <code>wrap</code> is set the
+	 * child behaves like wrapping text: a width hint smaller than the
+	 * preferred width makes it taller.
+	 */
+	static class SyntheticLayout extends Layout {
+		static int requests;
+		final int width, height;
+		final boolean wrap;
+
+		SyntheticLayout(int width, int height, boolean wrap) {
+			this.width = width;
+			this.height = height;
+			this.wrap = wrap;
+		}
+
+		@Override
+		protected Point computeSize(Composite composite, int wHint, int hHint, boolean flushCache) {
+			requests++;
+			if (wrap && wHint != SWT.DEFAULT && wHint < width) {
+				int lines = (width + Math.max(1, wHint) - 1) / Math.max(1, wHint);
+				return new Point(wHint, height * lines);
+			}
+			return new Point(width, height);
+		}
+
+		@Override
+		protected boolean flushCache(Control control) {
+			return true;
+		}
+
+		@Override
+		protected void layout(Composite composite, boolean flushCache) {
+		}
+	}
+
+	/**
+	 * manual performance test
+	 *
+	 * @param args optional number of cells, defaults to 2000
+	 */
+	public static void main(String[] args) {
+		int cells = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		Display display = new Display();
+		try {
+			Shell shell = new Shell(display);
+			Composite grid = createGrid(shell, cells);
+			Composite form = createForm(shell, cells / 10);
+			for (int run = 0; run < RUNS; run++) {
+				benchmark("GridLayout computeSize " + cells, grid, false, false);
+				benchmark("GridLayout computeSize(flush) " + cells, grid, false, true);
+				benchmark("GridLayout layout " + cells, grid, true, false);
+				benchmark("FormLayout computeSize " + cells / 10, form, false, false);
+				benchmark("FormLayout computeSize(flush) " + cells / 10, form, false, true);
+				benchmark("FormLayout layout " + cells / 10, form, true, false);
+				System.out.println();
+			}
+		} finally {
+			display.dispose();
+		}
+	}
+
+	static void benchmark(String name, Composite composite, boolean layout, boolean flushCache) {
+		composite.setSize(composite.computeSize(SWT.DEFAULT, SWT.DEFAULT, true));
+		SyntheticLayout.requests = 0;
+		long nanoTime = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			if (layout) {
+				composite.layout(flushCache);
+			} else {
+				composite.computeSize(1000 + i, SWT.DEFAULT, flushCache);
+			}
+		}
+		long durationNanos = (System.nanoTime() - nanoTime) / ITERATIONS;
+		System.out.println(String.format("%-40s %,15d ns/op %,10d size requests/op", name, durationNanos,
+				SyntheticLayout.requests / ITERATIONS));
+	}
+
+	/**
+	 * A grid with spans, grab rules and wrapping cells.
+	 */
+	static Composite createGrid(Composite parent, int cells) {
+		Composite composite = new Composite(parent, SWT.NONE);
+		composite.setLayout(new GridLayout(10, false));
+		for (int i = 0; i < cells; i++) {
+			Composite child = new Composite(composite, SWT.NONE);
+			boolean wrap = i % 11 == 0;
+			child.setLayout(new SyntheticLayout(40 + i % 7 * 10, 20 + i % 3 * 5, wrap));
+			GridData data = new GridData(wrap ? SWT.FILL : SWT.BEGINNING, SWT.CENTER, i % 5 == 0, false);
+			if (i % 7 == 0) data.horizontalSpan = 2;
+			if (i % 13 == 0) data.verticalSpan = 2;
+			child.setLayoutData(data);
+		}
+		return composite;
+	}
+
+	/**
+	 * A form where every control is attached to the previous one, so the
+	 * attachments of the last control depend on the whole chain.
+	 */
+	static Composite createForm(Composite parent, int controls) {
+		Composite composite = new Composite(parent, SWT.NONE);
+		composite.setLayout(new FormLayout());
+		Control previous = null;
+		for (int i = 0; i < controls; i++) {
+			Composite child = new Composite(composite, SWT.NONE);
+			child.setLayout(new SyntheticLayout(40 + i % 7 * 10, 20, i % 11 == 0));
+			FormData data = new FormData();
+			if (previous == null) {
+				data.left = new FormAttachment(0, 5);
+				data.top = new FormAttachment(0, 5);
+			} else if (i % 10 == 0) {
+				data.left = new FormAttachment(0, 5);
+				data.top = new FormAttachment(previous, 5);
+			} else {
+				data.left = new FormAttachment(previous, 5);
+				data.top = new FormAttachment(previous, 0, SWT.TOP);
+			}
+			if (i % 10 == 9) data.right = new FormAttachment(100, -5);
+			child.setLayoutData(data);
+			previous = child;
+		}
+		return composite;
+	}
+}